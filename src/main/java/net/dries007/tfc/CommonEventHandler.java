@@ -71,6 +71,7 @@ import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
 import net.minecraftforge.fml.common.gameevent.PlayerEvent;
 import net.minecraftforge.fml.common.gameevent.TickEvent;
 
+import net.dries007.tfc.api.capability.ItemCapabilityResolver;
 import net.dries007.tfc.api.capability.damage.CapabilityDamageResistance;
 import net.dries007.tfc.api.capability.damage.DamageType;
 import net.dries007.tfc.api.capability.egg.CapabilityEgg;
@@ -94,7 +95,6 @@ import net.dries007.tfc.api.capability.worldtracker.WorldTracker;
 import net.dries007.tfc.api.types.*;
 import net.dries007.tfc.compat.patchouli.TFCPatchouliPlugin;
 import net.dries007.tfc.network.PacketCalendarUpdate;
-import net.dries007.tfc.network.PacketPlayerDataUpdate;
 import net.dries007.tfc.objects.blocks.BlockFluidTFC;
 import net.dries007.tfc.objects.blocks.BlocksTFC;
 import net.dries007.tfc.objects.blocks.devices.BlockQuern;
@@ -119,6 +119,7 @@ import net.dries007.tfc.util.calendar.CalendarWorldData;
 import net.dries007.tfc.util.calendar.ICalendar;
 import net.dries007.tfc.util.climate.ClimateTFC;
 import net.dries007.tfc.util.skills.SmithingSkill;
+import net.dries007.tfc.world.classic.CreatureSpawnTable;
 import net.dries007.tfc.world.classic.WorldTypeTFC;
 import net.dries007.tfc.world.classic.chunkdata.ChunkDataTFC;
 
@@ -375,10 +376,13 @@ public final class CommonEventHandler
         Item item = stack.getItem();
         if (!stack.isEmpty())
         {
+            // Which custom capabilities apply only depends on the item in most cases, so this is cached
+            ItemCapabilityResolver.Resolution capabilities = ItemCapabilityResolver.get(stack);
+
             // Size
             if (CapabilityItemSize.getIItemSize(stack) == null)
             {
-                ICapabilityProvider sizeHandler = CapabilityItemSize.getCustomSize(stack);
+                ICapabilityProvider sizeHandler = capabilities.getSize(stack);
                 event.addCapability(CapabilityItemSize.KEY, sizeHandler);
                 if (sizeHandler instanceof IItemSize)
                 {
@@ -396,7 +400,7 @@ public final class CommonEventHandler
             // Because our foods supply a custom capability in Item#initCapabilities, we need to avoid attaching a duplicate, otherwise it breaks food stacking recipes.
             // This problem goes away in 1.15 as all of these definitions (including ours) become tags)
             // We allow custom defined capabilities to attach to non-food items, that should have rot (such as eggs).
-            ICapabilityProvider foodHandler = CapabilityFood.getCustomFood(stack);
+            ICapabilityProvider foodHandler = capabilities.getFood(stack);
             if (foodHandler != null || stack.getItem() instanceof ItemFood)
             {
                 if (stack.getItem() instanceof IItemFoodTFC)
@@ -411,7 +415,7 @@ public final class CommonEventHandler
             }
 
             // Forge / Metal / Heat. Try forge first, because it's more specific
-            ICapabilityProvider forgeHandler = CapabilityForgeable.getCustomForgeable(stack);
+            ICapabilityProvider forgeHandler = capabilities.getForgeable(stack);
             boolean isForgeable = false;
             boolean isHeatable = false;
             if (forgeHandler != null)
@@ -421,7 +425,7 @@ public final class CommonEventHandler
                 isHeatable = forgeHandler instanceof IItemHeat;
             }
             // Metal
-            ICapabilityProvider metalCapability = CapabilityMetalItem.getCustomMetalItem(stack);
+            ICapabilityProvider metalCapability = capabilities.getMetalItem(stack);
             if (metalCapability != null)
             {
                 event.addCapability(CapabilityMetalItem.KEY, metalCapability);
@@ -440,7 +444,7 @@ public final class CommonEventHandler
             // If one of the above is also heatable, skip this
             if (!isHeatable)
             {
-                ICapabilityProvider heatHandler = CapabilityItemHeat.getCustomHeat(stack);
+                ICapabilityProvider heatHandler = capabilities.getHeat(stack);
                 if (heatHandler != null)
                 {
                     event.addCapability(CapabilityItemHeat.KEY, heatHandler);
@@ -450,7 +454,7 @@ public final class CommonEventHandler
             // Armor
             if (item instanceof ItemArmor)
             {
-                ICapabilityProvider damageResistance = CapabilityDamageResistance.getCustomDamageResistance(stack);
+                ICapabilityProvider damageResistance = capabilities.getDamageResistance(stack);
                 if (damageResistance != null)
                 {
                     event.addCapability(CapabilityDamageResistance.KEY, damageResistance);
@@ -523,7 +527,7 @@ public final class CommonEventHandler
                 }
 
                 // Sync
-                TerraFirmaCraft.getNetwork().sendTo(new PacketPlayerDataUpdate(playerData.serializeNBT()), player);
+                CapabilityPlayerData.syncPlayerData(player);
             }
         }
     }
@@ -571,7 +575,7 @@ public final class CommonEventHandler
                     cap.setHasBook(true);
                 }
 
-                TerraFirmaCraft.getNetwork().sendTo(new PacketPlayerDataUpdate(cap.serializeNBT()), player);
+                CapabilityPlayerData.syncPlayerData(player);
             }
         }
     }
@@ -619,7 +623,7 @@ public final class CommonEventHandler
             IPlayerData skills = player.getCapability(CapabilityPlayerData.CAPABILITY, null);
             if (skills != null)
             {
-                TerraFirmaCraft.getNetwork().sendTo(new PacketPlayerDataUpdate(skills.serializeNBT()), player);
+                CapabilityPlayerData.syncPlayerData(player);
             }
         }
     }
@@ -689,7 +693,7 @@ public final class CommonEventHandler
                 Biome biome = world.getBiome(pos);
 
                 // We don't roll spawning again since vanilla is handling it
-                if (creature.getSpawnWeight(biome, temperature, rainfall, floraDensity, floraDiversity) <= 0)
+                if (CreatureSpawnTable.get(world).getSpawnWeight(creature, biome, temperature, rainfall, floraDensity, floraDiversity) <= 0)
                 {
                     event.setResult(Event.Result.DENY);
                 }
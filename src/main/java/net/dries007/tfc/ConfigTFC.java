@@ -13,7 +13,9 @@ import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
 
 import net.dries007.tfc.client.GrassColorHandler;
 import net.dries007.tfc.util.Alloy;
+import net.dries007.tfc.util.climate.ClimateTFC;
 import net.dries007.tfc.util.config.*;
+import net.dries007.tfc.world.classic.CreatureSpawnTable;
 
 import static net.dries007.tfc.TerraFirmaCraft.MOD_ID;
 
@@ -31,6 +33,8 @@ public final class ConfigTFC
             TerraFirmaCraft.getLog().warn("Config changed");
             ConfigManager.sync(MOD_ID, Config.Type.INSTANCE);
             GrassColorHandler.resetColors();
+            ClimateTFC.onConfigChanged();
+            CreatureSpawnTable.onConfigChanged();
         }
     }
 
@@ -407,6 +411,21 @@ public final class ConfigTFC
             @Config.Comment("Which inventory slots will ammo refill/pickup search for quivers?")
             @Config.LangKey("config." + MOD_ID + ".general.player.quiverSearch")
             public QuiverSearch quiverSearch = QuiverSearch.HOTBAR;
+
+            @Config.Comment("Nutrients (0 - 1) are synced to the client when one of them changes to a different multiple of this.")
+            @Config.LangKey("config." + MOD_ID + ".general.player.nutrientSyncStep")
+            @Config.RangeDouble(min = 0.0001, max = 1)
+            public double nutrientSyncStep = 0.01;
+
+            @Config.Comment("Thirst (0 - 100) is synced to the client when it changes to a different multiple of this.")
+            @Config.LangKey("config." + MOD_ID + ".general.player.thirstSyncStep")
+            @Config.RangeDouble(min = 0.01, max = 100)
+            public double thirstSyncStep = 0.5;
+
+            @Config.Comment("Maximum delay (in ticks) between food stats syncs to the client, even if nothing changed.")
+            @Config.LangKey("config." + MOD_ID + ".general.player.foodStatsSyncInterval")
+            @Config.RangeInt(min = 1, max = 12000)
+            public int foodStatsSyncInterval = 200;
         }
 
         public static final class WorldCFG
@@ -659,6 +678,11 @@ public final class ConfigTFC
             @Config.RangeDouble(min = 1, max = 1000)
             @Config.LangKey("config." + MOD_ID + ".general.misc.logMiningTimeModifier")
             public double logMiningTimeModifier = 7.5;
+
+            @Config.Comment("Maximum number of chunks kept in the climate cache, which is used for climate lookups without a world (i.e. tooltips, grass colors). Least recently used chunks are evicted first.")
+            @Config.RangeInt(min = 16, max = 1_048_576)
+            @Config.LangKey("config." + MOD_ID + ".general.misc.climateCacheSize")
+            public int climateCacheSize = 4096;
         }
     }
 
@@ -126,11 +126,11 @@ public final class TerraFirmaCraft
         network.registerMessage(new PacketChunkData.Handler(), PacketChunkData.class, ++id, Side.CLIENT);
         network.registerMessage(new PacketCapabilityContainerUpdate.Handler(), PacketCapabilityContainerUpdate.class, ++id, Side.CLIENT);
         network.registerMessage(new PacketCalendarUpdate.Handler(), PacketCalendarUpdate.class, ++id, Side.CLIENT);
-        network.registerMessage(new PacketFoodStatsUpdate.Handler(), PacketFoodStatsUpdate.class, ++id, Side.CLIENT);
         network.registerMessage(new PacketFoodStatsReplace.Handler(), PacketFoodStatsReplace.class, ++id, Side.CLIENT);
         network.registerMessage(new PacketPlayerDataUpdate.Handler(), PacketPlayerDataUpdate.class, ++id, Side.CLIENT);
         network.registerMessage(new PacketSpawnTFCParticle.Handler(), PacketSpawnTFCParticle.class, ++id, Side.CLIENT);
         network.registerMessage(new PacketProspectResult.Handler(), PacketProspectResult.class, ++id, Side.CLIENT);
+        network.registerMessage(new PacketTileEntityDelta.Handler(), PacketTileEntityDelta.class, ++id, Side.CLIENT);
 
         EntitiesTFC.preInit();
         JsonConfigRegistry.INSTANCE.preInit(event.getModConfigurationDirectory());
@@ -235,6 +235,8 @@ public final class TerraFirmaCraft
         event.registerServerCommand(new CommandFindVeins());
         event.registerServerCommand(new CommandDebugInfo());
         event.registerServerCommand(new CommandWorkChunk());
+        event.registerServerCommand(new CommandClimateCache());
+        event.registerServerCommand(new CommandPlayerSync());
 
         // Initialize calendar for the current server
         CalendarTFC.INSTANCE.init(event.getServer());
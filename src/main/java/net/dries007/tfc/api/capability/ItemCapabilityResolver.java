@@ -0,0 +1,221 @@
+/*
+ * Work under Copyright. Licensed under the EUPL.
+ * See the project README.md and LICENSE.txt for more information.
+ */
+
+package net.dries007.tfc.api.capability;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraftforge.common.capabilities.ICapabilityProvider;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import net.dries007.tfc.api.capability.damage.CapabilityDamageResistance;
+import net.dries007.tfc.api.capability.food.CapabilityFood;
+import net.dries007.tfc.api.capability.forge.CapabilityForgeable;
+import net.dries007.tfc.api.capability.heat.CapabilityItemHeat;
+import net.dries007.tfc.api.capability.metal.CapabilityMetalItem;
+import net.dries007.tfc.api.capability.size.CapabilityItemSize;
+import net.dries007.tfc.objects.inventory.ingredient.IIngredient;
+
+/**
+ * Resolves which custom capabilities (size, food, forging, metal, heat, damage resistance) are attached to an item stack.
+ * Every item stack that is created goes through this, so instead of testing every custom ingredient each time, the ingredients that only depend on the item and metadata (see {@link IIngredient#matchesByItemAndMeta()}) are tested once per item and metadata, and the result is cached.
+ * Any other ingredient is still tested against each stack, in the original order.
+ *
+ * Anything that modifies the custom capability maps (i.e. {@link CapabilityItemSize#CUSTOM_ITEMS}) after the first stacks are created must call {@link #invalidate()}
+ */
+@ParametersAreNonnullByDefault
+public final class ItemCapabilityResolver
+{
+    private static final AtomicInteger EPOCH = new AtomicInteger();
+
+    // Guarded by synchronizing on the map
+    private static final Map<Item, Int2ObjectMap<Resolution>> CACHE = new IdentityHashMap<>();
+    private static int cacheEpoch;
+
+    /**
+     * Marks all cached results as out of date. Called when any of the custom capability maps, or the ore dictionary changes
+     */
+    public static void invalidate()
+    {
+        EPOCH.incrementAndGet();
+    }
+
+    @Nonnull
+    public static Resolution get(ItemStack stack)
+    {
+        if (stack.isEmpty())
+        {
+            // Some ingredients match empty stacks based on the count, so these are never cached
+            return new Resolution(stack);
+        }
+
+        final Item item = stack.getItem();
+        final int meta = stack.getMetadata();
+        final int epoch = EPOCH.get();
+        synchronized (CACHE)
+        {
+            if (cacheEpoch != epoch)
+            {
+                CACHE.clear();
+                cacheEpoch = epoch;
+            }
+            Int2ObjectMap<Resolution> byMeta = CACHE.get(item);
+            if (byMeta != null)
+            {
+                Resolution resolution = byMeta.get(meta);
+                if (resolution != null)
+                {
+                    return resolution;
+                }
+            }
+        }
+
+        // Resolved outside the lock, as ore dictionary lookups are comparatively slow. Two threads may both resolve the same item, which is harmless
+        Resolution resolution = new Resolution(stack);
+        synchronized (CACHE)
+        {
+            if (cacheEpoch == epoch && EPOCH.get() == epoch)
+            {
+                CACHE.computeIfAbsent(item, key -> new Int2ObjectOpenHashMap<>()).put(meta, resolution);
+            }
+        }
+        return resolution;
+    }
+
+    private ItemCapabilityResolver() {}
+
+    /**
+     * The custom capabilities that can apply to a single item and metadata. The getters create a new capability instance for the stack each time
+     */
+    public static final class Resolution
+    {
+        private final Candidates size;
+        private final Candidates food;
+        private final Candidates forgeable;
+        private final Candidates metalItem;
+        private final Candidates heat;
+        private final Candidates damageResistance;
+
+        private Resolution(ItemStack stack)
+        {
+            size = Candidates.of(CapabilityItemSize.CUSTOM_ITEMS, stack, CapabilityItemSize.getDefaultSize(stack.getItem()));
+            food = Candidates.of(CapabilityFood.CUSTOM_FOODS, stack, null);
+            forgeable = Candidates.of(CapabilityForgeable.CUSTOM_ITEMS, stack, null);
+            metalItem = Candidates.of(CapabilityMetalItem.CUSTOM_METAL_ITEMS, stack, CapabilityMetalItem.getOreDictMetalItem(stack));
+            heat = Candidates.of(CapabilityItemHeat.CUSTOM_ITEMS, stack, null);
+            damageResistance = Candidates.of(CapabilityDamageResistance.CUSTOM_ARMOR, stack, null);
+        }
+
+        @Nonnull
+        @SuppressWarnings("ConstantConditions")
+        public ICapabilityProvider getSize(ItemStack stack)
+        {
+            // There is always a default size
+            return size.create(stack);
+        }
+
+        @Nullable
+        public ICapabilityProvider getFood(ItemStack stack)
+        {
+            return food.create(stack);
+        }
+
+        @Nullable
+        public ICapabilityProvider getForgeable(ItemStack stack)
+        {
+            return forgeable.create(stack);
+        }
+
+        @Nullable
+        public ICapabilityProvider getMetalItem(ItemStack stack)
+        {
+            return metalItem.create(stack);
+        }
+
+        @Nullable
+        public ICapabilityProvider getHeat(ItemStack stack)
+        {
+            return heat.create(stack);
+        }
+
+        @Nullable
+        public ICapabilityProvider getDamageResistance(ItemStack stack)
+        {
+            return damageResistance.create(stack);
+        }
+    }
+
+    /**
+     * The entries of one custom capability map that could match an item and metadata, in map order
+     */
+    private static final class Candidates
+    {
+        private static final Candidates NONE = new Candidates(new ArrayList<>(), new ArrayList<>(), null);
+
+        static Candidates of(Map<IIngredient<ItemStack>, Supplier<ICapabilityProvider>> customItems, ItemStack stack, @Nullable Supplier<ICapabilityProvider> fallback)
+        {
+            List<IIngredient<ItemStack>> ingredients = new ArrayList<>();
+            List<Supplier<ICapabilityProvider>> factories = new ArrayList<>();
+            for (Map.Entry<IIngredient<ItemStack>, Supplier<ICapabilityProvider>> entry : customItems.entrySet())
+            {
+                IIngredient<ItemStack> ingredient = entry.getKey();
+                if (!ingredient.matchesByItemAndMeta())
+                {
+                    // Needs to be tested against each stack
+                    ingredients.add(ingredient);
+                    factories.add(entry.getValue());
+                }
+                else if (ingredient.testIgnoreCount(stack))
+                {
+                    // Always matches, so nothing after this can
+                    ingredients.add(null);
+                    factories.add(entry.getValue());
+                    break;
+                }
+            }
+            if (factories.isEmpty() && fallback == null)
+            {
+                return NONE;
+            }
+            return new Candidates(ingredients, factories, fallback);
+        }
+
+        private final List<IIngredient<ItemStack>> ingredients; // null = known to match
+        private final List<Supplier<ICapabilityProvider>> factories;
+        private final Supplier<ICapabilityProvider> fallback;
+
+        private Candidates(List<IIngredient<ItemStack>> ingredients, List<Supplier<ICapabilityProvider>> factories, @Nullable Supplier<ICapabilityProvider> fallback)
+        {
+            this.ingredients = ingredients;
+            this.factories = factories;
+            this.fallback = fallback;
+        }
+
+        @Nullable
+        ICapabilityProvider create(ItemStack stack)
+        {
+            for (int i = 0; i < factories.size(); i++)
+            {
+                IIngredient<ItemStack> ingredient = ingredients.get(i);
+                if (ingredient == null || ingredient.testIgnoreCount(stack))
+                {
+                    return factories.get(i).get();
+                }
+            }
+            return fallback != null ? fallback.get() : null;
+        }
+    }
+}
@@ -27,6 +27,7 @@ import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
 
 import net.dries007.tfc.TerraFirmaCraft;
 import net.dries007.tfc.api.capability.DumbStorage;
+import net.dries007.tfc.api.capability.ItemCapabilityResolver;
 import net.dries007.tfc.objects.inventory.ingredient.IIngredient;
 
 import static net.dries007.tfc.Constants.GSON;
@@ -81,15 +82,7 @@ public final class CapabilityDamageResistance
     @Nullable
     public static ICapabilityProvider getCustomDamageResistance(ItemStack stack)
     {
-        Set<IIngredient<ItemStack>> itemArmorSet = CUSTOM_ARMOR.keySet();
-        for (IIngredient<ItemStack> ingredient : itemArmorSet)
-        {
-            if (ingredient.testIgnoreCount(stack))
-            {
-                return CUSTOM_ARMOR.get(ingredient).get();
-            }
-        }
-        return null;
+        return ItemCapabilityResolver.get(stack).getDamageResistance(stack);
     }
 
     @Mod.EventBusSubscriber(modid = MOD_ID)
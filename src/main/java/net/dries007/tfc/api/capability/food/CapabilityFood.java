@@ -7,7 +7,6 @@ package net.dries007.tfc.api.capability.food;
 
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Set;
 import java.util.function.Supplier;
 import javax.annotation.Nullable;
 
@@ -22,6 +21,7 @@ import net.minecraftforge.items.ItemHandlerHelper;
 
 import net.dries007.tfc.ConfigTFC;
 import net.dries007.tfc.api.capability.DumbStorage;
+import net.dries007.tfc.api.capability.ItemCapabilityResolver;
 import net.dries007.tfc.objects.inventory.ingredient.IIngredient;
 import net.dries007.tfc.util.calendar.CalendarTFC;
 import net.dries007.tfc.util.calendar.ICalendar;
@@ -54,6 +54,7 @@ public class CapabilityFood
         CUSTOM_FOODS.put(IIngredient.of(Items.GOLDEN_APPLE), () -> new FoodHandler(null, FoodData.GOLDEN_APPLE));
         CUSTOM_FOODS.put(IIngredient.of(Items.GOLDEN_CARROT), () -> new FoodHandler(null, FoodData.GOLDEN_CARROT));
         CUSTOM_FOODS.put(IIngredient.of(Items.EGG), () -> new FoodHandler(null, FoodData.RAW_EGG));
+        ItemCapabilityResolver.invalidate();
     }
 
     /**
@@ -164,15 +165,7 @@ public class CapabilityFood
     @Nullable
     public static ICapabilityProvider getCustomFood(ItemStack stack)
     {
-        Set<IIngredient<ItemStack>> itemFoodSet = CUSTOM_FOODS.keySet();
-        for (IIngredient<ItemStack> ingredient : itemFoodSet)
-        {
-            if (ingredient.testIgnoreCount(stack))
-            {
-                return CUSTOM_FOODS.get(ingredient).get();
-            }
-        }
-        return null;
+        return ItemCapabilityResolver.get(stack).getFood(stack);
     }
 
     /**
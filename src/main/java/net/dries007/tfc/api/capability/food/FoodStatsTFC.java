@@ -23,8 +23,8 @@ import net.minecraftforge.fml.relauncher.SideOnly;
 import net.dries007.tfc.ConfigTFC;
 import net.dries007.tfc.Constants;
 import net.dries007.tfc.TerraFirmaCraft;
+import net.dries007.tfc.api.capability.player.CapabilityPlayerData;
 import net.dries007.tfc.network.PacketFoodStatsReplace;
-import net.dries007.tfc.network.PacketFoodStatsUpdate;
 import net.dries007.tfc.objects.potioneffects.PotionEffectsTFC;
 import net.dries007.tfc.util.DamageSourcesTFC;
 import net.dries007.tfc.util.calendar.ICalendar;
@@ -47,6 +47,15 @@ public class FoodStatsTFC extends FoodStats implements IFoodStatsTFC
         if (player instanceof EntityPlayerMP)
         {
             TerraFirmaCraft.getNetwork().sendTo(new PacketFoodStatsReplace(), (EntityPlayerMP) player);
+            // The client may have just created new food stats, which need the current values
+            if (player.getFoodStats() instanceof FoodStatsTFC)
+            {
+                ((FoodStatsTFC) player.getFoodStats()).requestSync();
+            }
+            else
+            {
+                CapabilityPlayerData.syncFoodStats((EntityPlayerMP) player);
+            }
         }
     }
 
@@ -57,6 +66,12 @@ public class FoodStatsTFC extends FoodStats implements IFoodStatsTFC
     private float thirst;
     private int healTimer;
 
+    // The values last synced to the client
+    private final float[] syncedNutrients = new float[Nutrient.TOTAL];
+    private float syncedThirst;
+    private int ticksSinceSync;
+    private boolean syncRequested = true;
+
     public FoodStatsTFC(EntityPlayer sourcePlayer, FoodStats originalStats)
     {
         this.sourcePlayer = sourcePlayer;
@@ -210,12 +225,51 @@ public class FoodStatsTFC extends FoodStats implements IFoodStatsTFC
         }
 
         // Since this is only called server side, and vanilla has a custom packet for this stuff, we need our own
-        if (player instanceof EntityPlayerMP)
+        if (player instanceof EntityPlayerMP && needsSync())
         {
-            TerraFirmaCraft.getNetwork().sendTo(new PacketFoodStatsUpdate(nutritionStats.getNutrients(), thirst), (EntityPlayerMP) player);
+            System.arraycopy(nutritionStats.getNutrients(), 0, syncedNutrients, 0, syncedNutrients.length);
+            syncedThirst = thirst;
+            ticksSinceSync = 0;
+            syncRequested = false;
+            CapabilityPlayerData.syncFoodStats((EntityPlayerMP) player);
         }
     }
 
+    /**
+     * Forces the food stats to be synced on the next update
+     */
+    public void requestSync()
+    {
+        syncRequested = true;
+    }
+
+    /**
+     * Food stats change slightly almost every tick, but the client only displays them approximately.
+     * So they are only synced when a value moves into a different step (see {@link ConfigTFC.General.PlayerCFG#nutrientSyncStep}), or when nothing was synced for a while.
+     */
+    private boolean needsSync()
+    {
+        if (syncRequested || ++ticksSinceSync >= ConfigTFC.General.PLAYER.foodStatsSyncInterval)
+        {
+            return true;
+        }
+        final double thirstStep = ConfigTFC.General.PLAYER.thirstSyncStep;
+        if (Math.floor(thirst / thirstStep) != Math.floor(syncedThirst / thirstStep))
+        {
+            return true;
+        }
+        final double nutrientStep = ConfigTFC.General.PLAYER.nutrientSyncStep;
+        final float[] nutrients = nutritionStats.getNutrients();
+        for (int i = 0; i < nutrients.length; i++)
+        {
+            if (Math.floor(nutrients[i] / nutrientStep) != Math.floor(syncedNutrients[i] / nutrientStep))
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
     @Override
     public void readNBT(NBTTagCompound nbt)
     {
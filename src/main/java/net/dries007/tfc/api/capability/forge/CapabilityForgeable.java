@@ -7,7 +7,6 @@ package net.dries007.tfc.api.capability.forge;
 
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Set;
 import java.util.function.Supplier;
 import javax.annotation.Nullable;
 
@@ -19,6 +18,7 @@ import net.minecraftforge.common.capabilities.CapabilityManager;
 import net.minecraftforge.common.capabilities.ICapabilityProvider;
 
 import net.dries007.tfc.api.capability.DumbStorage;
+import net.dries007.tfc.api.capability.ItemCapabilityResolver;
 import net.dries007.tfc.objects.inventory.ingredient.IIngredient;
 
 import static net.dries007.tfc.TerraFirmaCraft.MOD_ID;
@@ -38,14 +38,6 @@ public final class CapabilityForgeable
     @Nullable
     public static ICapabilityProvider getCustomForgeable(ItemStack stack)
     {
-        Set<IIngredient<ItemStack>> itemItemSet = CUSTOM_ITEMS.keySet();
-        for (IIngredient<ItemStack> ingredient : itemItemSet)
-        {
-            if (ingredient.testIgnoreCount(stack))
-            {
-                return CUSTOM_ITEMS.get(ingredient).get();
-            }
-        }
-        return null;
+        return ItemCapabilityResolver.get(stack).getForgeable(stack);
     }
 }
@@ -8,7 +8,6 @@ package net.dries007.tfc.api.capability.metal;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.Set;
 import java.util.function.Supplier;
 import javax.annotation.Nullable;
 
@@ -24,6 +23,7 @@ import net.minecraftforge.oredict.OreDictionary;
 
 import net.dries007.tfc.TerraFirmaCraft;
 import net.dries007.tfc.api.capability.DumbStorage;
+import net.dries007.tfc.api.capability.ItemCapabilityResolver;
 import net.dries007.tfc.api.registries.TFCRegistries;
 import net.dries007.tfc.api.types.Metal;
 import net.dries007.tfc.objects.inventory.ingredient.IIngredient;
@@ -54,6 +54,7 @@ public final class CapabilityMetalItem
     public static void init()
     {
         CUSTOM_METAL_ITEMS.put(IIngredient.of(Blocks.IRON_BARS), () -> new MetalItemHandler(Metal.WROUGHT_IRON, 25, true));
+        ItemCapabilityResolver.invalidate();
     }
 
     /**
@@ -84,24 +85,41 @@ public final class CapabilityMetalItem
         return null;
     }
 
+    /**
+     * Gets the metal of an itemstack, if it has one
+     *
+     * @param stack The stack
+     * @return The metal, or null if the stack isn't a metal item
+     */
+    @Nullable
+    public static Metal getMetal(ItemStack stack)
+    {
+        IMetalItem metal = getMetalItem(stack);
+        return metal != null ? metal.getMetal(stack) : null;
+    }
+
     @Nullable
     public static ICapabilityProvider getCustomMetalItem(ItemStack stack)
     {
         if (!stack.isEmpty())
         {
-            Set<IIngredient<ItemStack>> itemItemSet = CUSTOM_METAL_ITEMS.keySet();
-            for (IIngredient<ItemStack> ingredient : itemItemSet)
-            {
-                if (ingredient.testIgnoreCount(stack))
-                {
-                    return CUSTOM_METAL_ITEMS.get(ingredient).get();
-                }
-            }
-            // Try using ore dict prefix-suffix common values (ie: ingotCopper)
+            return ItemCapabilityResolver.get(stack).getMetalItem(stack);
+        }
+        return null;
+    }
+
+    /**
+     * Try using ore dict prefix-suffix common values (ie: ingotCopper), for items not in {@link #CUSTOM_METAL_ITEMS}
+     */
+    @Nullable
+    public static Supplier<ICapabilityProvider> getOreDictMetalItem(ItemStack stack)
+    {
+        if (!stack.isEmpty())
+        {
             int[] ids = OreDictionary.getOreIDs(stack);
             for (int id : ids)
             {
-                ICapabilityProvider handler = getMetalItemFromOreDict(OreDictionary.getOreName(id));
+                Supplier<ICapabilityProvider> handler = getMetalItemFromOreDict(OreDictionary.getOreName(id));
                 if (handler != null)
                 {
                     return handler;
@@ -112,7 +130,7 @@ public final class CapabilityMetalItem
     }
 
     @Nullable
-    private static ICapabilityProvider getMetalItemFromOreDict(String oreDict)
+    private static Supplier<ICapabilityProvider> getMetalItemFromOreDict(String oreDict)
     {
         for (String oreName : ORE_DICT_METAL_ITEMS.keySet())
         {
@@ -124,7 +142,7 @@ public final class CapabilityMetalItem
                     .findFirst()
                     .map(metal -> {
                         Metal.ItemType type = ORE_DICT_METAL_ITEMS.get(oreName);
-                        return new MetalItemHandler(metal, type.getSmeltAmount(), true);
+                        return (Supplier<ICapabilityProvider>) () -> new MetalItemHandler(metal, type.getSmeltAmount(), true);
                     }).orElse(null);
             }
         }
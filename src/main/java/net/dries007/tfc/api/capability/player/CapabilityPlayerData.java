@@ -5,21 +5,37 @@
 
 package net.dries007.tfc.api.capability.player;
 
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.UUID;
 import javax.annotation.Nullable;
 import javax.annotation.ParametersAreNonnullByDefault;
 
 import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraft.util.FoodStats;
 import net.minecraft.util.ResourceLocation;
 import net.minecraftforge.common.capabilities.Capability;
 import net.minecraftforge.common.capabilities.CapabilityInject;
 import net.minecraftforge.common.capabilities.CapabilityManager;
+import net.minecraftforge.fml.common.Mod;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.minecraftforge.fml.common.gameevent.PlayerEvent;
+import net.minecraftforge.fml.common.gameevent.TickEvent;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import net.dries007.tfc.TerraFirmaCraft;
 import net.dries007.tfc.api.capability.DumbStorage;
+import net.dries007.tfc.api.capability.food.IFoodStatsTFC;
+import net.dries007.tfc.network.PacketPlayerDataUpdate;
 import net.dries007.tfc.util.skills.Skill;
 import net.dries007.tfc.util.skills.SkillType;
 
 import static net.dries007.tfc.TerraFirmaCraft.MOD_ID;
 
+@Mod.EventBusSubscriber(modid = MOD_ID)
 @ParametersAreNonnullByDefault
 public final class CapabilityPlayerData
 {
@@ -27,12 +43,96 @@ public final class CapabilityPlayerData
     @CapabilityInject(IPlayerData.class)
     public static Capability<IPlayerData> CAPABILITY;
 
+    private static final int SYNC_PLAYER_DATA = 1;
+    private static final int SYNC_FOOD_STATS = 2;
+
+    /**
+     * What needs to be synced, per player. Player data and food stats can change many times in a tick (i.e. several skills increasing at once), so they are sent together in one packet at the end of the tick
+     */
+    private static final Map<EntityPlayerMP, Integer> PENDING_SYNC = new IdentityHashMap<>();
+    private static final Map<UUID, SyncStats> SYNC_STATS = new HashMap<>();
+
     public static void preInit()
     {
         // Player skills
         CapabilityManager.INSTANCE.register(IPlayerData.class, new DumbStorage<>(), () -> null);
     }
 
+    /**
+     * Queues the player data (skills, etc.) to be synced to the client at the end of the tick
+     */
+    public static void syncPlayerData(EntityPlayerMP player)
+    {
+        PENDING_SYNC.merge(player, SYNC_PLAYER_DATA, (a, b) -> a | b);
+    }
+
+    /**
+     * Queues the food stats (nutrients and thirst) to be synced to the client at the end of the tick
+     */
+    public static void syncFoodStats(EntityPlayerMP player)
+    {
+        PENDING_SYNC.merge(player, SYNC_FOOD_STATS, (a, b) -> a | b);
+    }
+
+    /**
+     * @return the player data and food stats sync traffic (payload only) sent to a player over the last second, in bytes
+     */
+    public static int getSyncBytesPerSecond(EntityPlayerMP player)
+    {
+        SyncStats stats = SYNC_STATS.get(player.getUniqueID());
+        return stats != null ? stats.getBytesPerSecond(player.server.getTickCounter()) : 0;
+    }
+
+    /**
+     * @return the number of player data and food stats packets sent to a player since they logged in
+     */
+    public static int getSyncPackets(EntityPlayerMP player)
+    {
+        SyncStats stats = SYNC_STATS.get(player.getUniqueID());
+        return stats != null ? stats.packets : 0;
+    }
+
+    @SubscribeEvent
+    public static void onServerTick(TickEvent.ServerTickEvent event)
+    {
+        if (event.phase == TickEvent.Phase.END && !PENDING_SYNC.isEmpty())
+        {
+            PENDING_SYNC.forEach((player, flags) -> {
+                if (!player.hasDisconnected())
+                {
+                    IPlayerData playerData = (flags & SYNC_PLAYER_DATA) != 0 ? player.getCapability(CAPABILITY, null) : null;
+                    PacketPlayerDataUpdate packet = new PacketPlayerDataUpdate(playerData != null ? playerData.serializeNBT() : null);
+                    FoodStats foodStats = player.getFoodStats();
+                    if ((flags & SYNC_FOOD_STATS) != 0 && foodStats instanceof IFoodStatsTFC)
+                    {
+                        packet.setFoodStats(((IFoodStatsTFC) foodStats).getNutrition().getNutrients(), ((IFoodStatsTFC) foodStats).getThirst());
+                    }
+                    if (!packet.isEmpty())
+                    {
+                        TerraFirmaCraft.getNetwork().sendTo(packet, player);
+                        SYNC_STATS.computeIfAbsent(player.getUniqueID(), key -> new SyncStats()).onSend(player.server.getTickCounter(), getSize(packet));
+                    }
+                }
+            });
+            PENDING_SYNC.clear();
+        }
+    }
+
+    @SubscribeEvent
+    public static void onPlayerLoggedOut(PlayerEvent.PlayerLoggedOutEvent event)
+    {
+        SYNC_STATS.remove(event.player.getUniqueID());
+    }
+
+    private static int getSize(PacketPlayerDataUpdate packet)
+    {
+        ByteBuf buffer = Unpooled.buffer();
+        packet.toBytes(buffer);
+        int size = buffer.readableBytes();
+        buffer.release();
+        return size;
+    }
+
     /**
      * Helper method to get a skill instance
      *
@@ -50,4 +150,36 @@ public final class CapabilityPlayerData
         }
         return null;
     }
+
+    /**
+     * Bytes sent in the current and last one second (20 tick) window
+     */
+    private static final class SyncStats
+    {
+        private long windowStart;
+        private int windowBytes;
+        private int lastWindowBytes;
+        private int packets;
+
+        private void onSend(long tick, int bytes)
+        {
+            if (tick - windowStart >= 20)
+            {
+                lastWindowBytes = tick - windowStart < 40 ? windowBytes : 0;
+                windowBytes = 0;
+                windowStart = tick;
+            }
+            windowBytes += bytes;
+            packets++;
+        }
+
+        private int getBytesPerSecond(long tick)
+        {
+            if (tick - windowStart < 20)
+            {
+                return lastWindowBytes;
+            }
+            return tick - windowStart < 40 ? windowBytes : 0;
+        }
+    }
 }
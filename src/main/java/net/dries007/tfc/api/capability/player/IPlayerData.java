@@ -15,9 +15,7 @@ import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraftforge.common.util.INBTSerializable;
 
-import net.dries007.tfc.TerraFirmaCraft;
 import net.dries007.tfc.api.recipes.ChiselRecipe;
-import net.dries007.tfc.network.PacketPlayerDataUpdate;
 import net.dries007.tfc.util.skills.Skill;
 import net.dries007.tfc.util.skills.SkillType;
 
@@ -85,7 +83,7 @@ public interface IPlayerData extends INBTSerializable<NBTTagCompound>
         EntityPlayer player = getPlayer();
         if (player instanceof EntityPlayerMP)
         {
-            TerraFirmaCraft.getNetwork().sendTo(new PacketPlayerDataUpdate(serializeNBT()), (EntityPlayerMP) player);
+            CapabilityPlayerData.syncPlayerData((EntityPlayerMP) player);
         }
     }
 }
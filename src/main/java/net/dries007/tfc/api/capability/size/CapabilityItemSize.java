@@ -23,6 +23,7 @@ import net.minecraftforge.common.capabilities.ICapabilityProvider;
 
 import net.dries007.tfc.TerraFirmaCraft;
 import net.dries007.tfc.api.capability.DumbStorage;
+import net.dries007.tfc.api.capability.ItemCapabilityResolver;
 import net.dries007.tfc.api.capability.ItemStickCapability;
 import net.dries007.tfc.objects.inventory.ingredient.IIngredient;
 
@@ -50,6 +51,7 @@ public final class CapabilityItemSize
         CUSTOM_ITEMS.put(IIngredient.of(Items.ARMOR_STAND), () -> new ItemSizeHandler(Size.LARGE, Weight.HEAVY, true)); // Store only in chests stacksize = 4
         CUSTOM_ITEMS.put(IIngredient.of(Items.CAULDRON), () -> new ItemSizeHandler(Size.LARGE, Weight.LIGHT, true)); // Store only in chests stacksize = 32
         CUSTOM_ITEMS.put(IIngredient.of(Blocks.TRIPWIRE_HOOK), () -> new ItemSizeHandler(Size.SMALL, Weight.VERY_LIGHT, true)); // Store anywhere stacksize = 64
+        ItemCapabilityResolver.invalidate();
     }
 
     /**
@@ -96,34 +98,34 @@ public final class CapabilityItemSize
     @Nonnull
     public static ICapabilityProvider getCustomSize(ItemStack stack)
     {
-        for (Map.Entry<IIngredient<ItemStack>, Supplier<ICapabilityProvider>> entry : CUSTOM_ITEMS.entrySet())
-        {
-            if (entry.getKey().testIgnoreCount(stack))
-            {
-                return entry.getValue().get();
-            }
-        }
-        // Check for generic item types
-        Item item = stack.getItem();
+        return ItemCapabilityResolver.get(stack).getSize(stack);
+    }
+
+    /**
+     * @return the size of items not in {@link #CUSTOM_ITEMS}, based on the type of item
+     */
+    @Nonnull
+    public static Supplier<ICapabilityProvider> getDefaultSize(Item item)
+    {
         if (item instanceof ItemTool || item instanceof ItemSword)
         {
-            return new ItemSizeHandler(Size.LARGE, Weight.MEDIUM, true); // Stored only in chests, stacksize should be limited to 1 since it is a tool
+            return () -> new ItemSizeHandler(Size.LARGE, Weight.MEDIUM, true); // Stored only in chests, stacksize should be limited to 1 since it is a tool
         }
         else if (item instanceof ItemArmor)
         {
-            return new ItemSizeHandler(Size.LARGE, Weight.VERY_HEAVY, true); // Stored only in chests and stacksize = 1
+            return () -> new ItemSizeHandler(Size.LARGE, Weight.VERY_HEAVY, true); // Stored only in chests and stacksize = 1
         }
         else if (item instanceof ItemBlock && ((ItemBlock) item).getBlock() instanceof BlockLadder)
         {
-            return new ItemSizeHandler(Size.SMALL, Weight.VERY_LIGHT, true); // Fits small vessels and stacksize = 64
+            return () -> new ItemSizeHandler(Size.SMALL, Weight.VERY_LIGHT, true); // Fits small vessels and stacksize = 64
         }
         else if (item instanceof ItemBlock)
         {
-            return new ItemSizeHandler(Size.SMALL, Weight.LIGHT, true); // Fits small vessels and stacksize = 32
+            return () -> new ItemSizeHandler(Size.SMALL, Weight.LIGHT, true); // Fits small vessels and stacksize = 32
         }
         else
         {
-            return new ItemSizeHandler(Size.VERY_SMALL, Weight.VERY_LIGHT, true); // Stored anywhere and stacksize = 64
+            return () -> new ItemSizeHandler(Size.VERY_SMALL, Weight.VERY_LIGHT, true); // Stored anywhere and stacksize = 64
         }
     }
 }
@@ -26,12 +26,14 @@ import net.dries007.tfc.client.TFCSounds;
 import net.dries007.tfc.objects.blocks.stone.BlockRockVariantFallable;
 import net.dries007.tfc.util.ICollapsableBlock;
 import net.dries007.tfc.util.IFallingBlock;
+import net.dries007.tfc.util.agriculture.CropGrowthScheduler;
 
 public class WorldTracker implements ICapabilitySerializable<NBTTagCompound>
 {
     private static final Random RANDOM = new Random();
 
     private final List<CollapseData> collapsesInProgress;
+    private final CropGrowthScheduler cropScheduler = new CropGrowthScheduler();
 
     public WorldTracker()
     {
@@ -43,10 +45,17 @@ public class WorldTracker implements ICapabilitySerializable<NBTTagCompound>
         collapsesInProgress.add(collapse);
     }
 
+    public CropGrowthScheduler getCropScheduler()
+    {
+        return cropScheduler;
+    }
+
     public void tick(World world)
     {
         if (!world.isRemote)
         {
+            cropScheduler.tick(world);
+
             if (!collapsesInProgress.isEmpty() && RANDOM.nextInt(20) == 0)
             {
                 for (CollapseData collapse : collapsesInProgress)
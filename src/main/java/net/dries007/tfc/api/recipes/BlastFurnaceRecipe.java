@@ -5,6 +5,7 @@
 
 package net.dries007.tfc.api.recipes;
 
+import java.util.Collections;
 import javax.annotation.Nullable;
 
 import net.minecraft.item.ItemStack;
@@ -22,16 +23,18 @@ import net.dries007.tfc.objects.items.metal.ItemIngot;
 @SuppressWarnings("WeakerAccess")
 public class BlastFurnaceRecipe extends IForgeRegistryEntry.Impl<BlastFurnaceRecipe>
 {
+    private static final RecipeIndex<BlastFurnaceRecipe, ItemStack> INDEX = new RecipeIndex<>(() -> TFCRegistries.BLAST_FURNACE.getValuesCollection(), r -> Collections.singleton(r.input), CapabilityMetalItem::getMetal);
+
     @Nullable
     public static BlastFurnaceRecipe get(ItemStack inputItem)
     {
-        return TFCRegistries.BLAST_FURNACE.getValuesCollection().stream().filter(x -> x.isValidInput(inputItem)).findFirst().orElse(null);
+        return INDEX.findFirst(inputItem, x -> x.isValidInput(inputItem));
     }
 
     @Nullable
     public static BlastFurnaceRecipe get(Metal inputMetal)
     {
-        return TFCRegistries.BLAST_FURNACE.getValuesCollection().stream().filter(x -> x.input == inputMetal).findFirst().orElse(null);
+        return INDEX.findFirstByKey(inputMetal, x -> x.input == inputMetal);
     }
 
     protected Metal output;
@@ -5,6 +5,7 @@
 
 package net.dries007.tfc.api.recipes;
 
+import java.util.Collections;
 import java.util.List;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -24,16 +25,18 @@ import net.dries007.tfc.objects.items.ItemsTFC;
 
 public class BloomeryRecipe extends IForgeRegistryEntry.Impl<BloomeryRecipe>
 {
+    private static final RecipeIndex<BloomeryRecipe, ItemStack> INDEX = new RecipeIndex<>(() -> TFCRegistries.BLOOMERY.getValuesCollection(), r -> Collections.singleton(r.metal), CapabilityMetalItem::getMetal);
+
     @Nullable
     public static BloomeryRecipe get(@Nonnull ItemStack inputItem)
     {
-        return TFCRegistries.BLOOMERY.getValuesCollection().stream().filter(x -> x.isValidInput(inputItem)).findFirst().orElse(null);
+        return INDEX.findFirst(inputItem, x -> x.isValidInput(inputItem));
     }
 
     @Nullable
     public static BloomeryRecipe get(@Nonnull Metal metal)
     {
-        return TFCRegistries.BLOOMERY.getValuesCollection().stream().filter(x -> metal == x.metal).findFirst().orElse(null);
+        return INDEX.findFirstByKey(metal, x -> metal == x.metal);
     }
 
     private final Metal metal; // Melting metal (which will be stored in a bloom)
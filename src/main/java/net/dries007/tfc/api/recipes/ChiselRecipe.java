@@ -5,6 +5,7 @@
 
 package net.dries007.tfc.api.recipes;
 
+import java.util.Collections;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
@@ -17,24 +18,34 @@ import net.dries007.tfc.objects.inventory.ingredient.IIngredient;
 
 public class ChiselRecipe extends IForgeRegistryEntry.Impl<ChiselRecipe>
 {
+    private static final RecipeIndex<ChiselRecipe, IBlockState> INDEX = new RecipeIndex<>(() -> TFCRegistries.CHISEL.getValuesCollection(), r -> r.block != null ? Collections.singleton(r.block) : null, IBlockState::getBlock);
+
     @Nullable
     public static ChiselRecipe get(IBlockState state)
     {
-        return TFCRegistries.CHISEL.getValuesCollection().stream().filter(r -> r.matches(state)).findFirst().orElse(null);
+        return INDEX.findFirst(state, r -> r.matches(state));
     }
 
     private final IIngredient<IBlockState> ingredient;
     private final IBlockState stateOut;
+    @Nullable
+    private final Block block; // The only block this recipe matches, if known, for indexing
 
     public ChiselRecipe(Block blockIn, IBlockState stateOut)
     {
-        this(state -> state.getBlock() == blockIn, stateOut);
+        this(state -> state.getBlock() == blockIn, stateOut, blockIn);
     }
 
     public ChiselRecipe(IIngredient<IBlockState> ingredient, IBlockState stateOut)
+    {
+        this(ingredient, stateOut, null);
+    }
+
+    private ChiselRecipe(IIngredient<IBlockState> ingredient, IBlockState stateOut, @Nullable Block block)
     {
         this.ingredient = ingredient;
         this.stateOut = stateOut;
+        this.block = block;
     }
 
     public IBlockState getOutputState()
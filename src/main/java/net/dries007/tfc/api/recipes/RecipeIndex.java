@@ -0,0 +1,266 @@
+/*
+ * Work under Copyright. Licensed under the EUPL.
+ * See the project README.md and LICENSE.txt for more information.
+ */
+
+package net.dries007.tfc.api.recipes;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * An index over a recipe registry (or any other ordered collection of recipes, i.e. fuels), so recipe lookups only test recipes that could possibly match the input.
+ *
+ * Each recipe is bucketed under a set of keys (i.e. the {@link net.minecraft.item.Item}s or {@link net.minecraftforge.fluids.Fluid}s its ingredient can match, see {@link net.dries007.tfc.objects.inventory.ingredient.IIngredient#getIndexKeys()}).
+ * Recipes without known keys go in a wildcard bucket, which is always tested.
+ * A lookup computes the key(s) for the input, and tests the matching bucket(s) plus the wildcard bucket, in registry order, so the result is identical to a linear scan of the registry.
+ *
+ * The index is built lazily on first lookup, and rebuilt whenever a registry entry is added or the ore dictionary changes (see {@link #invalidateAll()}), or the number of recipes changes (i.e. a recipe was removed).
+ *
+ * @param <R> the recipe type
+ * @param <T> the input type
+ */
+public final class RecipeIndex<R, T>
+{
+    private static final AtomicInteger EPOCH = new AtomicInteger();
+    private static final Object[] NO_RECIPES = new Object[0];
+    private static final int[] NO_ORDINALS = new int[0];
+
+    /**
+     * Marks all indexes as out of date. Called when any TFC registry has an entry added, or the ore dictionary changes
+     */
+    public static void invalidateAll()
+    {
+        EPOCH.incrementAndGet();
+    }
+
+    private final Supplier<Collection<R>> values;
+    private final Function<R, Collection<?>> recipeKeys;
+    private final Function<T, Object> inputKey;
+    private final Function<T, Object> secondaryInputKey;
+    private volatile Snapshot snapshot;
+
+    /**
+     * @param values     the recipes to index, in lookup order. This is a supplier as the registries are injected after class load
+     * @param recipeKeys the keys a recipe is bucketed under, or null if the recipe could match any input
+     * @param inputKey   the key of an input. May return null, in which case only wildcard recipes are tested
+     */
+    public RecipeIndex(Supplier<Collection<R>> values, Function<R, Collection<?>> recipeKeys, Function<T, Object> inputKey)
+    {
+        this(values, recipeKeys, inputKey, input -> null);
+    }
+
+    /**
+     * @param secondaryInputKey a second key of an input, for registries where recipes are bucketed under different kinds of keys (i.e. heat recipes by item, or by metal)
+     */
+    public RecipeIndex(Supplier<Collection<R>> values, Function<R, Collection<?>> recipeKeys, Function<T, Object> inputKey, Function<T, Object> secondaryInputKey)
+    {
+        this.values = values;
+        this.recipeKeys = recipeKeys;
+        this.inputKey = inputKey;
+        this.secondaryInputKey = secondaryInputKey;
+    }
+
+    /**
+     * @return the first recipe, in registry order, that could match the input and passes the test
+     */
+    @Nullable
+    public R findFirst(T input, Predicate<R> test)
+    {
+        return find(input, test, null);
+    }
+
+    /**
+     * @return all recipes, in registry order, that could match the input and pass the test
+     */
+    @Nonnull
+    public List<R> findAll(T input, Predicate<R> test)
+    {
+        List<R> results = new ArrayList<>();
+        find(input, test, results);
+        return results;
+    }
+
+    /**
+     * @return the first recipe, in registry order, bucketed under the key (or wildcard) that passes the test
+     */
+    @Nullable
+    public R findFirstByKey(@Nullable Object key, Predicate<R> test)
+    {
+        Snapshot snapshot = getSnapshot();
+        return snapshot.merge(snapshot.bucket(key), Bucket.EMPTY, test, null);
+    }
+
+    @Nullable
+    private R find(T input, Predicate<R> test, @Nullable List<R> results)
+    {
+        Snapshot snapshot = getSnapshot();
+        Bucket first = snapshot.bucket(inputKey.apply(input));
+        Bucket second = snapshot.bucket(secondaryInputKey.apply(input));
+        return snapshot.merge(first, second, test, results);
+    }
+
+    private Snapshot getSnapshot()
+    {
+        Snapshot current = snapshot;
+        Collection<R> recipes = values.get();
+        if (current == null || current.epoch != EPOCH.get() || current.size != recipes.size())
+        {
+            current = new Snapshot(recipes);
+            snapshot = current;
+        }
+        return current;
+    }
+
+    /**
+     * Recipes sharing a key, as parallel arrays of recipes and their registry ordinals (ascending)
+     */
+    private static final class Bucket
+    {
+        private static final Bucket EMPTY = new Bucket(NO_RECIPES, NO_ORDINALS);
+
+        private final Object[] recipes;
+        private final int[] ordinals;
+
+        private Bucket(Object[] recipes, int[] ordinals)
+        {
+            this.recipes = recipes;
+            this.ordinals = ordinals;
+        }
+    }
+
+    /**
+     * An immutable index of the registry at some point in time
+     */
+    private final class Snapshot
+    {
+        private final int epoch;
+        private final int size;
+        private final Map<Object, Bucket> buckets = new HashMap<>();
+        private final Bucket wildcard;
+
+        private Snapshot(Collection<R> values)
+        {
+            this.epoch = EPOCH.get();
+            this.size = values.size();
+
+            Map<Object, List<R>> recipesByKey = new HashMap<>();
+            Map<Object, IntList> ordinalsByKey = new HashMap<>();
+            List<R> wildcardRecipes = new ArrayList<>();
+            IntList wildcardOrdinals = new IntList();
+            int ordinal = 0;
+            for (R recipe : values)
+            {
+                Collection<?> keys = recipeKeys.apply(recipe);
+                if (keys == null)
+                {
+                    wildcardRecipes.add(recipe);
+                    wildcardOrdinals.add(ordinal);
+                }
+                else
+                {
+                    for (Object key : new HashSet<>(keys))
+                    {
+                        recipesByKey.computeIfAbsent(key, k -> new ArrayList<>()).add(recipe);
+                        ordinalsByKey.computeIfAbsent(key, k -> new IntList()).add(ordinal);
+                    }
+                }
+                ordinal++;
+            }
+            recipesByKey.forEach((key, recipes) -> buckets.put(key, new Bucket(recipes.toArray(), ordinalsByKey.get(key).toArray())));
+            this.wildcard = new Bucket(wildcardRecipes.toArray(), wildcardOrdinals.toArray());
+        }
+
+        private Bucket bucket(@Nullable Object key)
+        {
+            return key == null ? Bucket.EMPTY : buckets.getOrDefault(key, Bucket.EMPTY);
+        }
+
+        /**
+         * Tests the recipes in both buckets and the wildcard bucket, in ascending registry order
+         *
+         * @param results if not null, all matching recipes are collected. Otherwise, the first match is returned
+         */
+        @Nullable
+        @SuppressWarnings("unchecked")
+        private R merge(Bucket first, Bucket second, Predicate<R> test, @Nullable List<R> results)
+        {
+            int i = 0, j = 0, k = 0;
+            while (true)
+            {
+                int a = i < first.ordinals.length ? first.ordinals[i] : Integer.MAX_VALUE;
+                int b = j < second.ordinals.length ? second.ordinals[j] : Integer.MAX_VALUE;
+                int c = k < wildcard.ordinals.length ? wildcard.ordinals[k] : Integer.MAX_VALUE;
+                int min = Math.min(a, Math.min(b, c));
+                if (min == Integer.MAX_VALUE)
+                {
+                    return null;
+                }
+
+                R recipe;
+                if (min == a)
+                {
+                    recipe = (R) first.recipes[i];
+                }
+                else if (min == b)
+                {
+                    recipe = (R) second.recipes[j];
+                }
+                else
+                {
+                    recipe = (R) wildcard.recipes[k];
+                }
+                // A recipe may be in both keyed buckets, only visit it once
+                if (a == min)
+                {
+                    i++;
+                }
+                if (b == min)
+                {
+                    j++;
+                }
+                if (c == min)
+                {
+                    k++;
+                }
+
+                if (test.test(recipe))
+                {
+                    if (results == null)
+                    {
+                        return recipe;
+                    }
+                    results.add(recipe);
+                }
+            }
+        }
+    }
+
+    /**
+     * Minimal growable int array, to avoid boxing ordinals while building
+     */
+    private static final class IntList
+    {
+        private int[] values = new int[4];
+        private int size = 0;
+
+        private void add(int value)
+        {
+            if (size == values.length)
+            {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        private int[] toArray()
+        {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
@@ -5,6 +5,9 @@
 
 package net.dries007.tfc.api.recipes;
 
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import javax.annotation.ParametersAreNonnullByDefault;
@@ -32,9 +35,14 @@ import net.dries007.tfc.util.skills.SmithingSkill;
 @ParametersAreNonnullByDefault
 public class WeldingRecipe extends IForgeRegistryEntry.Impl<WeldingRecipe> implements IJEISimpleRecipe
 {
+    /**
+     * Either input may go in either slot, so recipes are indexed by both inputs, and looked up by the first stack
+     */
+    private static final RecipeIndex<WeldingRecipe, ItemStack> INDEX = new RecipeIndex<>(() -> TFCRegistries.WELDING.getValuesCollection(), WeldingRecipe::getIndexKeys, ItemStack::getItem);
+
     public static WeldingRecipe get(ItemStack stack1, ItemStack stack2, Metal.Tier tier)
     {
-        return TFCRegistries.WELDING.getValuesCollection().stream().filter(x -> x.matches(stack1, stack2, tier)).findFirst().orElse(null);
+        return INDEX.findFirst(stack1, x -> x.matches(stack1, stack2, tier));
     }
 
     private final Metal.Tier minTier;
@@ -85,6 +93,19 @@ public class WeldingRecipe extends IForgeRegistryEntry.Impl<WeldingRecipe> imple
         return stack;
     }
 
+    @Nullable
+    private Collection<?> getIndexKeys()
+    {
+        Collection<?> keys1 = input1.getIndexKeys(), keys2 = input2.getIndexKeys();
+        if (keys1 == null || keys2 == null)
+        {
+            return null;
+        }
+        Set<Object> keys = new HashSet<>(keys1);
+        keys.addAll(keys2);
+        return keys;
+    }
+
     public boolean matches(ItemStack input1, ItemStack input2, Metal.Tier tier)
     {
         // Need to check both orientations
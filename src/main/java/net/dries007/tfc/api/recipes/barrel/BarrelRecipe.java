@@ -19,22 +19,28 @@ import net.minecraftforge.fml.relauncher.SideOnly;
 import net.minecraftforge.registries.IForgeRegistryEntry;
 
 import net.dries007.tfc.ConfigTFC;
+import net.dries007.tfc.api.recipes.RecipeIndex;
 import net.dries007.tfc.api.registries.TFCRegistries;
 import net.dries007.tfc.objects.inventory.ingredient.IIngredient;
 import net.dries007.tfc.util.Helpers;
 
 public class BarrelRecipe extends IForgeRegistryEntry.Impl<BarrelRecipe>
 {
+    /**
+     * Every barrel recipe requires a fluid, so recipes are indexed by the fluid(s) they accept
+     */
+    private static final RecipeIndex<BarrelRecipe, FluidStack> INDEX = new RecipeIndex<>(() -> TFCRegistries.BARREL.getValuesCollection(), r -> r.inputFluid.getIndexKeys(), BarrelRecipe::getFluidKey);
+
     @Nullable
     public static BarrelRecipe get(ItemStack stack, FluidStack fluidStack)
     {
-        return TFCRegistries.BARREL.getValuesCollection().stream().filter(x -> x.isValidInput(fluidStack, stack) && x.getDuration() != 0).findFirst().orElse(null);
+        return INDEX.findFirst(fluidStack, x -> x.isValidInput(fluidStack, stack) && x.getDuration() != 0);
     }
 
     @Nullable
     public static BarrelRecipe getInstant(ItemStack stack, FluidStack fluidStack)
     {
-        return TFCRegistries.BARREL.getValuesCollection().stream().filter(x -> x.isValidInput(fluidStack, stack) && x.getDuration() == 0).findFirst().orElse(null);
+        return INDEX.findFirst(fluidStack, x -> x.isValidInput(fluidStack, stack) && x.getDuration() == 0);
     }
 
     /**
@@ -43,7 +49,13 @@ public class BarrelRecipe extends IForgeRegistryEntry.Impl<BarrelRecipe>
      */
     public static boolean isBarrelFluid(FluidStack fluidStack)
     {
-        return TFCRegistries.BARREL.getValuesCollection().stream().filter(x -> x.inputFluid.testIgnoreCount(fluidStack)).findFirst().orElse(null) != null;
+        return INDEX.findFirst(fluidStack, x -> x.inputFluid.testIgnoreCount(fluidStack)) != null;
+    }
+
+    @Nullable
+    private static Object getFluidKey(@Nullable FluidStack fluidStack)
+    {
+        return fluidStack != null && fluidStack.getFluid() != null ? fluidStack.getFluid().getName() : null;
     }
 
     protected final IIngredient<ItemStack> inputStack;
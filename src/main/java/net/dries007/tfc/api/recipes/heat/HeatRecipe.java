@@ -5,6 +5,7 @@
 
 package net.dries007.tfc.api.recipes.heat;
 
+import java.util.Collection;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import javax.annotation.ParametersAreNonnullByDefault;
@@ -14,6 +15,8 @@ import net.minecraft.util.NonNullList;
 import net.minecraftforge.fluids.FluidStack;
 import net.minecraftforge.registries.IForgeRegistryEntry;
 
+import net.dries007.tfc.api.capability.metal.CapabilityMetalItem;
+import net.dries007.tfc.api.recipes.RecipeIndex;
 import net.dries007.tfc.api.registries.TFCRegistries;
 import net.dries007.tfc.api.types.Metal;
 import net.dries007.tfc.compat.jei.IJEISimpleRecipe;
@@ -28,6 +31,11 @@ import net.dries007.tfc.objects.inventory.ingredient.IIngredient;
 @ParametersAreNonnullByDefault
 public abstract class HeatRecipe extends IForgeRegistryEntry.Impl<HeatRecipe> implements IJEISimpleRecipe
 {
+    /**
+     * Recipes are indexed by either the input item, or the input metal (for melting recipes)
+     */
+    private static final RecipeIndex<HeatRecipe, ItemStack> INDEX = new RecipeIndex<>(() -> TFCRegistries.HEAT.getValuesCollection(), HeatRecipe::getIndexKeys, ItemStack::getItem, CapabilityMetalItem::getMetal);
+
     /**
      * Overload that ignores the tier requirement by passing in the maximum tier
      */
@@ -40,7 +48,7 @@ public abstract class HeatRecipe extends IForgeRegistryEntry.Impl<HeatRecipe> im
     @Nullable
     public static HeatRecipe get(ItemStack stack, Metal.Tier tier)
     {
-        return TFCRegistries.HEAT.getValuesCollection().stream().filter(r -> r.isValidInput(stack, tier)).findFirst().orElse(null);
+        return INDEX.findFirst(stack, r -> r.isValidInput(stack, tier));
     }
 
     /**
@@ -83,6 +91,17 @@ public abstract class HeatRecipe extends IForgeRegistryEntry.Impl<HeatRecipe> im
         return tier.isAtLeast(minTier) && ingredient.test(input);
     }
 
+    /**
+     * Used to index this recipe for {@link HeatRecipe#get(ItemStack, Metal.Tier)}
+     *
+     * @return every item or metal an input matching this recipe could have, or null if unknown
+     */
+    @Nullable
+    public Collection<?> getIndexKeys()
+    {
+        return ingredient.getIndexKeys();
+    }
+
     /**
      * @param temperature a temperature
      * @return true if the recipe should melt / transform at this temperature
@@ -5,6 +5,8 @@
 
 package net.dries007.tfc.api.recipes.heat;
 
+import java.util.Collection;
+import java.util.Collections;
 import javax.annotation.Nullable;
 import javax.annotation.ParametersAreNonnullByDefault;
 
@@ -34,6 +36,12 @@ public class HeatRecipeMetalMelting extends HeatRecipe
         this.metal = metal;
     }
 
+    @Override
+    public Collection<?> getIndexKeys()
+    {
+        return Collections.singleton(metal);
+    }
+
     @Nullable
     @Override
     public FluidStack getOutputFluid(ItemStack input)
@@ -155,6 +155,15 @@ public class Plant extends IForgeRegistryEntry.Impl<Plant>
         return getRainValidity(rain) == PlantValidity.VALID;
     }
 
+    /**
+     * @return true if {@link #isValidTempForWorldGen(float)} and {@link #isValidRain(float)} could both be true somewhere in a range of temperature and rainfall
+     */
+    public boolean isValidForWorldGen(float minTemp, float maxTemp, float minRain, float maxRain)
+    {
+        float spread = Float.sum(this.maxTemp, -this.minTemp) / 4f;
+        return spread > 0 && maxTemp > getAvgTemp() - spread && minTemp < getAvgTemp() + spread && maxRain >= this.minRain && minRain <= this.maxRain;
+    }
+
     public boolean isValidSunlight(int sunlight)
     {
         return minSun <= sunlight && maxSun >= sunlight;
@@ -0,0 +1,97 @@
+/*
+ * Work under Copyright. Licensed under the EUPL.
+ * See the project README.md and LICENSE.txt for more information.
+ */
+
+package net.dries007.tfc.client.render;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Set;
+import javax.annotation.ParametersAreNonnullByDefault;
+
+import net.minecraft.client.Minecraft;
+import net.minecraft.entity.Entity;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.fml.common.Mod;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.minecraftforge.fml.common.gameevent.TickEvent;
+import net.minecraftforge.fml.relauncher.Side;
+import net.minecraftforge.fml.relauncher.SideOnly;
+
+import net.dries007.tfc.objects.te.TEChestTFC;
+
+import static net.dries007.tfc.TerraFirmaCraft.MOD_ID;
+
+/**
+ * Animates the lids of {@link TEChestTFC}s, which do not tick.
+ * A chest is added when the server tells the client how many players are using it, and removed once its lid is closed again.
+ * Chests further from the camera than {@link #MAX_DISTANCE_SQ} don't animate, their lids are moved straight to where they would end up.
+ */
+@Mod.EventBusSubscriber(value = Side.CLIENT, modid = MOD_ID)
+@SideOnly(Side.CLIENT)
+@ParametersAreNonnullByDefault
+public final class ChestLidAnimator
+{
+    private static final double MAX_DISTANCE_SQ = 64 * 64;
+
+    private static final Set<TEChestTFC> CHESTS = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    public static void add(TEChestTFC chest)
+    {
+        CHESTS.add(chest);
+    }
+
+    @SubscribeEvent
+    public static void onClientTick(TickEvent.ClientTickEvent event)
+    {
+        final Minecraft mc = Minecraft.getMinecraft();
+        if (event.phase != TickEvent.Phase.END || CHESTS.isEmpty() || mc.isGamePaused())
+        {
+            return;
+        }
+        final Entity camera = mc.getRenderViewEntity();
+        for (Iterator<TEChestTFC> iterator = CHESTS.iterator(); iterator.hasNext(); )
+        {
+            final TEChestTFC chest = iterator.next();
+            if (chest.isInvalid() || chest.getWorld() != mc.world)
+            {
+                iterator.remove();
+                continue;
+            }
+
+            final float target = chest.numPlayersUsing > 0 ? 1.0F : 0.0F;
+            chest.prevLidAngle = chest.lidAngle;
+            if (camera == null || camera.getDistanceSqToCenter(chest.getPos()) > MAX_DISTANCE_SQ)
+            {
+                chest.lidAngle = target;
+                chest.prevLidAngle = target;
+            }
+            else if (target > chest.lidAngle)
+            {
+                chest.lidAngle = Math.min(target, chest.lidAngle + 0.1F);
+            }
+            else
+            {
+                chest.lidAngle = Math.max(target, chest.lidAngle - 0.1F);
+            }
+
+            if (chest.numPlayersUsing == 0 && chest.lidAngle == 0.0F && chest.prevLidAngle == 0.0F)
+            {
+                iterator.remove();
+            }
+        }
+    }
+
+    @SubscribeEvent
+    public static void onWorldUnload(WorldEvent.Unload event)
+    {
+        if (event.getWorld().isRemote)
+        {
+            CHESTS.clear();
+        }
+    }
+
+    private ChestLidAnimator() {}
+}
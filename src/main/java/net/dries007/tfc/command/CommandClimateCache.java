@@ -0,0 +1,51 @@
+/*
+ * Work under Copyright. Licensed under the EUPL.
+ * See the project README.md and LICENSE.txt for more information.
+ */
+
+package net.dries007.tfc.command;
+
+import javax.annotation.Nonnull;
+import javax.annotation.ParametersAreNonnullByDefault;
+
+import net.minecraft.command.CommandBase;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.text.TextComponentTranslation;
+
+import net.dries007.tfc.util.climate.ClimateCache;
+import net.dries007.tfc.util.climate.ClimateTFC;
+
+/**
+ * Debug command to check the effectiveness of the world-less climate cache
+ */
+@ParametersAreNonnullByDefault
+public class CommandClimateCache extends CommandBase
+{
+    @Override
+    @Nonnull
+    public String getName()
+    {
+        return "tfcclimatecache";
+    }
+
+    @Override
+    @Nonnull
+    public String getUsage(ICommandSender sender)
+    {
+        return "tfc.command.climatecache.usage";
+    }
+
+    @Override
+    public void execute(MinecraftServer server, ICommandSender sender, String[] args)
+    {
+        ClimateCache cache = ClimateTFC.getCache();
+        sender.sendMessage(new TextComponentTranslation("tfc.command.climatecache.output", cache.size(), cache.getCapacity(), cache.getHits(), cache.getMisses(), cache.getEvictions()));
+    }
+
+    @Override
+    public int getRequiredPermissionLevel()
+    {
+        return 2;
+    }
+}
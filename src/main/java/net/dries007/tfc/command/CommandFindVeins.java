@@ -32,6 +32,8 @@ import net.minecraftforge.common.WorldWorkerManager;
 import gnu.trove.map.hash.TObjectIntHashMap;
 import net.dries007.tfc.api.types.Rock;
 import net.dries007.tfc.world.classic.chunkdata.ChunkDataTFC;
+import net.dries007.tfc.world.classic.worldgen.WorldGenOreVeins;
+import net.dries007.tfc.world.classic.worldgen.vein.VeinCatalog;
 import net.dries007.tfc.world.classic.worldgen.vein.VeinRegistry;
 import net.dries007.tfc.world.classic.worldgen.vein.VeinType;
 
@@ -99,11 +101,17 @@ public class CommandFindVeins extends CommandBase
         final int radius = parseInt(args[1], 1, 1000);
         final int chunkX = sender.getCommandSenderEntity().chunkCoordX;
         final int chunkZ = sender.getCommandSenderEntity().chunkCoordZ;
+        final long seed = sender.getEntityWorld().getSeed();
         BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos(0, 0, 0);
         for (int x = chunkX - radius; x <= chunkX + radius; x++)
         {
             for (int z = chunkZ - radius; z <= chunkZ + radius; z++)
             {
+                if (filter != null && type != 2 && !VeinCatalog.INSTANCE.anyVeinIntersecting(x, z, seed, WorldGenOreVeins.CHUNK_RADIUS, vein -> filter.equals(vein.getType())))
+                {
+                    // World gen could not have placed this vein type here, so don't bother loading the chunk
+                    continue;
+                }
                 pos.setPos(x * 16, 0, z * 16);
                 if (sender.getEntityWorld().isBlockLoaded(pos) || (generated && sender.getEntityWorld().isChunkGeneratedAt(x, z)))
                 {
@@ -0,0 +1,53 @@
+/*
+ * Work under Copyright. Licensed under the EUPL.
+ * See the project README.md and LICENSE.txt for more information.
+ */
+
+package net.dries007.tfc.command;
+
+import javax.annotation.Nonnull;
+import javax.annotation.ParametersAreNonnullByDefault;
+
+import net.minecraft.command.CommandBase;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.text.TextComponentTranslation;
+
+import net.dries007.tfc.api.capability.player.CapabilityPlayerData;
+
+/**
+ * Debug command to check how much player data (skills, food stats) is synced to each player
+ */
+@ParametersAreNonnullByDefault
+public class CommandPlayerSync extends CommandBase
+{
+    @Override
+    @Nonnull
+    public String getName()
+    {
+        return "tfcplayersync";
+    }
+
+    @Override
+    @Nonnull
+    public String getUsage(ICommandSender sender)
+    {
+        return "tfc.command.playersync.usage";
+    }
+
+    @Override
+    public void execute(MinecraftServer server, ICommandSender sender, String[] args)
+    {
+        for (EntityPlayerMP player : server.getPlayerList().getPlayers())
+        {
+            sender.sendMessage(new TextComponentTranslation("tfc.command.playersync.output", player.getName(), CapabilityPlayerData.getSyncBytesPerSecond(player), CapabilityPlayerData.getSyncPackets(player)));
+        }
+    }
+
+    @Override
+    public int getRequiredPermissionLevel()
+    {
+        return 2;
+    }
+}
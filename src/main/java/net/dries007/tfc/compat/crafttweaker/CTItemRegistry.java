@@ -11,6 +11,7 @@ import crafttweaker.CraftTweakerAPI;
 import crafttweaker.IAction;
 import crafttweaker.annotations.ZenRegister;
 import crafttweaker.api.liquid.ILiquidStack;
+import net.dries007.tfc.api.capability.ItemCapabilityResolver;
 import net.dries007.tfc.api.capability.damage.CapabilityDamageResistance;
 import net.dries007.tfc.api.capability.damage.DamageResistance;
 import net.dries007.tfc.api.capability.food.CapabilityFood;
@@ -61,6 +62,7 @@ public class CTItemRegistry
                 public void apply()
                 {
                     CapabilityItemSize.CUSTOM_ITEMS.put(inputIngredient, () -> new ItemSizeHandler(size, weight, true));
+                    ItemCapabilityResolver.invalidate();
                 }
 
                 @Override
@@ -97,6 +99,7 @@ public class CTItemRegistry
                 public void apply()
                 {
                     CapabilityMetalItem.CUSTOM_METAL_ITEMS.put(inputIngredient, () -> new MetalItemHandler(metal, amount, canMelt));
+                    ItemCapabilityResolver.invalidate();
                 }
 
                 @Override
@@ -141,6 +144,7 @@ public class CTItemRegistry
                     {
                         CapabilityItemHeat.CUSTOM_ITEMS.put(inputIngredient, () -> new ItemHeatHandler(null, heatCapacity, meltTemp));
                     }
+                    ItemCapabilityResolver.invalidate();
                 }
 
                 @Override
@@ -176,6 +180,7 @@ public class CTItemRegistry
                 public void apply()
                 {
                     CapabilityForgeable.CUSTOM_ITEMS.put(inputIngredient, () -> new ForgeableHandler(null));
+                    ItemCapabilityResolver.invalidate();
                 }
 
                 @Override
@@ -206,6 +211,7 @@ public class CTItemRegistry
             public void apply()
             {
                 CapabilityFood.CUSTOM_FOODS.put(inputIngredient, () -> new FoodHandler(null, new FoodData(hunger, water, saturation, grain, fruit, veg, protein, dairy, decay)));
+                ItemCapabilityResolver.invalidate();
             }
 
             @Override
@@ -236,6 +242,7 @@ public class CTItemRegistry
                 public void apply()
                 {
                     CapabilityDamageResistance.CUSTOM_ARMOR.put(inputIngredient, () -> new DamageResistance(crushingModifier, piercingModifier, slashingModifier));
+                    ItemCapabilityResolver.invalidate();
                 }
 
                 @Override
@@ -43,7 +43,7 @@ public class CropProvider implements IWailaBlock
             ICrop crop = bs.getCrop();
 
             boolean isWild = state.getValue(BlockCropTFC.WILD);
-            float temp = ClimateTFC.getActualTemp(world, pos, -te.getLastUpdateTick());
+            float temp = ClimateTFC.getActualTemp(world, pos, -te.getTicksSinceUpdate());
             float rainfall = ChunkDataTFC.getRainfall(world, pos);
 
             if (isWild)
@@ -5,7 +5,9 @@
 
 package net.dries007.tfc.network;
 
-import net.minecraft.nbt.NBTTagCompound;
+import java.util.ArrayList;
+import java.util.List;
+
 import net.minecraft.util.math.ChunkPos;
 import net.minecraft.world.World;
 import net.minecraft.world.chunk.Chunk;
@@ -15,48 +17,89 @@ import net.minecraftforge.fml.common.network.simpleimpl.IMessageHandler;
 import net.minecraftforge.fml.common.network.simpleimpl.MessageContext;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import net.dries007.tfc.TerraFirmaCraft;
 import net.dries007.tfc.util.climate.ClimateTFC;
 import net.dries007.tfc.world.classic.chunkdata.ChunkDataProvider;
 import net.dries007.tfc.world.classic.chunkdata.ChunkDataTFC;
 
+/**
+ * Syncs the client side chunk data for one or more chunks, using {@link ChunkDataTFC#writeSyncData(ByteBuf)}
+ * Chunks that start being watched in the same tick are coalesced into one message, see {@link net.dries007.tfc.world.classic.chunkdata.CapabilityChunkData}
+ */
 public class PacketChunkData implements IMessage
 {
-    private NBTTagCompound nbt;
-    private int x, z;
-    private float regionalTemp, rainfall;
+    /**
+     * The most chunks sent in one message. Each chunk is usually well under 1 KB, so this keeps messages far from the custom payload size limit
+     */
+    public static final int MAX_CHUNKS = 64;
+
+    private final List<Entry> entries = new ArrayList<>();
 
     @SuppressWarnings("unused")
     @Deprecated
     public PacketChunkData() {}
 
-    public PacketChunkData(ChunkPos chunkPos, NBTTagCompound nbt, float regionalTemp, float rainfall)
+    public PacketChunkData(ChunkPos chunkPos, ChunkDataTFC data)
+    {
+        add(chunkPos, data);
+    }
+
+    /**
+     * Adds a chunk to this message. The data is encoded immediately, so later changes to the chunk are not included
+     */
+    public void add(ChunkPos chunkPos, ChunkDataTFC data)
     {
-        this.x = chunkPos.x;
-        this.z = chunkPos.z;
-        this.nbt = nbt;
-        this.regionalTemp = regionalTemp;
-        this.rainfall = rainfall;
+        ByteBuf buffer = Unpooled.buffer();
+        data.writeSyncData(buffer);
+        byte[] bytes = new byte[buffer.readableBytes()];
+        buffer.readBytes(bytes);
+        entries.add(new Entry(chunkPos.x, chunkPos.z, bytes));
+    }
+
+    public int size()
+    {
+        return entries.size();
     }
 
     @Override
     public void fromBytes(ByteBuf buf)
     {
-        x = buf.readInt();
-        z = buf.readInt();
-        nbt = ByteBufUtils.readTag(buf);
-        regionalTemp = buf.readFloat();
-        rainfall = buf.readFloat();
+        int count = ByteBufUtils.readVarInt(buf, 5);
+        for (int i = 0; i < count; i++)
+        {
+            int x = buf.readInt();
+            int z = buf.readInt();
+            byte[] bytes = new byte[ByteBufUtils.readVarInt(buf, 5)];
+            buf.readBytes(bytes);
+            entries.add(new Entry(x, z, bytes));
+        }
     }
 
     @Override
     public void toBytes(ByteBuf buf)
     {
-        buf.writeInt(x);
-        buf.writeInt(z);
-        ByteBufUtils.writeTag(buf, nbt);
-        buf.writeFloat(regionalTemp);
-        buf.writeFloat(rainfall);
+        ByteBufUtils.writeVarInt(buf, entries.size(), 5);
+        for (Entry entry : entries)
+        {
+            buf.writeInt(entry.x);
+            buf.writeInt(entry.z);
+            ByteBufUtils.writeVarInt(buf, entry.data.length, 5);
+            buf.writeBytes(entry.data);
+        }
+    }
+
+    private static final class Entry
+    {
+        private final int x, z;
+        private final byte[] data;
+
+        private Entry(int x, int z, byte[] data)
+        {
+            this.x = x;
+            this.z = z;
+            this.data = data;
+        }
     }
 
     public static class Handler implements IMessageHandler<PacketChunkData, IMessage>
@@ -68,16 +111,21 @@ public class PacketChunkData implements IMessage
             if (world != null)
             {
                 TerraFirmaCraft.getProxy().getThreadListener(ctx).addScheduledTask(() -> {
-                    // Update client-side chunk data capability
-                    Chunk chunk = world.getChunk(message.x, message.z);
-                    ChunkDataTFC data = chunk.getCapability(ChunkDataProvider.CHUNK_DATA_CAPABILITY, null);
-                    if (data != null)
+                    for (Entry entry : message.entries)
                     {
-                        ChunkDataProvider.CHUNK_DATA_CAPABILITY.readNBT(data, null, message.nbt);
-                    }
+                        // Update client-side chunk data capability
+                        Chunk chunk = world.getChunk(entry.x, entry.z);
+                        ChunkDataTFC data = chunk.getCapability(ChunkDataProvider.CHUNK_DATA_CAPABILITY, null);
+                        if (data == null)
+                        {
+                            // Still decode, as the climate cache needs updating regardless
+                            data = new ChunkDataTFC();
+                        }
+                        data.readSyncData(Unpooled.wrappedBuffer(entry.data));
 
-                    // Update climate cache
-                    ClimateTFC.update(chunk.getPos(), message.regionalTemp, message.rainfall);
+                        // Update climate cache
+                        ClimateTFC.update(chunk.getPos(), data.getRegionalTemp(), data.getRainfall());
+                    }
                 });
             }
             return null;
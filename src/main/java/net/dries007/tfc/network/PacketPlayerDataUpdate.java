@@ -5,8 +5,12 @@
 
 package net.dries007.tfc.network;
 
+import javax.annotation.Nullable;
+
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.util.FoodStats;
+import net.minecraft.util.math.MathHelper;
 import net.minecraftforge.fml.common.network.ByteBufUtils;
 import net.minecraftforge.fml.common.network.simpleimpl.IMessage;
 import net.minecraftforge.fml.common.network.simpleimpl.IMessageHandler;
@@ -14,32 +18,83 @@ import net.minecraftforge.fml.common.network.simpleimpl.MessageContext;
 
 import io.netty.buffer.ByteBuf;
 import net.dries007.tfc.TerraFirmaCraft;
+import net.dries007.tfc.api.capability.food.FoodStatsTFC;
+import net.dries007.tfc.api.capability.food.Nutrient;
 import net.dries007.tfc.api.capability.player.CapabilityPlayerData;
 import net.dries007.tfc.api.capability.player.IPlayerData;
 
+/**
+ * Syncs player data (skills, etc.) and / or food stats (nutrients and thirst) to the client
+ * Both are optional, so updates to either within a tick can be sent together, see {@link CapabilityPlayerData}
+ * Nutrients (0 - 1) and thirst (0 - 100) are sent as fixed point shorts, which is well below what the client can display.
+ */
 public class PacketPlayerDataUpdate implements IMessage
 {
+    private static final float NUTRIENT_SCALE = 65535f;
+    private static final float THIRST_SCALE = 100f;
+
     private NBTTagCompound skillsNbt;
+    private float[] nutrients;
+    private float thirst;
 
     @SuppressWarnings("unused")
     @Deprecated
     public PacketPlayerDataUpdate() {}
 
-    public PacketPlayerDataUpdate(NBTTagCompound skillsNbt)
+    public PacketPlayerDataUpdate(@Nullable NBTTagCompound skillsNbt)
     {
         this.skillsNbt = skillsNbt;
     }
 
+    /**
+     * Adds food stats to this message. The nutrients are copied
+     */
+    public void setFoodStats(float[] nutrients, float thirst)
+    {
+        this.nutrients = nutrients.clone();
+        this.thirst = thirst;
+    }
+
+    public boolean isEmpty()
+    {
+        return skillsNbt == null && nutrients == null;
+    }
+
     @Override
     public void fromBytes(ByteBuf buf)
     {
-        skillsNbt = ByteBufUtils.readTag(buf);
+        if (buf.readBoolean())
+        {
+            skillsNbt = ByteBufUtils.readTag(buf);
+        }
+        if (buf.readBoolean())
+        {
+            nutrients = new float[Nutrient.TOTAL];
+            for (int i = 0; i < nutrients.length; i++)
+            {
+                nutrients[i] = buf.readUnsignedShort() / NUTRIENT_SCALE;
+            }
+            thirst = buf.readUnsignedShort() / THIRST_SCALE;
+        }
     }
 
     @Override
     public void toBytes(ByteBuf buf)
     {
-        ByteBufUtils.writeTag(buf, skillsNbt);
+        buf.writeBoolean(skillsNbt != null);
+        if (skillsNbt != null)
+        {
+            ByteBufUtils.writeTag(buf, skillsNbt);
+        }
+        buf.writeBoolean(nutrients != null);
+        if (nutrients != null)
+        {
+            for (float nutrient : nutrients)
+            {
+                buf.writeShort(Math.round(MathHelper.clamp(nutrient, 0, 1) * NUTRIENT_SCALE));
+            }
+            buf.writeShort(Math.round(MathHelper.clamp(thirst, 0, FoodStatsTFC.MAX_PLAYER_THIRST) * THIRST_SCALE));
+        }
     }
 
     public static final class Handler implements IMessageHandler<PacketPlayerDataUpdate, IMessage>
@@ -51,10 +106,21 @@ public class PacketPlayerDataUpdate implements IMessage
                 EntityPlayer player = TerraFirmaCraft.getProxy().getPlayer(ctx);
                 if (player != null)
                 {
-                    IPlayerData skills = player.getCapability(CapabilityPlayerData.CAPABILITY, null);
-                    if (skills != null)
+                    if (message.skillsNbt != null)
+                    {
+                        IPlayerData skills = player.getCapability(CapabilityPlayerData.CAPABILITY, null);
+                        if (skills != null)
+                        {
+                            skills.deserializeNBT(message.skillsNbt);
+                        }
+                    }
+                    if (message.nutrients != null)
                     {
-                        skills.deserializeNBT(message.skillsNbt);
+                        FoodStats foodStats = player.getFoodStats();
+                        if (foodStats instanceof FoodStatsTFC)
+                        {
+                            ((FoodStatsTFC) foodStats).onReceivePacket(message.nutrients, message.thirst);
+                        }
                     }
                 }
             });
@@ -0,0 +1,74 @@
+/*
+ * Work under Copyright. Licensed under the EUPL.
+ * See the project README.md and LICENSE.txt for more information.
+ */
+
+package net.dries007.tfc.network;
+
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraftforge.fml.common.network.ByteBufUtils;
+import net.minecraftforge.fml.common.network.simpleimpl.IMessage;
+import net.minecraftforge.fml.common.network.simpleimpl.IMessageHandler;
+import net.minecraftforge.fml.common.network.simpleimpl.MessageContext;
+
+import io.netty.buffer.ByteBuf;
+import net.dries007.tfc.TerraFirmaCraft;
+import net.dries007.tfc.objects.te.TEBase;
+import net.dries007.tfc.util.NBTDelta;
+
+/**
+ * Syncs the changes to a tile entity's NBT to the client, see {@link TEBase#markForSync()} and {@link NBTDelta}
+ */
+public class PacketTileEntityDelta implements IMessage
+{
+    private BlockPos pos;
+    private NBTTagCompound delta;
+
+    @SuppressWarnings("unused")
+    @Deprecated
+    public PacketTileEntityDelta() {}
+
+    public PacketTileEntityDelta(BlockPos pos, NBTTagCompound delta)
+    {
+        this.pos = pos;
+        this.delta = delta;
+    }
+
+    @Override
+    public void fromBytes(ByteBuf buf)
+    {
+        pos = BlockPos.fromLong(buf.readLong());
+        delta = ByteBufUtils.readTag(buf);
+    }
+
+    @Override
+    public void toBytes(ByteBuf buf)
+    {
+        buf.writeLong(pos.toLong());
+        ByteBufUtils.writeTag(buf, delta);
+    }
+
+    public static final class Handler implements IMessageHandler<PacketTileEntityDelta, IMessage>
+    {
+        @Override
+        public IMessage onMessage(PacketTileEntityDelta message, MessageContext ctx)
+        {
+            TerraFirmaCraft.getProxy().getThreadListener(ctx).addScheduledTask(() -> {
+                EntityPlayer player = TerraFirmaCraft.getProxy().getPlayer(ctx);
+                if (player != null && message.delta != null && player.world.isBlockLoaded(message.pos))
+                {
+                    // The tile entity may not exist yet, if this was sent just before the chunk. The chunk will contain the full NBT
+                    TileEntity tile = player.world.getTileEntity(message.pos);
+                    if (tile instanceof TEBase)
+                    {
+                        ((TEBase) tile).onReceiveSyncDelta(message.delta);
+                    }
+                }
+            });
+            return null;
+        }
+    }
+}
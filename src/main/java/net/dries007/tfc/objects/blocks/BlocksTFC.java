@@ -5,6 +5,8 @@
 
 package net.dries007.tfc.objects.blocks;
 
+import java.util.Arrays;
+
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableList.Builder;
 import net.minecraft.block.Block;
@@ -128,6 +130,18 @@ public final class BlocksTFC
 
     private static ImmutableList<BlockBerryBush> allBerryBushBlocks;
 
+    // Categories used by the is* methods, which rock types are in each is computed once, so each check is a single lookup by type
+    private static final int RAW_STONE = 1;
+    private static final int CLAY_TYPE = 1 << 1;
+    private static final int DIRT_TYPE = 1 << 2;
+    private static final int SAND_TYPE = 1 << 3;
+    private static final int SOIL = 1 << 4;
+    private static final int SOIL_OR_GRAVEL = 1 << 5;
+    private static final int GRASS_TYPE = 1 << 6;
+    private static final int DRY_GRASS_TYPE = 1 << 7;
+    private static final int GROUND = 1 << 8;
+    private static final int[] ROCK_TYPE_CATEGORIES = Arrays.stream(Rock.Type.values()).mapToInt(BlocksTFC::getCategories).toArray();
+
     public static ImmutableList<ItemBlock> getAllNormalItemBlocks()
     {
         return allNormalItemBlocks;
@@ -751,78 +765,73 @@ public final class BlocksTFC
 
     public static boolean isRawStone(IBlockState current)
     {
-        if (!(current.getBlock() instanceof BlockRockVariant)) return false;
-        Rock.Type type = ((BlockRockVariant) current.getBlock()).getType();
-        return type == RAW;
+        return isRockType(current, RAW_STONE);
     }
 
     public static boolean isClay(IBlockState current)
     {
-        if (!(current.getBlock() instanceof BlockRockVariant)) return false;
-        Rock.Type type = ((BlockRockVariant) current.getBlock()).getType();
-        return type == CLAY || type == CLAY_GRASS;
+        return isRockType(current, CLAY_TYPE);
     }
 
     public static boolean isDirt(IBlockState current)
     {
-        if (!(current.getBlock() instanceof BlockRockVariant)) return false;
-        Rock.Type type = ((BlockRockVariant) current.getBlock()).getType();
-        return type == DIRT;
+        return isRockType(current, DIRT_TYPE);
     }
 
     public static boolean isSand(IBlockState current)
     {
-        if (!(current.getBlock() instanceof BlockRockVariant)) return false;
-        Rock.Type type = ((BlockRockVariant) current.getBlock()).getType();
-        return type == SAND;
+        return isRockType(current, SAND_TYPE);
     }
 
-    // todo: change to property of type? (soil & stone maybe?)
-
     public static boolean isSoil(IBlockState current)
     {
-        if (current.getBlock() instanceof BlockPeat) return true;
-        if (!(current.getBlock() instanceof BlockRockVariant)) return false;
-        Rock.Type type = ((BlockRockVariant) current.getBlock()).getType();
-        return type == GRASS || type == DRY_GRASS || type == DIRT || type == CLAY || type == CLAY_GRASS;
+        return current.getBlock() instanceof BlockPeat || isRockType(current, SOIL);
     }
 
     public static boolean isGrowableSoil(IBlockState current)
     {
-        if (current.getBlock() instanceof BlockPeat) return false;
-        if (!(current.getBlock() instanceof BlockRockVariant)) return false;
-        Rock.Type type = ((BlockRockVariant) current.getBlock()).getType();
-        return type == GRASS || type == DRY_GRASS || type == DIRT || type == CLAY || type == CLAY_GRASS;
+        return isRockType(current, SOIL);
     }
 
     public static boolean isSoilOrGravel(IBlockState current)
     {
-        if (current.getBlock() instanceof BlockPeat) return true;
-        if (!(current.getBlock() instanceof BlockRockVariant)) return false;
-        Rock.Type type = ((BlockRockVariant) current.getBlock()).getType();
-        return type == GRASS || type == DRY_GRASS || type == DIRT || type == GRAVEL;
+        return current.getBlock() instanceof BlockPeat || isRockType(current, SOIL_OR_GRAVEL);
     }
 
     public static boolean isGrass(IBlockState current)
     {
-        if (current.getBlock() instanceof BlockPeatGrass) return true;
-        if (!(current.getBlock() instanceof BlockRockVariant)) return false;
-        Rock.Type type = ((BlockRockVariant) current.getBlock()).getType();
-        return type.isGrass;
+        return current.getBlock() instanceof BlockPeatGrass || isRockType(current, GRASS_TYPE);
     }
 
     public static boolean isDryGrass(IBlockState current)
     {
-        if (!(current.getBlock() instanceof BlockRockVariant)) return false;
-        Rock.Type type = ((BlockRockVariant) current.getBlock()).getType();
-        return type == DRY_GRASS;
+        return isRockType(current, DRY_GRASS_TYPE);
     }
 
     public static boolean isGround(IBlockState current)
     {
-        if (!(current.getBlock() instanceof BlockRockVariant)) return false;
-        Rock.Type type = ((BlockRockVariant) current.getBlock()).getType();
-        return type == GRASS || type == DRY_GRASS || type == DIRT || type == GRAVEL || type == RAW || type == SAND;
+        return isRockType(current, GROUND);
+    }
+
+    private static boolean isRockType(IBlockState current, int category)
+    {
+        final Block block = current.getBlock();
+        return block instanceof BlockRockVariant && (ROCK_TYPE_CATEGORIES[((BlockRockVariant) block).getType().ordinal()] & category) != 0;
+    }
+
+    private static int getCategories(Rock.Type type)
+    {
+        int categories = 0;
+        if (type == RAW) categories |= RAW_STONE;
+        if (type == CLAY || type == CLAY_GRASS) categories |= CLAY_TYPE;
+        if (type == DIRT) categories |= DIRT_TYPE;
+        if (type == SAND) categories |= SAND_TYPE;
+        if (type == GRASS || type == DRY_GRASS || type == DIRT || type == CLAY || type == CLAY_GRASS) categories |= SOIL;
+        if (type == GRASS || type == DRY_GRASS || type == DIRT || type == GRAVEL) categories |= SOIL_OR_GRAVEL;
+        if (type.isGrass) categories |= GRASS_TYPE;
+        if (type == DRY_GRASS) categories |= DRY_GRASS_TYPE;
+        if (type == GRASS || type == DRY_GRASS || type == DIRT || type == GRAVEL || type == RAW || type == SAND) categories |= GROUND;
+        return categories;
     }
 
     private static <T extends Block> T register(IForgeRegistry<Block> r, String name, T block, CreativeTabs ct)
@@ -241,7 +241,7 @@ public abstract class BlockCropTFC extends BlockBush
                     }
                 }
 
-                long growthTicks = (long) (crop.getGrowthTicks() * ConfigTFC.General.FOOD.cropGrowthTimeModifier);
+                long growthTicks = getGrowthTicks();
                 int fullGrownStages = 0;
                 while (te.getTicksSinceUpdate() > growthTicks)
                 {
@@ -276,6 +276,14 @@ public abstract class BlockCropTFC extends BlockBush
         }
     }
 
+    /**
+     * @return the number of ticks between growth stages
+     */
+    public long getGrowthTicks()
+    {
+        return (long) (crop.getGrowthTicks() * ConfigTFC.General.FOOD.cropGrowthTimeModifier);
+    }
+
     public abstract void grow(World worldIn, BlockPos pos, IBlockState state, Random random);
 
     public void die(World worldIn, BlockPos pos, IBlockState state, Random random)
@@ -0,0 +1,144 @@
+/*
+ * Work under Copyright. Licensed under the EUPL.
+ * See the project README.md and LICENSE.txt for more information.
+ */
+
+package net.dries007.tfc.objects.blocks.plants;
+
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+import javax.annotation.ParametersAreNonnullByDefault;
+
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.server.management.PlayerChunkMapEntry;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+import net.minecraft.world.WorldServer;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.storage.ExtendedBlockStorage;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.fml.common.Mod;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.minecraftforge.fml.common.gameevent.TickEvent;
+
+import it.unimi.dsi.fastutil.longs.LongArrayFIFOQueue;
+import net.dries007.tfc.util.calendar.CalendarTFC;
+import net.dries007.tfc.util.calendar.Month;
+
+import static net.dries007.tfc.TerraFirmaCraft.MOD_ID;
+import static net.dries007.tfc.objects.blocks.plants.BlockPlantTFC.DAYPERIOD;
+
+/**
+ * Updates the day period and growth stage of {@link BlockPlantTFC}s when the calendar crosses into a new day period or month.
+ * Both only depend on the calendar, so instead of each plant updating itself on random ticks, every chunk watched by a player is updated in one pass, a few chunks per tick.
+ * Each plant that changes is written once, directly into the chunk section (these properties are not saved, and have no effect on neighbors or light), and marked for the watching players, who receive all changes to a chunk in one packet.
+ * Clients render plants using the current calendar (see {@link BlockPlantTFC#getActualState}), so this is what tells them to render the plant again.
+ */
+@Mod.EventBusSubscriber(modid = MOD_ID)
+@ParametersAreNonnullByDefault
+public final class PlantStageUpdater
+{
+    private static final int CHUNKS_PER_TICK = 64;
+
+    private static final Map<World, Pass> PASSES = new IdentityHashMap<>();
+
+    @SubscribeEvent
+    public static void onWorldTick(TickEvent.WorldTickEvent event)
+    {
+        if (event.world instanceof WorldServer && event.phase == TickEvent.Phase.END)
+        {
+            final WorldServer world = (WorldServer) event.world;
+            final int dayPeriod = BlockPlantTFC.getDayPeriod();
+            final Month month = CalendarTFC.CALENDAR_TIME.getMonthOfYear();
+
+            Pass pass = PASSES.get(world);
+            if (pass == null)
+            {
+                // Plants in chunks sent to clients so far are already rendered with the current calendar
+                PASSES.put(world, new Pass(dayPeriod, month));
+                return;
+            }
+
+            world.profiler.startSection("tfcplantstages");
+            if (pass.dayPeriod != dayPeriod || pass.month != month)
+            {
+                // Start over, with all the chunks that are currently watched
+                pass.dayPeriod = dayPeriod;
+                pass.month = month;
+                pass.chunks.clear();
+                for (Iterator<Chunk> iterator = world.getPersistentChunkIterable(world.getPlayerChunkMap().getChunkIterator()); iterator.hasNext(); )
+                {
+                    Chunk chunk = iterator.next();
+                    pass.chunks.enqueue(ChunkPos.asLong(chunk.x, chunk.z));
+                }
+            }
+            for (int i = 0; i < CHUNKS_PER_TICK && !pass.chunks.isEmpty(); i++)
+            {
+                final long packed = pass.chunks.dequeueLong();
+                final Chunk chunk = world.getChunkProvider().getLoadedChunk((int) packed, (int) (packed >> 32));
+                if (chunk != null)
+                {
+                    updateChunk(world, chunk, dayPeriod, month);
+                }
+            }
+            world.profiler.endSection();
+        }
+    }
+
+    @SubscribeEvent
+    public static void onWorldUnload(WorldEvent.Unload event)
+    {
+        PASSES.remove(event.getWorld());
+    }
+
+    private static void updateChunk(WorldServer world, Chunk chunk, int dayPeriod, Month month)
+    {
+        final PlayerChunkMapEntry watchers = world.getPlayerChunkMap().getEntry(chunk.x, chunk.z);
+        for (ExtendedBlockStorage section : chunk.getBlockStorageArray())
+        {
+            if (section == Chunk.NULL_BLOCK_STORAGE || section.isEmpty())
+            {
+                continue;
+            }
+            for (int y = 0; y < 16; y++)
+            {
+                for (int z = 0; z < 16; z++)
+                {
+                    for (int x = 0; x < 16; x++)
+                    {
+                        final IBlockState state = section.get(x, y, z);
+                        if (state.getBlock() instanceof BlockPlantTFC)
+                        {
+                            final BlockPlantTFC block = (BlockPlantTFC) state.getBlock();
+                            final IBlockState newState = state.withProperty(DAYPERIOD, dayPeriod).withProperty(block.growthStageProperty, block.plant.getStageForMonth(month));
+                            if (newState != state)
+                            {
+                                section.set(x, y, z, newState);
+                                if (watchers != null)
+                                {
+                                    watchers.blockChanged(x, section.getYLocation() + y, z);
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private PlantStageUpdater() {}
+
+    private static final class Pass
+    {
+        private final LongArrayFIFOQueue chunks = new LongArrayFIFOQueue();
+        private int dayPeriod;
+        private Month month;
+
+        private Pass(int dayPeriod, Month month)
+        {
+            this.dayPeriod = dayPeriod;
+            this.month = month;
+        }
+    }
+}
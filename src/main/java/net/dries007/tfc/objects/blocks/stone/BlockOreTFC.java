@@ -30,6 +30,7 @@ import net.minecraftforge.fml.relauncher.SideOnly;
 import net.dries007.tfc.api.types.Ore;
 import net.dries007.tfc.api.types.Rock;
 import net.dries007.tfc.objects.items.metal.ItemOreTFC;
+import net.dries007.tfc.world.classic.chunkdata.ChunkDataTFC;
 
 @ParametersAreNonnullByDefault
 public class BlockOreTFC extends Block
@@ -119,6 +120,33 @@ public class BlockOreTFC extends Block
         return new BlockStateContainer(this, GRADE);
     }
 
+    @Override
+    public void onBlockAdded(World worldIn, BlockPos pos, IBlockState state)
+    {
+        if (!worldIn.isRemote)
+        {
+            ChunkDataTFC data = ChunkDataTFC.get(worldIn, pos);
+            if (data.isInitialized())
+            {
+                data.getOreIndex().add(pos, state);
+            }
+        }
+    }
+
+    @Override
+    public void breakBlock(World worldIn, BlockPos pos, IBlockState state)
+    {
+        if (!worldIn.isRemote)
+        {
+            ChunkDataTFC data = ChunkDataTFC.get(worldIn, pos);
+            if (data.isInitialized())
+            {
+                data.getOreIndex().remove(pos, state);
+            }
+        }
+        super.breakBlock(worldIn, pos, state);
+    }
+
     /**
      * Ore blocks should always drop from explosions, see #1325
      */
@@ -118,10 +118,24 @@ public class BlockLeavesTFC extends BlockLeaves
         return new BlockStateContainer(this, DECAYABLE);
     }
 
+    @Override
+    public void randomTick(World worldIn, BlockPos pos, IBlockState state, Random random)
+    {
+        // TFC Leaf Decay, for a single leaf. This is almost always next to a log, so stop at the first one found
+        if (!worldIn.isRemote && state.getValue(DECAYABLE) && !LeafDecaySolver.isNearLog(worldIn, this, pos))
+        {
+            decay(worldIn, pos);
+        }
+    }
+
     @Override
     public void updateTick(World worldIn, BlockPos pos, IBlockState state, Random rand)
     {
-        doLeafDecay(worldIn, pos, state);
+        // TFC Leaf Decay, scheduled by a neighbor change. These come in bulk when a tree is felled, so solve them together
+        if (!worldIn.isRemote && state.getValue(DECAYABLE))
+        {
+            LeafDecaySolver.queue(worldIn, pos);
+        }
     }
 
     @Override
@@ -215,41 +229,11 @@ public class BlockLeavesTFC extends BlockLeaves
         return ImmutableList.of(new ItemStack(this));
     }
 
-    private void doLeafDecay(World world, BlockPos pos, IBlockState state)
+    /**
+     * Called when this leaf is too far from a log, see {@link LeafDecaySolver}
+     */
+    void decay(World world, BlockPos pos)
     {
-        // TFC Leaf Decay
-        if (world.isRemote || !state.getValue(DECAYABLE))
-            return;
-
-        Set<BlockPos> paths = new HashSet<>();
-        Set<BlockPos> evaluated = new HashSet<>(); // Leaves that everything was evaluated so no need to do it again
-        List<BlockPos> pathsToAdd; // New Leaves that needs evaluation
-        BlockPos.MutableBlockPos pos1 = new BlockPos.MutableBlockPos(pos);
-        IBlockState state1;
-        paths.add(pos); // Center block
-
-        for (int i = 0; i < wood.getMaxDecayDistance(); i++)
-        {
-            pathsToAdd = new ArrayList<>();
-            for (BlockPos p1 : paths)
-            {
-                for (EnumFacing face : EnumFacing.values())
-                {
-                    pos1.setPos(p1).move(face);
-                    if (evaluated.contains(pos1) || !world.isBlockLoaded(pos1))
-                        continue;
-                    state1 = world.getBlockState(pos1);
-                    if (state1.getBlock() == BlockLogTFC.get(wood))
-                        return;
-                    if (state1.getBlock() == this)
-                        pathsToAdd.add(pos1.toImmutable());
-                }
-                evaluated.add(p1); // Evaluated
-            }
-            paths.addAll(pathsToAdd);
-            paths.removeAll(evaluated);
-        }
-
         world.setBlockToAir(pos);
         int particleScale = 10;
         double x = pos.getX();
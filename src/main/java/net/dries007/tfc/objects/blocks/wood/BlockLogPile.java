@@ -44,6 +44,7 @@ import net.dries007.tfc.objects.te.TEInventory;
 import net.dries007.tfc.objects.te.TELogPile;
 import net.dries007.tfc.util.Helpers;
 import net.dries007.tfc.util.OreDictionaryHelper;
+import net.dries007.tfc.util.calendar.CalendarTFC;
 
 @ParametersAreNonnullByDefault
 @MethodsReturnNonnullByDefault
@@ -107,6 +108,16 @@ public class BlockLogPile extends Block implements ILightableBlock
     {
         if (!worldIn.isRemote && state.getValue(LIT))
         {
+            // In case the scheduled update for this pit was lost (i.e. the pile it was on was removed)
+            TELogPile te = Helpers.getTE(worldIn, pos, TELogPile.class);
+            if (te != null && te.isBurning() && CalendarTFC.PLAYER_TIME.getTicks() - te.getStartBurningTick() > ConfigTFC.Devices.CHARCOAL_PIT.ticks)
+            {
+                CharcoalPit.tryComplete(worldIn, pos);
+                if (worldIn.getBlockState(pos) != state)
+                {
+                    return;
+                }
+            }
             for (EnumFacing side : EnumFacing.values())
             {
                 final BlockPos offsetPos = pos.offset(side);
@@ -126,6 +137,15 @@ public class BlockLogPile extends Block implements ILightableBlock
         }
     }
 
+    @Override
+    public void updateTick(World worldIn, BlockPos pos, IBlockState state, Random rand)
+    {
+        if (!worldIn.isRemote && state.getValue(LIT))
+        {
+            CharcoalPit.tryComplete(worldIn, pos);
+        }
+    }
+
     @Override
     @SideOnly(Side.CLIENT)
     public void randomDisplayTick(IBlockState stateIn, World worldIn, BlockPos pos, Random rand)
@@ -145,7 +165,7 @@ public class BlockLogPile extends Block implements ILightableBlock
     @SuppressWarnings("deprecation")
     public void neighborChanged(IBlockState state, World worldIn, BlockPos pos, Block blockIn, BlockPos fromPos)
     {
-        if (worldIn.getBlockState(pos.up()).getBlock() == Blocks.FIRE)
+        if (!state.getValue(LIT) && worldIn.getBlockState(pos.up()).getBlock() == Blocks.FIRE)
         {
             worldIn.setBlockState(pos, state.withProperty(LIT, true));
             TELogPile te = Helpers.getTE(worldIn, pos, TELogPile.class);
@@ -30,10 +30,17 @@ import net.minecraft.util.math.AxisAlignedBB;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.IBlockAccess;
 import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.storage.ExtendedBlockStorage;
 
+import it.unimi.dsi.fastutil.ints.IntIterator;
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import it.unimi.dsi.fastutil.ints.IntSet;
 import net.dries007.tfc.ConfigTFC;
 import net.dries007.tfc.api.types.Tree;
 import net.dries007.tfc.util.OreDictionaryHelper;
+import net.dries007.tfc.util.block.BlockAreaBitSet;
+import net.dries007.tfc.world.classic.chunkdata.ChunkDataTFC;
 
 @ParametersAreNonnullByDefault
 public class BlockSupport extends Block
@@ -82,15 +89,37 @@ public class BlockSupport extends Block
         {
             return true; // If world isn't loaded...
         }
-        for (BlockPos.MutableBlockPos searchSupport : BlockPos.getAllInBoxMutable(
-            pos.add(sRangeHorNeg, sRangeVertNeg, sRangeHorNeg), pos.add(sRangeHor, sRangeVert, sRangeHor)))
+        BlockPos from = pos.add(sRangeHorNeg, sRangeVertNeg, sRangeHorNeg);
+        BlockPos to = pos.add(sRangeHor, sRangeVert, sRangeHor);
+        if (!isIndexed(worldIn, from, to))
         {
-            IBlockState st = worldIn.getBlockState(searchSupport);
-            if (st.getBlock() instanceof BlockSupport)
+            // No chunk data (i.e. not a TFC world), fall back to scanning every block
+            for (BlockPos.MutableBlockPos searchSupport : BlockPos.getAllInBoxMutable(from, to))
             {
-                if (((BlockSupport) st.getBlock()).canSupportBlocks(worldIn, searchSupport))
+                IBlockState st = worldIn.getBlockState(searchSupport);
+                if (st.getBlock() instanceof BlockSupport)
                 {
-                    return true; // Found support block that can support this position
+                    if (((BlockSupport) st.getBlock()).canSupportBlocks(worldIn, searchSupport))
+                    {
+                        return true; // Found support block that can support this position
+                    }
+                }
+            }
+            return false;
+        }
+        BlockPos.MutableBlockPos searchSupport = new BlockPos.MutableBlockPos();
+        for (int chunkX = from.getX() >> 4; chunkX <= to.getX() >> 4; chunkX++)
+        {
+            for (int chunkZ = from.getZ() >> 4; chunkZ <= to.getZ() >> 4; chunkZ++)
+            {
+                IntIterator iterator = getSupportIndex(worldIn.getChunk(chunkX, chunkZ)).iterator();
+                while (iterator.hasNext())
+                {
+                    unpackSupportPos(searchSupport, chunkX, chunkZ, iterator.nextInt());
+                    if (isInBox(searchSupport, from, to) && isValidSupport(worldIn, searchSupport))
+                    {
+                        return true; // Found support block that can support this position
+                    }
                 }
             }
         }
@@ -101,50 +130,124 @@ public class BlockSupport extends Block
      * This is an optimized way to check for blocks that aren't supported during a
      * cave in, instead of checking every single block individually and calling
      * BlockSupper#isBeingSupported
+     *
+     * @return the positions between from and to (inclusive) which are not supported
      */
-    public static Set<BlockPos> getAllUnsupportedBlocksIn(World worldIn, BlockPos from, BlockPos to)
-    {
-        Set<BlockPos> listSupported = new HashSet<>();
-        Set<BlockPos> listUnsupported = new HashSet<>();
-        int minX = Math.min(from.getX(), to.getX());
-        int maxX = Math.max(from.getX(), to.getX());
-        int minY = Math.min(from.getY(), to.getY());
-        int maxY = Math.max(from.getY(), to.getY());
-        int minZ = Math.min(from.getZ(), to.getZ());
-        int maxZ = Math.max(from.getZ(), to.getZ());
+    public static BlockAreaBitSet getAllUnsupportedBlocksIn(World worldIn, BlockPos from, BlockPos to)
+    {
+        BlockAreaBitSet unsupported = new BlockAreaBitSet(from, to);
+        unsupported.addAll();
         int sRangeHor = ConfigTFC.General.FALLABLE.supportBeamRangeHor;
-        int sRangeVert = ConfigTFC.General.FALLABLE.supportBeamRangeUp;
-        int sRangeHorNeg = ConfigTFC.General.FALLABLE.supportBeamRangeHor * -1;
-        int sRangeVertNeg = ConfigTFC.General.FALLABLE.supportBeamRangeDown * -1;
-        BlockPos minPoint = new BlockPos(minX, minY, minZ);
-        BlockPos maxPoint = new BlockPos(maxX, maxY, maxZ);
-        for (BlockPos.MutableBlockPos searchingPoint : BlockPos.getAllInBoxMutable(minPoint.add(sRangeHorNeg, sRangeVertNeg, sRangeHorNeg),
-            maxPoint.add(sRangeHor, sRangeVert, sRangeHor)))
+        int sRangeUp = ConfigTFC.General.FALLABLE.supportBeamRangeUp;
+        int sRangeDown = ConfigTFC.General.FALLABLE.supportBeamRangeDown;
+        // The search and clear boxes are the same as the collapse check used before supports were indexed
+        // They don't mirror #isBeingSupported: a support clears supportBeamRangeDown below and supportBeamRangeUp above itself, while #isBeingSupported looks for supports in that range around the block
+        // The two only agree when supportBeamRangeUp == supportBeamRangeDown
+        BlockPos searchFrom = new BlockPos(unsupported.getMinX() - sRangeHor, unsupported.getMinY() - sRangeDown, unsupported.getMinZ() - sRangeHor);
+        BlockPos searchTo = new BlockPos(unsupported.getMaxX() + sRangeHor, unsupported.getMaxY() + sRangeUp, unsupported.getMaxZ() + sRangeHor);
+        if (!isIndexed(worldIn, searchFrom, searchTo))
         {
-            if (!listSupported.contains(searchingPoint))
+            // No chunk data (i.e. not a TFC world), fall back to scanning every block
+            for (BlockPos.MutableBlockPos searchingPoint : BlockPos.getAllInBoxMutable(searchFrom, searchTo))
             {
-                listUnsupported.add(searchingPoint.toImmutable()); //Adding blocks that wasn't found supported
+                if (isValidSupport(worldIn, searchingPoint))
+                {
+                    removeSupportedBy(unsupported, searchingPoint, sRangeHor, sRangeUp, sRangeDown);
+                }
             }
-            IBlockState st = worldIn.getBlockState(searchingPoint);
-            if (st.getBlock() instanceof BlockSupport)
+            return unsupported;
+        }
+        BlockPos.MutableBlockPos searchingPoint = new BlockPos.MutableBlockPos();
+        for (int chunkX = searchFrom.getX() >> 4; chunkX <= searchTo.getX() >> 4; chunkX++)
+        {
+            for (int chunkZ = searchFrom.getZ() >> 4; chunkZ <= searchTo.getZ() >> 4; chunkZ++)
             {
-                if (((BlockSupport) st.getBlock()).canSupportBlocks(worldIn, searchingPoint))
+                IntIterator iterator = getSupportIndex(worldIn.getChunk(chunkX, chunkZ)).iterator();
+                while (iterator.hasNext())
                 {
-                    for (BlockPos.MutableBlockPos supported : BlockPos.getAllInBoxMutable(searchingPoint.add(sRangeHorNeg, sRangeVertNeg, sRangeHorNeg), searchingPoint.add(sRangeHor, sRangeVert, sRangeHor)))
+                    unpackSupportPos(searchingPoint, chunkX, chunkZ, iterator.nextInt());
+                    if (isInBox(searchingPoint, searchFrom, searchTo) && isValidSupport(worldIn, searchingPoint))
                     {
-                        listSupported.add(supported.toImmutable()); //Adding all supported blocks by this support
-                        listUnsupported.remove(supported); //Remove if this block was added earlier
+                        removeSupportedBy(unsupported, searchingPoint, sRangeHor, sRangeUp, sRangeDown);
                     }
                 }
             }
         }
-        //Searching point wasn't from points between from <-> to but
-        //Time to remove the outsides that were added for convenience
-        listUnsupported.removeIf(content -> content.getX() < minX || content.getX() > maxX
-            || content.getY() < minY || content.getY() > maxY
-            || content.getZ() < minZ || content.getZ() > maxZ);
+        return unsupported;
+    }
+
+    private static void removeSupportedBy(BlockAreaBitSet area, BlockPos support, int sRangeHor, int sRangeUp, int sRangeDown)
+    {
+        area.removeBox(support.getX() - sRangeHor, support.getY() - sRangeDown, support.getZ() - sRangeHor, support.getX() + sRangeHor, support.getY() + sRangeUp, support.getZ() + sRangeHor);
+    }
+
+    private static boolean isValidSupport(World world, BlockPos pos)
+    {
+        IBlockState st = world.getBlockState(pos);
+        return st.getBlock() instanceof BlockSupport && ((BlockSupport) st.getBlock()).canSupportBlocks(world, pos);
+    }
+
+    private static boolean isInBox(BlockPos pos, BlockPos from, BlockPos to)
+    {
+        return pos.getX() >= from.getX() && pos.getX() <= to.getX() && pos.getY() >= from.getY() && pos.getY() <= to.getY() && pos.getZ() >= from.getZ() && pos.getZ() <= to.getZ();
+    }
+
+    private static void unpackSupportPos(BlockPos.MutableBlockPos pos, int chunkX, int chunkZ, int packed)
+    {
+        pos.setPos(chunkX << 4 | (packed & 15), packed >>> 8, chunkZ << 4 | ((packed >> 4) & 15));
+    }
+
+    /**
+     * @return true if all chunks touching this area have chunk data to hold a support index
+     */
+    private static boolean isIndexed(World world, BlockPos from, BlockPos to)
+    {
+        for (int chunkX = from.getX() >> 4; chunkX <= to.getX() >> 4; chunkX++)
+        {
+            for (int chunkZ = from.getZ() >> 4; chunkZ <= to.getZ() >> 4; chunkZ++)
+            {
+                if (!ChunkDataTFC.get(world.getChunk(chunkX, chunkZ)).isInitialized())
+                {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
 
-        return listUnsupported;
+    /**
+     * Gets the supports in a chunk, scanning the chunk once if it was saved before the index existed
+     */
+    private static IntSet getSupportIndex(Chunk chunk)
+    {
+        ChunkDataTFC data = ChunkDataTFC.get(chunk);
+        if (!data.isSupportIndexed())
+        {
+            IntSet supports = new IntOpenHashSet();
+            for (ExtendedBlockStorage storage : chunk.getBlockStorageArray())
+            {
+                if (storage != Chunk.NULL_BLOCK_STORAGE && !storage.isEmpty())
+                {
+                    for (int y = 0; y < 16; y++)
+                    {
+                        for (int z = 0; z < 16; z++)
+                        {
+                            for (int x = 0; x < 16; x++)
+                            {
+                                IBlockState state = storage.get(x, y, z);
+                                if (state.getBlock() instanceof BlockSupport && state.getValue(AXIS) != EnumFacing.Axis.Y)
+                                {
+                                    supports.add((storage.getYLocation() + y) << 8 | z << 4 | x);
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+            data.setSupports(supports);
+            chunk.markDirty();
+        }
+        return data.getSupports();
     }
 
     private final Tree wood;
@@ -384,6 +487,38 @@ public class BlockSupport extends Block
         }
     }
 
+    @Override
+    public void onBlockAdded(World worldIn, BlockPos pos, IBlockState state)
+    {
+        super.onBlockAdded(worldIn, pos, state);
+        if (!worldIn.isRemote && state.getValue(AXIS) != EnumFacing.Axis.Y)
+        {
+            Chunk chunk = worldIn.getChunk(pos);
+            ChunkDataTFC data = ChunkDataTFC.get(chunk);
+            if (data.isInitialized())
+            {
+                data.addSupport(pos);
+                chunk.markDirty();
+            }
+        }
+    }
+
+    @Override
+    public void breakBlock(World worldIn, BlockPos pos, IBlockState state)
+    {
+        if (!worldIn.isRemote)
+        {
+            Chunk chunk = worldIn.getChunk(pos);
+            ChunkDataTFC data = ChunkDataTFC.get(chunk);
+            if (data.isInitialized())
+            {
+                data.removeSupport(pos);
+                chunk.markDirty();
+            }
+        }
+        super.breakBlock(worldIn, pos, state);
+    }
+
     @Override
     @Nonnull
     public BlockStateContainer createBlockState()
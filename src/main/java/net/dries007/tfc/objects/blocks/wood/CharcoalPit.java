@@ -0,0 +1,121 @@
+/*
+ * Work under Copyright. Licensed under the EUPL.
+ * See the project README.md and LICENSE.txt for more information.
+ */
+
+package net.dries007.tfc.objects.blocks.wood;
+
+import java.util.*;
+import javax.annotation.ParametersAreNonnullByDefault;
+
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.util.EnumFacing;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+
+import net.dries007.tfc.ConfigTFC;
+import net.dries007.tfc.objects.blocks.BlocksTFC;
+import net.dries007.tfc.objects.te.TELogPile;
+import net.dries007.tfc.util.Helpers;
+import net.dries007.tfc.util.calendar.CalendarTFC;
+
+import static net.dries007.tfc.objects.blocks.property.ILightableBlock.LIT;
+
+/**
+ * A charcoal pit, as a whole: all the log piles connected to each other.
+ * Log piles do not tick. When a pile is lit, the whole pit is lit at once, and a single block update is scheduled on the pile that was lit, for when the pit is done.
+ * The pit is then converted to charcoal in one pass, column by column, from the bottom up, so charcoal from upper piles always lands on charcoal that already exists.
+ *
+ * The completion time is measured in player ticks (see {@link CalendarTFC#PLAYER_TIME}), which may run slower than scheduled updates, so an early update is rescheduled for the remaining time.
+ * Lit log piles also check on random ticks, in case the pile with the scheduled update is removed before the pit is done.
+ */
+@ParametersAreNonnullByDefault
+public final class CharcoalPit
+{
+    /**
+     * Lights the log pile at a position, and every unlit log pile connected to it
+     */
+    public static void light(World world, BlockPos origin)
+    {
+        final long tick = CalendarTFC.PLAYER_TIME.getTicks();
+        final Deque<BlockPos> queue = new ArrayDeque<>();
+        final Set<BlockPos> visited = new HashSet<>();
+        queue.add(origin);
+        visited.add(origin);
+        while (!queue.isEmpty())
+        {
+            final BlockPos pos = queue.poll();
+            final TELogPile tile = Helpers.getTE(world, pos, TELogPile.class);
+            if (tile != null)
+            {
+                tile.startBurning(tick);
+            }
+            for (EnumFacing side : EnumFacing.VALUES)
+            {
+                final BlockPos offsetPos = pos.offset(side);
+                final IBlockState state = world.getBlockState(offsetPos);
+                if (state.getBlock() instanceof BlockLogPile && !state.getValue(LIT) && visited.add(offsetPos))
+                {
+                    world.setBlockState(offsetPos, state.withProperty(LIT, true));
+                    queue.add(offsetPos);
+                }
+            }
+        }
+        world.scheduleUpdate(origin, BlocksTFC.LOG_PILE, ConfigTFC.Devices.CHARCOAL_PIT.ticks);
+    }
+
+    /**
+     * Converts the pit containing a log pile to charcoal, if that log pile has burned for long enough. Otherwise, schedules another update for the remaining time
+     */
+    public static void tryComplete(World world, BlockPos pos)
+    {
+        final TELogPile tile = Helpers.getTE(world, pos, TELogPile.class);
+        if (tile == null || !tile.isBurning())
+        {
+            return;
+        }
+        final long remaining = ConfigTFC.Devices.CHARCOAL_PIT.ticks - (CalendarTFC.PLAYER_TIME.getTicks() - tile.getStartBurningTick());
+        if (remaining >= 0)
+        {
+            world.scheduleUpdate(pos, BlocksTFC.LOG_PILE, (int) Math.min(remaining + 1, Integer.MAX_VALUE));
+            return;
+        }
+
+        // Find all lit log piles in the pit, by column
+        final Map<Long, List<BlockPos>> columns = new HashMap<>();
+        final Deque<BlockPos> queue = new ArrayDeque<>();
+        final Set<BlockPos> visited = new HashSet<>();
+        queue.add(pos);
+        visited.add(pos);
+        while (!queue.isEmpty())
+        {
+            final BlockPos current = queue.poll();
+            columns.computeIfAbsent(((long) current.getX() << 32) | (current.getZ() & 0xFFFFFFFFL), key -> new ArrayList<>()).add(current);
+            for (EnumFacing side : EnumFacing.VALUES)
+            {
+                final BlockPos offsetPos = current.offset(side);
+                final IBlockState state = world.getBlockState(offsetPos);
+                if (state.getBlock() instanceof BlockLogPile && state.getValue(LIT) && visited.add(offsetPos))
+                {
+                    queue.add(offsetPos);
+                }
+            }
+        }
+
+        // Bottom up in each column, so every pile below has already turned into charcoal
+        for (List<BlockPos> column : columns.values())
+        {
+            column.sort(Comparator.comparingInt(BlockPos::getY));
+            for (BlockPos pilePos : column)
+            {
+                final TELogPile pile = Helpers.getTE(world, pilePos, TELogPile.class);
+                if (pile != null)
+                {
+                    pile.createCharcoal();
+                }
+            }
+        }
+    }
+
+    private CharcoalPit() {}
+}
@@ -0,0 +1,265 @@
+/*
+ * Work under Copyright. Licensed under the EUPL.
+ * See the project README.md and LICENSE.txt for more information.
+ */
+
+package net.dries007.tfc.objects.blocks.wood;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import javax.annotation.ParametersAreNonnullByDefault;
+
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockLeaves;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.util.EnumFacing;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraft.world.WorldServer;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.fml.common.Mod;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.minecraftforge.fml.common.gameevent.TickEvent;
+
+import it.unimi.dsi.fastutil.longs.*;
+
+import static net.dries007.tfc.TerraFirmaCraft.MOD_ID;
+
+/**
+ * Leaf decay for {@link BlockLeavesTFC}
+ * Leaves that need checking are queued, and all leaves queued in a world during a tick are solved together at the end of the tick.
+ * Felling a tree changes hundreds of leaves in the same tick, which would otherwise each search the same canopy for a log.
+ *
+ * A leaf is kept if there is a log of the same wood at most {@link net.dries007.tfc.api.types.Tree#getMaxDecayDistance()} blocks away, counting only steps through leaves of the same wood.
+ * For each wood, this explores the leaves around the queued leaves once, then computes the distance to a log for all of them at once, with a single flood fill starting at every log.
+ * Leaves are tracked as {@link BlockPos#toLong()} in primitive collections.
+ *
+ * Queued leaves that have a log nearby are dropped first, with {@link #isNearLog(World, BlockLeavesTFC, BlockPos)}, and random ticks only use that search. Batching only pays off when many leaves nearby lose their log at once.
+ */
+@Mod.EventBusSubscriber(modid = MOD_ID)
+@ParametersAreNonnullByDefault
+public final class LeafDecaySolver
+{
+    // Same layout as BlockPos#toLong()
+    private static final int X_BITS = 26, Y_BITS = 12, Z_BITS = 26;
+    private static final int Y_SHIFT = Z_BITS, X_SHIFT = Y_SHIFT + Y_BITS;
+    private static final long X_MASK = (1L << X_BITS) - 1L, Y_MASK = (1L << Y_BITS) - 1L, Z_MASK = (1L << Z_BITS) - 1L;
+
+    private static final Map<World, LongSet> QUEUED = new IdentityHashMap<>();
+
+    /**
+     * Queues a leaf to be checked for decay at the end of the tick
+     */
+    public static void queue(World world, BlockPos pos)
+    {
+        QUEUED.computeIfAbsent(world, key -> new LongLinkedOpenHashSet()).add(pos.toLong());
+    }
+
+    /**
+     * Searches for a log close enough to keep a single leaf, stopping as soon as one is found.
+     * Most leaves in a forest are next to or a few blocks from a log, so this is much cheaper than solving them in a batch.
+     *
+     * @return true if the leaf at pos is close enough to a log to be kept
+     */
+    public static boolean isNearLog(World world, BlockLeavesTFC leaves, BlockPos pos)
+    {
+        final Block log = BlockLogTFC.get(leaves.wood);
+        final int maxDistance = leaves.wood.getMaxDecayDistance();
+        final BlockPos.MutableBlockPos mutablePos = new BlockPos.MutableBlockPos();
+        final Long2IntOpenHashMap depths = new Long2IntOpenHashMap();
+        final LongArrayFIFOQueue queue = new LongArrayFIFOQueue();
+        depths.put(pos.toLong(), 0);
+        queue.enqueue(pos.toLong());
+        while (!queue.isEmpty())
+        {
+            final long packed = queue.dequeueLong();
+            final int depth = depths.get(packed);
+            for (EnumFacing face : EnumFacing.VALUES)
+            {
+                final long neighbor = offset(packed, face);
+                setPos(mutablePos, neighbor);
+                if (!world.isBlockLoaded(mutablePos))
+                {
+                    continue;
+                }
+                final Block block = world.getBlockState(mutablePos).getBlock();
+                if (block == log)
+                {
+                    return true;
+                }
+                // Leaves at the max distance can't reach a log in range, so they aren't explored
+                if (block == leaves && depth + 1 < maxDistance && !depths.containsKey(neighbor))
+                {
+                    depths.put(neighbor, depth + 1);
+                    queue.enqueue(neighbor);
+                }
+            }
+        }
+        return false;
+    }
+
+    @SubscribeEvent
+    public static void onWorldTick(TickEvent.WorldTickEvent event)
+    {
+        if (event.world instanceof WorldServer && event.phase == TickEvent.Phase.END)
+        {
+            final LongSet queued = QUEUED.remove(event.world);
+            if (queued != null)
+            {
+                event.world.profiler.startSection("tfcleafdecay");
+                solve(event.world, queued);
+                event.world.profiler.endSection();
+            }
+        }
+    }
+
+    @SubscribeEvent
+    public static void onWorldUnload(WorldEvent.Unload event)
+    {
+        QUEUED.remove(event.getWorld());
+    }
+
+    private static void solve(World world, LongSet queued)
+    {
+        // Group by leaf type, as leaves only connect to leaves and logs of the same wood
+        final Map<BlockLeavesTFC, LongList> seedsByLeaves = new IdentityHashMap<>();
+        final BlockPos.MutableBlockPos mutablePos = new BlockPos.MutableBlockPos();
+        for (LongIterator iterator = queued.iterator(); iterator.hasNext(); )
+        {
+            final long packed = iterator.nextLong();
+            setPos(mutablePos, packed);
+            if (world.isBlockLoaded(mutablePos))
+            {
+                final IBlockState state = world.getBlockState(mutablePos);
+                // Most updates are a single change in a healthy canopy, which a search that stops at the first log settles cheaply
+                // Only leaves that fail it (i.e. from a felled tree) are worth solving together
+                if (state.getBlock() instanceof BlockLeavesTFC && state.getValue(BlockLeaves.DECAYABLE) && !isNearLog(world, (BlockLeavesTFC) state.getBlock(), mutablePos))
+                {
+                    seedsByLeaves.computeIfAbsent((BlockLeavesTFC) state.getBlock(), key -> new LongArrayList()).add(packed);
+                }
+            }
+        }
+        seedsByLeaves.forEach((leaves, seeds) -> solve(world, leaves, seeds, mutablePos));
+    }
+
+    private static void solve(World world, BlockLeavesTFC leaves, LongList seeds, BlockPos.MutableBlockPos mutablePos)
+    {
+        final Block log = BlockLogTFC.get(leaves.wood);
+        final int maxDistance = leaves.wood.getMaxDecayDistance();
+        // Any leaf within maxDistance of a queued leaf has every leaf on its shortest path to a log within this
+        final int maxDepth = 2 * maxDistance;
+
+        // Explore the leaves around the queued leaves, keeping the distance to the closest queued leaf, and which leaves are next to a log
+        final Long2IntOpenHashMap depths = new Long2IntOpenHashMap();
+        final LongArrayFIFOQueue queue = new LongArrayFIFOQueue();
+        final LongList nextToLog = new LongArrayList();
+        for (LongIterator iterator = seeds.iterator(); iterator.hasNext(); )
+        {
+            final long packed = iterator.nextLong();
+            depths.put(packed, 0);
+            queue.enqueue(packed);
+        }
+        while (!queue.isEmpty())
+        {
+            final long packed = queue.dequeueLong();
+            final int depth = depths.get(packed);
+            boolean foundLog = false;
+            for (EnumFacing face : EnumFacing.VALUES)
+            {
+                final long neighbor = offset(packed, face);
+                setPos(mutablePos, neighbor);
+                if (!world.isBlockLoaded(mutablePos))
+                {
+                    continue;
+                }
+                final Block block = world.getBlockState(mutablePos).getBlock();
+                if (block == log)
+                {
+                    foundLog = true;
+                }
+                else if (block == leaves && depth < maxDepth && !depths.containsKey(neighbor))
+                {
+                    depths.put(neighbor, depth + 1);
+                    queue.enqueue(neighbor);
+                }
+            }
+            if (foundLog)
+            {
+                nextToLog.add(packed);
+            }
+        }
+
+        // Flood fill from all logs at once, through the explored leaves, up to the max decay distance
+        final Long2IntOpenHashMap logDistances = new Long2IntOpenHashMap();
+        for (LongIterator iterator = nextToLog.iterator(); iterator.hasNext(); )
+        {
+            final long packed = iterator.nextLong();
+            logDistances.put(packed, 1);
+            queue.enqueue(packed);
+        }
+        while (!queue.isEmpty())
+        {
+            final long packed = queue.dequeueLong();
+            final int distance = logDistances.get(packed);
+            if (distance < maxDistance)
+            {
+                for (EnumFacing face : EnumFacing.VALUES)
+                {
+                    final long neighbor = offset(packed, face);
+                    if (depths.containsKey(neighbor) && !logDistances.containsKey(neighbor))
+                    {
+                        logDistances.put(neighbor, distance + 1);
+                        queue.enqueue(neighbor);
+                    }
+                }
+            }
+        }
+
+        // Every leaf close enough to a queued leaf has an exact distance, so all of them that are too far from a log decay now
+        for (Long2IntMap.Entry entry : depths.long2IntEntrySet())
+        {
+            final long packed = entry.getLongKey();
+            if (entry.getIntValue() <= maxDistance && !logDistances.containsKey(packed))
+            {
+                final BlockPos pos = BlockPos.fromLong(packed);
+                final IBlockState state = world.getBlockState(pos);
+                if (state.getBlock() == leaves && state.getValue(BlockLeaves.DECAYABLE))
+                {
+                    leaves.decay(world, pos);
+                }
+            }
+        }
+    }
+
+    private static long offset(long packed, EnumFacing face)
+    {
+        return pack(unpackX(packed) + face.getXOffset(), unpackY(packed) + face.getYOffset(), unpackZ(packed) + face.getZOffset());
+    }
+
+    private static void setPos(BlockPos.MutableBlockPos mutablePos, long packed)
+    {
+        mutablePos.setPos(unpackX(packed), unpackY(packed), unpackZ(packed));
+    }
+
+    private static long pack(int x, int y, int z)
+    {
+        return ((long) x & X_MASK) << X_SHIFT | ((long) y & Y_MASK) << Y_SHIFT | ((long) z & Z_MASK);
+    }
+
+    private static int unpackX(long packed)
+    {
+        return (int) (packed >> X_SHIFT);
+    }
+
+    private static int unpackY(long packed)
+    {
+        return (int) (packed << (64 - X_SHIFT) >> (64 - Y_BITS));
+    }
+
+    private static int unpackZ(long packed)
+    {
+        return (int) (packed << (64 - Z_BITS) >> (64 - Z_BITS));
+    }
+
+    private LeafDecaySolver() {}
+}
@@ -5,12 +5,13 @@
 
 package net.dries007.tfc.objects.entity.animal;
 
-import java.util.List;
 import java.util.Random;
+import java.util.function.Predicate;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import com.google.common.base.Predicates;
+import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityAgeable;
 import net.minecraft.entity.EntityList;
 import net.minecraft.entity.ai.*;
@@ -26,10 +27,14 @@ import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.network.datasync.DataParameter;
 import net.minecraft.network.datasync.DataSerializers;
 import net.minecraft.network.datasync.EntityDataManager;
+import net.minecraft.util.ClassInheritanceMultiMap;
 import net.minecraft.util.EnumHand;
 import net.minecraft.util.SoundCategory;
+import net.minecraft.util.math.AxisAlignedBB;
+import net.minecraft.util.math.MathHelper;
 import net.minecraft.util.text.TextComponentTranslation;
 import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
 import net.minecraftforge.oredict.OreDictionary;
 
 import net.dries007.tfc.Constants;
@@ -77,17 +82,58 @@ public abstract class EntityAnimalTFC extends EntityAnimal implements IAnimalTFC
      */
     public static <T extends EntityAnimal & IAnimalTFC> void findFemaleMate(T maleAnimal)
     {
-        List<EntityAnimal> list = maleAnimal.world.getEntitiesWithinAABB(maleAnimal.getClass(), maleAnimal.getEntityBoundingBox().grow(8.0D));
-        for (EntityAnimal femaleAnimal : list)
+        EntityAnimal femaleAnimal = findReadyFemale(maleAnimal, maleAnimal.getClass(), female -> true);
+        if (femaleAnimal != null)
         {
-            IAnimalTFC female = (IAnimalTFC) femaleAnimal;
-            if (female.getGender() == Gender.FEMALE && !femaleAnimal.isInLove() && female.isReadyToMate())
+            femaleAnimal.setInLove(null);
+            maleAnimal.setInLove(null);
+        }
+    }
+
+    /**
+     * Finds a female near a male animal (within 8 blocks) that is ready to mate and not in love yet
+     * This walks the entities of the nearby chunk sections directly, which are already sorted by class, instead of collecting every nearby animal into a list first.
+     * Gender and love are checked before {@link IAnimalTFC#isReadyToMate()}, as most animals in a herd fail on those.
+     *
+     * @param femaleClass the class of the female, only animals of this class (or subclasses) are checked
+     * @param filter      any additional condition for the female
+     * @return the first matching female, in the same order as {@link World#getEntitiesWithinAABB(Class, AxisAlignedBB)}, or null if none was found
+     */
+    @Nullable
+    public static <E extends EntityAnimal> E findReadyFemale(EntityAnimal maleAnimal, Class<? extends E> femaleClass, Predicate<? super E> filter)
+    {
+        final World world = maleAnimal.world;
+        final AxisAlignedBB area = maleAnimal.getEntityBoundingBox().grow(8.0D);
+        final int minChunkX = MathHelper.floor((area.minX - World.MAX_ENTITY_RADIUS) / 16.0D);
+        final int maxChunkX = MathHelper.ceil((area.maxX + World.MAX_ENTITY_RADIUS) / 16.0D);
+        final int minChunkZ = MathHelper.floor((area.minZ - World.MAX_ENTITY_RADIUS) / 16.0D);
+        final int maxChunkZ = MathHelper.ceil((area.maxZ + World.MAX_ENTITY_RADIUS) / 16.0D);
+        for (int chunkX = minChunkX; chunkX < maxChunkX; chunkX++)
+        {
+            for (int chunkZ = minChunkZ; chunkZ < maxChunkZ; chunkZ++)
             {
-                femaleAnimal.setInLove(null);
-                maleAnimal.setInLove(null);
-                break;
+                Chunk chunk = world.getChunkProvider().getLoadedChunk(chunkX, chunkZ);
+                if (chunk == null)
+                {
+                    continue;
+                }
+                ClassInheritanceMultiMap<Entity>[] entityLists = chunk.getEntityLists();
+                final int minSection = MathHelper.clamp(MathHelper.floor((area.minY - World.MAX_ENTITY_RADIUS) / 16.0D), 0, entityLists.length - 1);
+                final int maxSection = MathHelper.clamp(MathHelper.floor((area.maxY + World.MAX_ENTITY_RADIUS) / 16.0D), 0, entityLists.length - 1);
+                for (int section = minSection; section <= maxSection; section++)
+                {
+                    for (E femaleAnimal : entityLists[section].getByClass(femaleClass))
+                    {
+                        if (femaleAnimal instanceof IAnimalTFC && ((IAnimalTFC) femaleAnimal).getGender() == Gender.FEMALE && !femaleAnimal.isInLove()
+                            && femaleAnimal.getEntityBoundingBox().intersects(area) && filter.test(femaleAnimal) && ((IAnimalTFC) femaleAnimal).isReadyToMate())
+                        {
+                            return femaleAnimal;
+                        }
+                    }
+                }
             }
         }
+        return null;
     }
 
     public static <T extends EntityAnimal & IAnimalTFC> void addCommonLivestockAI(T entity, double speedMult)
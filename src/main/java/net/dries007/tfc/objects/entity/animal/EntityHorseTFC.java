@@ -578,18 +578,11 @@ public class EntityHorseTFC extends EntityHorse implements IAnimalTFC, ILivestoc
      */
     private boolean findFemaleMate()
     {
-        List<AbstractHorse> list = this.world.getEntitiesWithinAABB(AbstractHorse.class, this.getEntityBoundingBox().grow(8.0D));
-        for (AbstractHorse ent : list)
+        AbstractHorse femaleAnimal = EntityAnimalTFC.findReadyFemale(this, AbstractHorse.class, female -> female instanceof EntityHorseTFC || female instanceof EntityDonkeyTFC);
+        if (femaleAnimal != null)
         {
-            if (ent instanceof EntityHorseTFC || ent instanceof EntityDonkeyTFC)
-            {
-                IAnimalTFC animal = (IAnimalTFC) ent;
-                if (animal.getGender() == Gender.FEMALE && animal.isReadyToMate() && !ent.isInLove())
-                {
-                    ent.setInLove(null);
-                    return true;
-                }
-            }
+            femaleAnimal.setInLove(null);
+            return true;
         }
         return false;
     }
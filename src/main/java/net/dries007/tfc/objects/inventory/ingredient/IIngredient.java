@@ -5,8 +5,10 @@
 
 package net.dries007.tfc.objects.inventory.ingredient;
 
+import java.util.Collection;
 import java.util.function.Predicate;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 
 import net.minecraft.block.Block;
 import net.minecraft.item.Item;
@@ -96,6 +98,28 @@ public interface IIngredient<T> extends Predicate<T>
         return NonNullList.create();
     }
 
+    /**
+     * This is used by {@link net.dries007.tfc.api.recipes.RecipeIndex} to only test recipes that could match an input
+     * Item stack ingredients return the {@link Item}s they can match, fluid ingredients return the names of the {@link Fluid}s they can match
+     *
+     * @return every key that an input matching this ingredient could have, or null if unknown (i.e. the ingredient is tested against every input)
+     */
+    @Nullable
+    default Collection<?> getIndexKeys()
+    {
+        return null;
+    }
+
+    /**
+     * This is used by {@link net.dries007.tfc.api.capability.ItemCapabilityResolver} to cache which items an ingredient matches
+     *
+     * @return true if {@link #testIgnoreCount(Object)} of a non empty item stack only depends on the item and metadata (not the nbt, or capabilities)
+     */
+    default boolean matchesByItemAndMeta()
+    {
+        return false;
+    }
+
     /**
      * This is used by recipes to test if the ingredient matches the input
      *
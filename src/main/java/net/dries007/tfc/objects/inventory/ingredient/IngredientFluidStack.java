@@ -5,6 +5,8 @@
 
 package net.dries007.tfc.objects.inventory.ingredient;
 
+import java.util.Collection;
+import java.util.Collections;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
@@ -32,6 +34,12 @@ public class IngredientFluidStack implements IIngredient<FluidStack>
         return NonNullList.withSize(1, inputFluid.copy());
     }
 
+    @Override
+    public Collection<?> getIndexKeys()
+    {
+        return Collections.singleton(inputFluid.getFluid().getName());
+    }
+
     @Override
     public boolean test(FluidStack fluidStack)
     {
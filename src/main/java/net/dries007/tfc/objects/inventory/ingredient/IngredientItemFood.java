@@ -5,6 +5,8 @@
 
 package net.dries007.tfc.objects.inventory.ingredient;
 
+import java.util.Collection;
+
 import net.minecraft.item.ItemStack;
 import net.minecraft.util.NonNullList;
 
@@ -38,6 +40,12 @@ public class IngredientItemFood implements IIngredient<ItemStack>
         return ingredients;
     }
 
+    @Override
+    public Collection<?> getIndexKeys()
+    {
+        return innerIngredient.getIndexKeys();
+    }
+
     @Override
     public boolean test(ItemStack input)
     {
@@ -5,6 +5,8 @@
 
 package net.dries007.tfc.objects.inventory.ingredient;
 
+import java.util.Collection;
+import java.util.Collections;
 import javax.annotation.Nonnull;
 
 import net.minecraft.item.ItemStack;
@@ -26,6 +28,18 @@ public class IngredientItemStack implements IIngredient<ItemStack>
         return NonNullList.withSize(1, inputStack.copy());
     }
 
+    @Override
+    public Collection<?> getIndexKeys()
+    {
+        return Collections.singleton(inputStack.getItem());
+    }
+
+    @Override
+    public boolean matchesByItemAndMeta()
+    {
+        return true;
+    }
+
     @Override
     public boolean test(ItemStack stack)
     {
@@ -5,6 +5,10 @@
 
 package net.dries007.tfc.objects.inventory.ingredient;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
 import net.minecraft.util.NonNullList;
 import net.minecraftforge.fluids.Fluid;
 import net.minecraftforge.fluids.FluidStack;
@@ -32,6 +36,17 @@ public class IngredientMultipleFluidStack implements IIngredient<FluidStack>
         return output;
     }
 
+    @Override
+    public Collection<?> getIndexKeys()
+    {
+        List<String> names = new ArrayList<>(fluids.length);
+        for (Fluid fluid : fluids)
+        {
+            names.add(fluid.getName());
+        }
+        return names;
+    }
+
     @Override
     public boolean test(FluidStack input)
     {
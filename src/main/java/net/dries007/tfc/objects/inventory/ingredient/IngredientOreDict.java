@@ -5,6 +5,9 @@
 
 package net.dries007.tfc.objects.inventory.ingredient;
 
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
 import javax.annotation.Nonnull;
 
 import net.minecraft.item.ItemStack;
@@ -42,6 +45,23 @@ public class IngredientOreDict implements IIngredient<ItemStack>
         return output;
     }
 
+    @Override
+    public Collection<?> getIndexKeys()
+    {
+        Set<Object> items = new HashSet<>();
+        for (ItemStack stack : OreDictionary.getOres(oreName, false))
+        {
+            items.add(stack.getItem());
+        }
+        return items;
+    }
+
+    @Override
+    public boolean matchesByItemAndMeta()
+    {
+        return true;
+    }
+
     @Override
     public boolean test(ItemStack stack)
     {
@@ -53,6 +53,8 @@ public class ItemGoldPan extends ItemTFC
 {
     public static final String[] TYPES = new String[] {"empty", "sand", "gravel", "clay", "dirt"};
 
+    private Ore[] pannableOres; // In registry order, which decides the ores found in each chunk
+
     public ItemGoldPan()
     {
         setMaxDamage(0);
@@ -158,16 +160,13 @@ public class ItemGoldPan extends ItemTFC
                             if (chunkDataTFC.canWork(6))
                             {
                                 Random rand = new Random(world.getSeed() + chunk.getPos().x * 241179128412L + chunk.getPos().z * 327910215471L);
-                                TFCRegistries.ORES.getValuesCollection()
-                                    .stream()
-                                    .filter(Ore::canPan)
-                                    .filter(x -> rand.nextDouble() < x.getChunkChance())
-                                    .forEach(x -> {
-                                        if (Constants.RNG.nextDouble() < x.getPanChance())
-                                        {
-                                            Helpers.spawnItemStack(world, player.getPosition(), new ItemStack(ItemSmallOre.get(x)));
-                                        }
-                                    });
+                                for (Ore ore : getPannableOres())
+                                {
+                                    if (rand.nextDouble() < ore.getChunkChance() && Constants.RNG.nextDouble() < ore.getPanChance())
+                                    {
+                                        Helpers.spawnItemStack(world, player.getPosition(), new ItemStack(ItemSmallOre.get(ore)));
+                                    }
+                                }
                                 chunkDataTFC.addWork(6);
                                 // player.inventory.setInventorySlotContents(player.inventory.currentItem, stack); //only way to get it to refresh! <- do we really *need* this?
                             }
@@ -193,6 +192,15 @@ public class ItemGoldPan extends ItemTFC
         return stack;
     }
 
+    private Ore[] getPannableOres()
+    {
+        if (pannableOres == null)
+        {
+            pannableOres = TFCRegistries.ORES.getValuesCollection().stream().filter(Ore::canPan).toArray(Ore[]::new);
+        }
+        return pannableOres;
+    }
+
     @Override
     public String getTranslationKey(ItemStack stack)
     {
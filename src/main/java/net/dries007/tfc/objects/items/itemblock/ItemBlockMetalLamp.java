@@ -28,6 +28,7 @@ import net.minecraftforge.fml.relauncher.Side;
 import net.minecraftforge.fml.relauncher.SideOnly;
 
 import net.dries007.tfc.ConfigTFC;
+import net.dries007.tfc.api.capability.ItemCapabilityResolver;
 import net.dries007.tfc.api.capability.heat.CapabilityItemHeat;
 import net.dries007.tfc.api.capability.heat.ItemHeatHandler;
 import net.dries007.tfc.api.capability.metal.IMetalItem;
@@ -67,6 +68,7 @@ public class ItemBlockMetalLamp extends ItemBlockTFC implements IMetalItem
 
         // In the interest of not writing a joint heat / fluid capability that extends ICapabilityProvider, I think this is justified
         CapabilityItemHeat.CUSTOM_ITEMS.put(IIngredient.of(this), () -> new ItemHeatHandler(null, metal.getSpecificHeat(), metal.getMeltTemp()));
+        ItemCapabilityResolver.invalidate();
         OreDictionaryHelper.register(this, "lamp");
     }
 
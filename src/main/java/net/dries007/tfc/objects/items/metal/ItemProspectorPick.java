@@ -26,7 +26,10 @@ import net.minecraft.util.*;
 import net.minecraft.util.math.AxisAlignedBB;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.storage.ExtendedBlockStorage;
 
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
 import net.dries007.tfc.ConfigTFC;
 import net.dries007.tfc.TerraFirmaCraft;
 import net.dries007.tfc.api.capability.player.CapabilityPlayerData;
@@ -34,6 +37,8 @@ import net.dries007.tfc.api.types.Metal;
 import net.dries007.tfc.api.types.Ore;
 import net.dries007.tfc.util.skills.ProspectingSkill;
 import net.dries007.tfc.util.skills.SkillType;
+import net.dries007.tfc.world.classic.chunkdata.ChunkDataTFC;
+import net.dries007.tfc.world.classic.chunkdata.ChunkOreIndex;
 import net.dries007.tfc.world.classic.worldgen.vein.VeinRegistry;
 import net.dries007.tfc.world.classic.worldgen.vein.VeinType;
 
@@ -132,7 +137,9 @@ public class ItemProspectorPick extends ItemMetalTool
     }
 
     /**
-     * Loops through every block in a 25x25x25 cube around the center
+     * Counts the ores in a 25x25x25 cube around the center
+     * Uses the ore index of each chunk section: sections without ores are skipped, and {@link net.dries007.tfc.objects.blocks.stone.BlockOreTFC} ores in sections entirely inside the cube are counted without looking at each block
+     * Counts of other ores may be out of date (see {@link ChunkOreIndex}), so sections with those are always read block by block
      *
      * @param world  The world
      * @param center The center position
@@ -142,25 +149,90 @@ public class ItemProspectorPick extends ItemMetalTool
     private Collection<ProspectResult> scanSurroundingBlocks(World world, BlockPos center)
     {
         Map<String, ProspectResult> results = new HashMap<>();
-        for (BlockPos.MutableBlockPos pos : BlockPos.MutableBlockPos.getAllInBoxMutable(center.add(-PROSPECT_RADIUS, -PROSPECT_RADIUS, -PROSPECT_RADIUS), center.add(PROSPECT_RADIUS, PROSPECT_RADIUS, PROSPECT_RADIUS)))
+        final int minX = center.getX() - PROSPECT_RADIUS, maxX = center.getX() + PROSPECT_RADIUS;
+        final int minY = Math.max(0, center.getY() - PROSPECT_RADIUS), maxY = Math.min(255, center.getY() + PROSPECT_RADIUS);
+        final int minZ = center.getZ() - PROSPECT_RADIUS, maxZ = center.getZ() + PROSPECT_RADIUS;
+        final BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+        for (int chunkX = minX >> 4; chunkX <= maxX >> 4; chunkX++)
         {
-            ItemStack stack = getOreStack(world, pos, world.getBlockState(pos), true);
-            if (!stack.isEmpty())
+            for (int chunkZ = minZ >> 4; chunkZ <= maxZ >> 4; chunkZ++)
             {
-                String oreName = stack.getDisplayName();
-                if (results.containsKey(oreName))
+                final Chunk chunk = world.getChunk(chunkX, chunkZ);
+                final ChunkDataTFC data = ChunkDataTFC.get(chunk);
+                final int x0 = Math.max(minX, chunkX << 4), x1 = Math.min(maxX, (chunkX << 4) + 15);
+                final int z0 = Math.max(minZ, chunkZ << 4), z1 = Math.min(maxZ, (chunkZ << 4) + 15);
+                if (!data.isInitialized())
                 {
-                    results.get(oreName).score += 1;
+                    // Not a TFC chunk, so there is no index
+                    for (BlockPos.MutableBlockPos posAt : BlockPos.MutableBlockPos.getAllInBoxMutable(x0, minY, z0, x1, maxY, z1))
+                    {
+                        addResult(results, getOreStack(world, posAt, world.getBlockState(posAt), true), 1);
+                    }
+                    continue;
                 }
-                else
+
+                final ChunkOreIndex ores = data.getOreIndex();
+                if (!ores.isIndexed())
                 {
-                    results.put(oreName, new ProspectResult(stack, 1));
+                    ores.scan(chunk);
+                }
+                for (int sectionY = minY >> 4; sectionY <= maxY >> 4; sectionY++)
+                {
+                    final Object2IntMap<IBlockState> counts = ores.getSection(sectionY);
+                    if (counts == null)
+                    {
+                        continue;
+                    }
+                    final int y0 = Math.max(minY, sectionY << 4), y1 = Math.min(maxY, (sectionY << 4) + 15);
+                    if (x1 - x0 == 15 && y1 - y0 == 15 && z1 - z0 == 15 && ChunkOreIndex.isExact(counts))
+                    {
+                        // The whole section is in range. BlockOreTFC's pick block only depends on the state, so no block needs to be read
+                        for (Object2IntMap.Entry<IBlockState> entry : counts.object2IntEntrySet())
+                        {
+                            addResult(results, new ItemStack(entry.getKey().getBlock()), entry.getIntValue());
+                        }
+                    }
+                    else if (chunk.getBlockStorageArray()[sectionY] != Chunk.NULL_BLOCK_STORAGE)
+                    {
+                        final ExtendedBlockStorage storage = chunk.getBlockStorageArray()[sectionY];
+                        for (int y = y0; y <= y1; y++)
+                        {
+                            for (int z = z0; z <= z1; z++)
+                            {
+                                for (int x = x0; x <= x1; x++)
+                                {
+                                    final IBlockState state = storage.get(x & 15, y & 15, z & 15);
+                                    if (ChunkOreIndex.isOre(state))
+                                    {
+                                        pos.setPos(x, y, z);
+                                        addResult(results, getOreStack(world, pos, state, true), 1);
+                                    }
+                                }
+                            }
+                        }
+                    }
                 }
             }
         }
         return results.values();
     }
 
+    private void addResult(Map<String, ProspectResult> results, ItemStack stack, int amount)
+    {
+        if (!stack.isEmpty())
+        {
+            String oreName = stack.getDisplayName();
+            if (results.containsKey(oreName))
+            {
+                results.get(oreName).score += amount;
+            }
+            else
+            {
+                results.put(oreName, new ProspectResult(stack, amount));
+            }
+        }
+    }
+
     @Nonnull
     private ItemStack getOreStack(World world, BlockPos pos, IBlockState state, boolean ignoreGrade)
     {
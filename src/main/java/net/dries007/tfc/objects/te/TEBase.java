@@ -13,37 +13,55 @@ import net.minecraft.block.state.IBlockState;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.network.NetworkManager;
 import net.minecraft.network.play.server.SPacketUpdateTileEntity;
-import net.minecraft.server.management.PlayerChunkMapEntry;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
 import net.minecraft.world.WorldServer;
+import net.minecraftforge.fml.common.network.NetworkRegistry;
+
+import net.dries007.tfc.TerraFirmaCraft;
+import net.dries007.tfc.network.PacketTileEntityDelta;
+import net.dries007.tfc.util.NBTDelta;
 
 /**
  * TE Implementation that syncs NBT on world / chunk load, and on block updates
+ * Syncs requested with {@link #markForSync()} only send the difference to the NBT the clients already have (see {@link NBTDelta}), so an inventory TE that only changed its temperature does not send every item again.
+ * Both the server and the client keep the last synced NBT: the server to compute the difference, and the client to apply it to. Every full sync (chunk load or block update) resets both.
  */
 @ParametersAreNonnullByDefault
 public abstract class TEBase extends TileEntity
 {
+    private NBTTagCompound syncedNbt; // The NBT all watching clients have, or on client, the NBT received from the server
+
     /**
-     * Gets the update packet that is used to sync the TE on load
+     * Gets the update packet that is used to sync the TE on block updates. This is sent to every watching player
      */
     @Override
     @Nullable
     public SPacketUpdateTileEntity getUpdatePacket()
     {
-        return new SPacketUpdateTileEntity(getPos(), 1, getUpdateTag());
+        NBTTagCompound nbt = writeUpdateTag();
+        if (world != null && !world.isRemote)
+        {
+            syncedNbt = nbt.copy();
+        }
+        return new SPacketUpdateTileEntity(getPos(), 1, nbt);
     }
 
     /**
      * Gets the update tag send by packets. Contains base data (i.e. position), as well as TE specific data
+     * This is sent to a single player, when they start watching the chunk
      */
     @Nonnull
     @Override
     public NBTTagCompound getUpdateTag()
     {
-        NBTTagCompound nbt = new NBTTagCompound();
-        writeToNBT(nbt);
+        NBTTagCompound nbt = writeUpdateTag();
+        if (world != null && !world.isRemote)
+        {
+            // Bring the players already watching up to date as well, so all watching players have the same NBT to apply differences to
+            sendSyncDelta(nbt);
+        }
         return nbt;
     }
 
@@ -53,6 +71,7 @@ public abstract class TEBase extends TileEntity
     @Override
     public void onDataPacket(NetworkManager net, SPacketUpdateTileEntity pkt)
     {
+        syncedNbt = pkt.getNbtCompound().copy();
         readFromNBT(pkt.getNbtCompound());
     }
 
@@ -62,9 +81,22 @@ public abstract class TEBase extends TileEntity
     @Override
     public void handleUpdateTag(NBTTagCompound nbt)
     {
+        syncedNbt = nbt.copy();
         readFromNBT(nbt);
     }
 
+    /**
+     * Handles updating on client side when the difference to the last synced NBT is received, see {@link #markForSync()}
+     */
+    public void onReceiveSyncDelta(NBTTagCompound delta)
+    {
+        if (syncedNbt != null)
+        {
+            NBTDelta.apply(syncedNbt, delta);
+            readFromNBT(syncedNbt.copy());
+        }
+    }
+
     @Override
     public boolean shouldRefresh(World world, BlockPos pos, IBlockState oldState, IBlockState newSate)
     {
@@ -91,20 +123,36 @@ public abstract class TEBase extends TileEntity
      */
     public void markForSync()
     {
-        sendVanillaUpdatePacket();
+        if (world instanceof WorldServer)
+        {
+            sendSyncDelta(writeUpdateTag());
+        }
         markDirty();
     }
 
-    private void sendVanillaUpdatePacket()
+    @Nonnull
+    private NBTTagCompound writeUpdateTag()
+    {
+        NBTTagCompound nbt = new NBTTagCompound();
+        writeToNBT(nbt);
+        return nbt;
+    }
+
+    /**
+     * Sends the difference between the last synced NBT and the current NBT to all watching players
+     */
+    private void sendSyncDelta(NBTTagCompound nbt)
     {
-        SPacketUpdateTileEntity packet = getUpdatePacket();
-        if (packet != null && world instanceof WorldServer)
+        // Copied, as NBT written by items may be shared with the item stack, which can still change
+        NBTTagCompound current = nbt.copy();
+        if (syncedNbt != null)
         {
-            PlayerChunkMapEntry chunk = ((WorldServer) world).getPlayerChunkMap().getEntry(pos.getX() >> 4, pos.getZ() >> 4);
-            if (chunk != null)
+            NBTTagCompound delta = NBTDelta.diff(syncedNbt, current);
+            if (delta != null)
             {
-                chunk.sendPacket(packet);
+                TerraFirmaCraft.getNetwork().sendToAllTracking(new PacketTileEntityDelta(pos, delta), new NetworkRegistry.TargetPoint(world.provider.getDimension(), pos.getX(), pos.getY(), pos.getZ(), 0));
             }
         }
+        syncedNbt = current;
     }
 }
\ No newline at end of file
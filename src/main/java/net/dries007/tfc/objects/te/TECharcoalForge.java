@@ -32,6 +32,7 @@ import net.dries007.tfc.util.calendar.CalendarTFC;
 import net.dries007.tfc.util.calendar.ICalendarTickable;
 import net.dries007.tfc.util.fuel.Fuel;
 import net.dries007.tfc.util.fuel.FuelManager;
+import net.dries007.tfc.util.fuel.FuelSlotCache;
 
 import static net.dries007.tfc.objects.blocks.property.ILightableBlock.LIT;
 
@@ -48,6 +49,7 @@ public class TECharcoalForge extends TETickableInventory implements ICalendarTic
     public static final int FIELD_TEMPERATURE = 0;
 
     private final HeatRecipe[] cachedRecipes = new HeatRecipe[5];
+    private final FuelSlotCache cachedFuels = new FuelSlotCache(SLOT_FUEL_MIN, SLOT_FUEL_MAX);
     private boolean requiresSlotUpdate = false;
     private float temperature; // Current Temperature
     private int burnTicks; // Ticks remaining on the current item of fuel
@@ -118,9 +120,9 @@ public class TECharcoalForge extends TETickableInventory implements ICalendarTic
                     }
                     else
                     {
+                        Fuel fuel = cachedFuels.get(inventory, SLOT_FUEL_MIN);
                         inventory.setStackInSlot(SLOT_FUEL_MIN, ItemStack.EMPTY);
                         requiresSlotUpdate = true;
-                        Fuel fuel = FuelManager.getFuel(stack);
                         burnTicks = fuel.getAmount();
                         burnTemperature = fuel.getTemperature();
                     }
@@ -214,8 +216,7 @@ public class TECharcoalForge extends TETickableInventory implements ICalendarTic
         requiresSlotUpdate = true;
         for (int i = SLOT_FUEL_MIN; i <= SLOT_FUEL_MAX; i++)
         {
-            ItemStack fuelStack = inventory.getStackInSlot(i);
-            Fuel fuel = FuelManager.getFuel(fuelStack);
+            Fuel fuel = cachedFuels.get(inventory, i);
             inventory.setStackInSlot(i, ItemStack.EMPTY);
             if (fuel.getAmount() > deltaPlayerTicks)
             {
@@ -270,6 +271,7 @@ public class TECharcoalForge extends TETickableInventory implements ICalendarTic
     {
         super.setAndUpdateSlots(slot);
         requiresSlotUpdate = true;
+        cachedFuels.invalidate(slot);
         updateCachedRecipes();
     }
 
@@ -14,12 +14,11 @@ import net.minecraft.block.BlockChest;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.init.SoundEvents;
-import net.minecraft.inventory.IInventory;
-import net.minecraft.inventory.InventoryLargeChest;
 import net.minecraft.item.ItemStack;
 import net.minecraft.tileentity.TileEntityChest;
 import net.minecraft.util.NonNullList;
 import net.minecraft.util.SoundCategory;
+import net.minecraft.util.SoundEvent;
 import net.minecraft.util.math.AxisAlignedBB;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
@@ -28,12 +27,12 @@ import net.minecraftforge.fml.relauncher.SideOnly;
 import net.minecraftforge.items.CapabilityItemHandler;
 
 import mcp.MethodsReturnNonnullByDefault;
+import net.dries007.tfc.TerraFirmaCraft;
 import net.dries007.tfc.api.capability.size.CapabilityItemSize;
 import net.dries007.tfc.api.capability.size.IItemSize;
 import net.dries007.tfc.api.capability.size.Size;
 import net.dries007.tfc.api.types.Tree;
 import net.dries007.tfc.objects.blocks.wood.BlockChestTFC;
-import net.dries007.tfc.objects.container.ContainerChestTFC;
 import net.dries007.tfc.objects.inventory.capability.ISlotCallback;
 import net.dries007.tfc.objects.inventory.capability.TFCDoubleChestItemHandler;
 
@@ -44,11 +43,9 @@ public class TEChestTFC extends TileEntityChest implements ISlotCallback
     public static final int SIZE = 18;
 
     private Tree cachedWood;
-    private int shadowTicksSinceSync;
 
     {
         chestContents = NonNullList.withSize(SIZE, ItemStack.EMPTY);
-        shadowTicksSinceSync = 0;
     }
 
     @Nullable
@@ -79,89 +76,53 @@ public class TEChestTFC extends TileEntityChest implements ISlotCallback
         return block instanceof BlockChestTFC && ((BlockChestTFC) block).wood == getWood() && ((BlockChest) block).chestType == getChestType();
     }
 
+    /**
+     * Chests don't need to tick: the number of players using a chest changes when it is opened or closed, and lids are animated on the client by {@link net.dries007.tfc.client.render.ChestLidAnimator}
+     * {@link TileEntityChest} is {@link net.minecraft.util.ITickable}, so chests are taken out of the ticking list when loaded
+     */
     @Override
-    public void update()
+    public void onLoad()
     {
-        checkForAdjacentChests();
-        shadowTicksSinceSync++;
+        TickableRemover.remove(this);
+    }
 
-        if (!world.isRemote && numPlayersUsing != 0 && (shadowTicksSinceSync + pos.getX() + pos.getY() + pos.getZ()) % 200 == 0)
-        {
-            numPlayersUsing = 0;
+    /**
+     * Not ticked, see {@link #onLoad()}
+     */
+    @Override
+    public void update() {}
 
-            for (EntityPlayer player : world.getEntitiesWithinAABB(EntityPlayer.class, new AxisAlignedBB(pos.add(-5, -5, -5), pos.add(6, 6, 6))))
-            {
-                if (player.openContainer instanceof ContainerChestTFC)
-                {
-                    IInventory iinventory = ((ContainerChestTFC) player.openContainer).getLowerChestInventory();
-                    if (iinventory == this || iinventory instanceof InventoryLargeChest && ((InventoryLargeChest) iinventory).isPartOfLargeChest(this))
-                    {
-                        ++numPlayersUsing;
-                    }
-                }
-            }
+    @Override
+    public void openInventory(EntityPlayer player)
+    {
+        int previousPlayersUsing = numPlayersUsing;
+        super.openInventory(player);
+        if (!world.isRemote && previousPlayersUsing <= 0 && numPlayersUsing > 0)
+        {
+            playSound(SoundEvents.BLOCK_CHEST_OPEN);
         }
+    }
 
-        prevLidAngle = lidAngle;
-
-        if (numPlayersUsing > 0 && lidAngle == 0.0F && adjacentChestZNeg == null && adjacentChestXNeg == null)
+    @Override
+    public void closeInventory(EntityPlayer player)
+    {
+        int previousPlayersUsing = numPlayersUsing;
+        super.closeInventory(player);
+        if (!world.isRemote && previousPlayersUsing > 0 && numPlayersUsing == 0)
         {
-            double centerX = pos.getX() + 0.5D;
-            double centerZ = pos.getZ() + 0.5D;
-
-            if (adjacentChestZPos != null)
-            {
-                centerZ += 0.5D;
-            }
-
-            if (adjacentChestXPos != null)
-            {
-                centerX += 0.5D;
-            }
-
-            world.playSound(null, centerX, pos.getY() + 0.5D, centerZ, SoundEvents.BLOCK_CHEST_OPEN, SoundCategory.BLOCKS, 0.5F, world.rand.nextFloat() * 0.1F + 0.9F);
+            playSound(SoundEvents.BLOCK_CHEST_CLOSE);
         }
+    }
 
-        if (numPlayersUsing == 0 && lidAngle > 0.0F || numPlayersUsing > 0 && lidAngle < 1.0F)
+    @Override
+    public boolean receiveClientEvent(int id, int type)
+    {
+        boolean result = super.receiveClientEvent(id, type);
+        if (id == 1 && world.isRemote)
         {
-            float initialAngle = this.lidAngle;
-            if (numPlayersUsing > 0)
-            {
-                lidAngle += 0.1F;
-            }
-            else
-            {
-                lidAngle -= 0.1F;
-            }
-
-            if (lidAngle > 1.0F)
-            {
-                lidAngle = 1.0F;
-            }
-
-            if (lidAngle < 0.5F && initialAngle >= 0.5F && adjacentChestZNeg == null && adjacentChestXNeg == null)
-            {
-                double centerX = pos.getX() + 0.5D;
-                double centerZ = pos.getZ() + 0.5D;
-
-                if (adjacentChestZPos != null)
-                {
-                    centerZ += 0.5D;
-                }
-
-                if (adjacentChestXPos != null)
-                {
-                    centerX += 0.5D;
-                }
-
-                world.playSound(null, centerX, pos.getY() + 0.5D, centerZ, SoundEvents.BLOCK_CHEST_CLOSE, SoundCategory.BLOCKS, 0.5F, world.rand.nextFloat() * 0.1F + 0.9F);
-            }
-
-            if (lidAngle < 0.0F)
-            {
-                lidAngle = 0.0F;
-            }
+            TerraFirmaCraft.getProxy().onChestUsersChanged(this);
         }
+        return result;
     }
 
     @SuppressWarnings("unchecked")
@@ -214,4 +175,29 @@ public class TEChestTFC extends TileEntityChest implements ISlotCallback
     {
         return isItemValidForSlot(slot, stack);
     }
+
+    /**
+     * Plays a sound from the center of this chest, only for the half of a double chest that is rendered
+     */
+    private void playSound(SoundEvent sound)
+    {
+        checkForAdjacentChests();
+        if (adjacentChestZNeg == null && adjacentChestXNeg == null)
+        {
+            double centerX = pos.getX() + 0.5D;
+            double centerZ = pos.getZ() + 0.5D;
+
+            if (adjacentChestZPos != null)
+            {
+                centerZ += 0.5D;
+            }
+
+            if (adjacentChestXPos != null)
+            {
+                centerX += 0.5D;
+            }
+
+            world.playSound(null, centerX, pos.getY() + 0.5D, centerZ, sound, SoundCategory.BLOCKS, 0.5F, world.rand.nextFloat() * 0.1F + 0.9F);
+        }
+    }
 }
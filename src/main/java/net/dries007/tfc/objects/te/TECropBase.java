@@ -5,64 +5,84 @@
 
 package net.dries007.tfc.objects.te;
 
-import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import javax.annotation.ParametersAreNonnullByDefault;
 
-import net.minecraft.nbt.NBTTagCompound;
-import net.minecraft.util.ITickable;
+import net.minecraft.block.Block;
 
+import net.dries007.tfc.api.capability.worldtracker.CapabilityWorldTracker;
+import net.dries007.tfc.api.capability.worldtracker.WorldTracker;
 import net.dries007.tfc.objects.blocks.agriculture.BlockCropTFC;
 import net.dries007.tfc.util.calendar.CalendarTFC;
-import net.dries007.tfc.util.calendar.ICalendarTickable;
 
+/**
+ * Crops do not tick. Instead, they register with the world's {@link net.dries007.tfc.util.agriculture.CropGrowthScheduler}, which calls {@link BlockCropTFC#checkGrowth} once they are able to grow.
+ */
 @ParametersAreNonnullByDefault
-public class TECropBase extends TETickCounter implements ICalendarTickable, ITickable
+public class TECropBase extends TETickCounter
 {
-    protected long lastTickCalChecked;
-
-    public TECropBase()
+    @Override
+    public void onLoad()
     {
-        lastTickCalChecked = CalendarTFC.PLAYER_TIME.getTicks();
+        super.onLoad();
+        scheduleGrowth();
     }
 
     @Override
-    public void onCalendarUpdate(long playerTickDelta)
+    public void onChunkUnload()
     {
-        BlockCropTFC block = (BlockCropTFC) getBlockType();
-        block.checkGrowth(world, pos, world.getBlockState(pos), world.rand);
+        super.onChunkUnload();
+        unscheduleGrowth();
     }
 
     @Override
-    public long getLastUpdateTick()
+    public void invalidate()
     {
-        return lastTickCalChecked;
+        super.invalidate();
+        unscheduleGrowth();
     }
 
     @Override
-    public void setLastUpdateTick(long tick)
+    public void resetCounter()
     {
-        lastTickCalChecked = tick;
-        markDirty();
+        super.resetCounter();
+        scheduleGrowth();
     }
 
-    @Override
-    public void readFromNBT(NBTTagCompound nbt)
+    /**
+     * Registers (or updates) the tick at which this crop is next able to grow
+     */
+    public void scheduleGrowth()
     {
-        lastTickCalChecked = nbt.getLong("lastTickCalChecked");
-        super.readFromNBT(nbt);
+        WorldTracker tracker = getTracker();
+        if (tracker != null)
+        {
+            Block block = getBlockType();
+            if (block instanceof BlockCropTFC)
+            {
+                // Growth happens once the ticks since update exceed the growth ticks
+                long growthTicks = ((BlockCropTFC) block).getGrowthTicks();
+                tracker.getCropScheduler().schedule(pos, CalendarTFC.PLAYER_TIME.getTicks() - getTicksSinceUpdate() + growthTicks + 1);
+            }
+        }
     }
 
-    @Nonnull
-    @Override
-    public NBTTagCompound writeToNBT(NBTTagCompound nbt)
+    private void unscheduleGrowth()
     {
-        nbt.setLong("lastTickCalChecked", lastTickCalChecked);
-        return super.writeToNBT(nbt);
+        WorldTracker tracker = getTracker();
+        if (tracker != null)
+        {
+            tracker.getCropScheduler().remove(pos);
+        }
     }
 
-    @Override
-    public void update()
+    @Nullable
+    private WorldTracker getTracker()
     {
-        ICalendarTickable.super.checkForCalendarUpdate();
+        if (world != null && !world.isRemote)
+        {
+            return world.getCapability(CapabilityWorldTracker.CAPABILITY, null);
+        }
+        return null;
     }
 }
@@ -50,6 +50,7 @@ import net.dries007.tfc.util.calendar.CalendarTFC;
 import net.dries007.tfc.util.calendar.ICalendarTickable;
 import net.dries007.tfc.util.fuel.Fuel;
 import net.dries007.tfc.util.fuel.FuelManager;
+import net.dries007.tfc.util.fuel.FuelSlotCache;
 
 import static net.dries007.tfc.objects.blocks.devices.BlockFirePit.ATTACHMENT;
 import static net.dries007.tfc.objects.blocks.devices.BlockFirePit.LIT;
@@ -76,6 +77,7 @@ public class TEFirePit extends TETickableInventory implements ICalendarTickable,
     private final Queue<ItemStack> leftover = new LinkedList<>(); // Leftover items when we can't merge output into any output slot.
     // Grill
     private final HeatRecipe[] cachedGrillRecipes;
+    private final FuelSlotCache cachedFuels = new FuelSlotCache(SLOT_FUEL_CONSUME, SLOT_FUEL_INPUT);
     private HeatRecipe cachedRecipe;
     private boolean requiresSlotUpdate = false;
     private float temperature; // Current Temperature
@@ -154,9 +156,9 @@ public class TEFirePit extends TETickableInventory implements ICalendarTickable,
                     }
                     else
                     {
+                        Fuel fuel = cachedFuels.get(inventory, SLOT_FUEL_CONSUME);
                         inventory.setStackInSlot(SLOT_FUEL_CONSUME, ItemStack.EMPTY);
                         requiresSlotUpdate = true;
-                        Fuel fuel = FuelManager.getFuel(stack);
                         burnTicks += fuel.getAmount();
                         burnTemperature = fuel.getTemperature();
                     }
@@ -353,8 +355,7 @@ public class TEFirePit extends TETickableInventory implements ICalendarTickable,
         requiresSlotUpdate = true;
         for (int i = SLOT_FUEL_CONSUME; i <= SLOT_FUEL_INPUT; i++)
         {
-            ItemStack fuelStack = inventory.getStackInSlot(i);
-            Fuel fuel = FuelManager.getFuel(fuelStack);
+            Fuel fuel = cachedFuels.get(inventory, i);
             inventory.setStackInSlot(i, ItemStack.EMPTY);
             if (fuel.getAmount() > deltaPlayerTicks)
             {
@@ -400,6 +401,7 @@ public class TEFirePit extends TETickableInventory implements ICalendarTickable,
     {
         this.markDirty();
         requiresSlotUpdate = true;
+        cachedFuels.invalidate(slot);
 
         // Update cached recipe
         cachedRecipe = HeatRecipe.get(inventory.getStackInSlot(SLOT_ITEM_INPUT));
@@ -531,7 +533,8 @@ public class TEFirePit extends TETickableInventory implements ICalendarTickable,
         switch (slot)
         {
             case SLOT_FUEL_INPUT: // Valid fuel if it is registered correctly
-                return FuelManager.isItemFuel(stack) && !FuelManager.isItemForgeFuel(stack);
+                Fuel fuel = FuelManager.getFuel(stack);
+                return !FuelManager.isEmpty(fuel) && !fuel.isForgeFuel();
             case SLOT_ITEM_INPUT: // Valid input as long as it can be heated
                 return stack.hasCapability(CapabilityItemHeat.ITEM_HEAT_CAPABILITY, null);
             case SLOT_OUTPUT_1:
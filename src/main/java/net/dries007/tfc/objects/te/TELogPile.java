@@ -13,26 +13,21 @@ import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.init.Blocks;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
-import net.minecraft.util.EnumFacing;
-import net.minecraft.util.ITickable;
 import net.minecraft.util.math.MathHelper;
 
 import mcp.MethodsReturnNonnullByDefault;
-import net.dries007.tfc.ConfigTFC;
 import net.dries007.tfc.Constants;
 import net.dries007.tfc.objects.blocks.BlockCharcoalPile;
 import net.dries007.tfc.objects.blocks.BlocksTFC;
 import net.dries007.tfc.objects.blocks.wood.BlockLogPile;
-import net.dries007.tfc.util.Helpers;
+import net.dries007.tfc.objects.blocks.wood.CharcoalPit;
 import net.dries007.tfc.util.OreDictionaryHelper;
-import net.dries007.tfc.util.calendar.CalendarTFC;
 
 import static net.dries007.tfc.objects.blocks.BlockCharcoalPile.LAYERS;
-import static net.dries007.tfc.objects.blocks.property.ILightableBlock.LIT;
 
 @ParametersAreNonnullByDefault
 @MethodsReturnNonnullByDefault
-public class TELogPile extends TEInventory implements ITickable
+public class TELogPile extends TEInventory
 {
     private static final int NUM_SLOTS = 4;
 
@@ -97,30 +92,6 @@ public class TELogPile extends TEInventory implements ITickable
         return !burning && world.getTileEntity(pos) == this;
     }
 
-    @Override
-    public void update()
-    {
-        if (!world.isRemote)
-        {
-            if (burning)
-            {
-                if ((int) (CalendarTFC.PLAYER_TIME.getTicks() - startBurningTick) > ConfigTFC.Devices.CHARCOAL_PIT.ticks)
-                {
-                    // Attempt to turn this log pile into charcoal
-                    createCharcoal();
-                }
-            }
-            else
-            {
-                if (world.getBlockState(pos.up()).getBlock() == Blocks.FIRE)
-                {
-                    burning = true;
-                    startBurningTick = CalendarTFC.PLAYER_TIME.getTicks();
-                }
-            }
-        }
-    }
-
     @Override
     public int getSlotLimit(int slot)
     {
@@ -185,40 +156,45 @@ public class TELogPile extends TEInventory implements ITickable
         return ItemStack.EMPTY;
     }
 
+    /**
+     * Lights this log pile, and the rest of the charcoal pit it is part of
+     */
     public void light()
     {
-        burning = true;
-        startBurningTick = CalendarTFC.PLAYER_TIME.getTicks();
-        tryLightNearby();
-        markDirty();
+        CharcoalPit.light(world, pos);
     }
 
-    public int countLogs()
+    /**
+     * Called by {@link CharcoalPit} for each log pile in the pit. Piles that are already burning keep burning from when they were lit
+     */
+    public void startBurning(long tick)
     {
-        int logs = 0;
-        for (int i = 0; i < inventory.getSlots(); i++)
+        if (!burning)
         {
-            logs += inventory.getStackInSlot(i).getCount();
+            burning = true;
+            startBurningTick = tick;
+            markDirty();
         }
-        return logs;
     }
 
-    private void tryLightNearby()
+    public boolean isBurning()
+    {
+        return burning;
+    }
+
+    public long getStartBurningTick()
     {
-        for (EnumFacing side : EnumFacing.values())
+        return startBurningTick;
+    }
+
+    public int countLogs()
+    {
+        int logs = 0;
+        for (int i = 0; i < inventory.getSlots(); i++)
         {
-            IBlockState state = world.getBlockState(pos.offset(side));
-            if (state.getBlock() instanceof BlockLogPile)
-            {
-                if (state.getValue(LIT)) continue;
-                world.setBlockState(pos.offset(side), state.withProperty(LIT, true));
-                TELogPile tile = Helpers.getTE(world, pos.offset(side), TELogPile.class);
-                if (tile != null)
-                {
-                    tile.light();
-                }
-            }
+            logs += inventory.getStackInSlot(i).getCount();
         }
+        return logs;
     }
 
     /**
@@ -226,7 +202,7 @@ public class TELogPile extends TEInventory implements ITickable
      *
      * @author AlcatrazEscapee
      */
-    private void createCharcoal()
+    public void createCharcoal()
     {
         int j = 0;
         Block block;
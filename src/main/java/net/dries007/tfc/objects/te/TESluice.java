@@ -5,9 +5,6 @@
 
 package net.dries007.tfc.objects.te;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import javax.annotation.ParametersAreNonnullByDefault;
@@ -25,12 +22,13 @@ import net.minecraft.util.ITickable;
 import net.minecraft.util.math.AxisAlignedBB;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.ChunkPos;
-import net.minecraft.world.chunk.Chunk;
 import net.minecraftforge.fluids.BlockFluidBase;
 import net.minecraftforge.fluids.Fluid;
 import net.minecraftforge.fml.relauncher.Side;
 import net.minecraftforge.fml.relauncher.SideOnly;
 
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongList;
 import net.dries007.tfc.ConfigTFC;
 import net.dries007.tfc.Constants;
 import net.dries007.tfc.api.types.Ore;
@@ -42,8 +40,7 @@ import net.dries007.tfc.objects.fluids.FluidsTFC;
 import net.dries007.tfc.objects.items.ItemGem;
 import net.dries007.tfc.objects.items.metal.ItemSmallOre;
 import net.dries007.tfc.util.Helpers;
-import net.dries007.tfc.world.classic.chunkdata.ChunkDataTFC;
-import net.dries007.tfc.world.classic.worldgen.vein.Vein;
+import net.dries007.tfc.world.classic.chunkdata.WorkableOreIndex;
 
 @ParametersAreNonnullByDefault
 public class TESluice extends TEBase implements ITickable
@@ -55,9 +52,15 @@ public class TESluice extends TEBase implements ITickable
         return fluid == FluidsTFC.FRESH_WATER.get() || fluid == FluidsTFC.SALT_WATER.get();
     }
 
+    private static final long NO_CHUNK = Long.MIN_VALUE;
+
     private int soil;
     private int ticksRemaining, delayTimer;
 
+    // Workable chunks in range, cached until the workable ore index changes
+    private long[] workableChunks, workableChunksWithOres;
+    private int indexVersion, cachedRadius, cachedMaxWork;
+
     @Override
     public void update()
     {
@@ -69,25 +72,24 @@ public class TESluice extends TEBase implements ITickable
                 {
                     if (Constants.RNG.nextDouble() < ConfigTFC.Devices.SLUICE.oreChance)
                     {
-                        ChunkDataTFC chunkData = getChunkData(true);
-                        if (chunkData != null)
+                        WorkableOreIndex index = WorkableOreIndex.get(world);
+                        long chunk = getWorkableChunk(index, true);
+                        if (index != null && chunk != NO_CHUNK)
                         {
-                            // Only check for not null veins
-                            List<Vein> veinList = chunkData.getGeneratedVeins()
-                                .stream().filter(vein -> vein.getType() != null && vein.getType().getOre() != null)
-                                .collect(Collectors.toList());
-
-                            //noinspection ConstantConditions
-                            Ore ore = veinList.get(Constants.RNG.nextInt(veinList.size())).getType().getOre();
-                            ItemStack output = new ItemStack(ItemSmallOre.get(ore));
-                            Helpers.spawnItemStack(world, getFrontWaterPos(), output);
-                            chunkData.addWork();
+                            Ore ore = index.getRandomOre((int) chunk, (int) (chunk >> 32), Constants.RNG);
+                            if (ore != null)
+                            {
+                                ItemStack output = new ItemStack(ItemSmallOre.get(ore));
+                                Helpers.spawnItemStack(world, getFrontWaterPos(), output);
+                                WorkableOreIndex.addWork(world, (int) chunk, (int) (chunk >> 32), 1);
+                            }
                         }
                     }
                     else if (Constants.RNG.nextDouble() < ConfigTFC.Devices.SLUICE.gemChance)
                     {
-                        ChunkDataTFC chunkData = getChunkData(false);
-                        if (chunkData != null)
+                        WorkableOreIndex index = WorkableOreIndex.get(world);
+                        long chunk = getWorkableChunk(index, false);
+                        if (chunk != NO_CHUNK)
                         {
                             Gem dropGem;
                             if (Constants.RNG.nextDouble() < ConfigTFC.Devices.SLUICE.diamondGemChance)
@@ -100,7 +102,7 @@ public class TESluice extends TEBase implements ITickable
                             }
                             Gem.Grade grade = Gem.Grade.randomGrade(Constants.RNG);
                             Helpers.spawnItemStack(world, getFrontWaterPos(), ItemGem.get(dropGem, grade, 1));
-                            chunkData.addWork();
+                            WorkableOreIndex.addWork(world, (int) chunk, (int) (chunk >> 32), 1);
                         }
                     }
                     consumeSoil();
@@ -262,32 +264,47 @@ public class TESluice extends TEBase implements ITickable
         }
     }
 
-    private ChunkDataTFC getChunkData(boolean checkVeins)
+    /**
+     * Picks a random chunk in range that can be worked, from the workable ore index, without loading any chunks.
+     * The chunks in range are only looked up again when the index reports a chunk was used up or got new ores, or the config changed
+     *
+     * @param needsOres if the chunk must have ore bearing veins
+     * @return the chunk position, as {@link ChunkPos#asLong(int, int)}, or {@link #NO_CHUNK}
+     */
+    private long getWorkableChunk(@Nullable WorkableOreIndex index, boolean needsOres)
     {
-        ChunkPos myPos = world.getChunk(pos).getPos();
+        if (index == null)
+        {
+            return NO_CHUNK;
+        }
         int radius = ConfigTFC.Devices.SLUICE.radius;
-        //Copy from Helper method, but only look for workable chunks
-        List<Chunk> chunks = new ArrayList<>();
-        for (int x = myPos.x - radius; x <= myPos.x + radius; x++)
+        if (workableChunks == null || index.getVersion() != indexVersion || radius != cachedRadius || ConfigTFC.Devices.SLUICE.maxWorkChunk != cachedMaxWork)
         {
-            for (int z = myPos.z - radius; z <= myPos.z + radius; z++)
+            indexVersion = index.getVersion();
+            cachedRadius = radius;
+            cachedMaxWork = ConfigTFC.Devices.SLUICE.maxWorkChunk;
+
+            LongList workable = new LongArrayList();
+            LongList workableWithOres = new LongArrayList();
+            int centerX = pos.getX() >> 4, centerZ = pos.getZ() >> 4;
+            for (int x = centerX - radius; x <= centerX + radius; x++)
             {
-                Chunk chunk = world.getChunk(x, z);
-                ChunkDataTFC chunkData = ChunkDataTFC.get(chunk);
-                if (chunkData.canWork(1))
+                for (int z = centerZ - radius; z <= centerZ + radius; z++)
                 {
-                    if (!checkVeins || chunkData.getGeneratedVeins().stream().anyMatch(vein -> vein.getType() != null && vein.getType().getOre() != null))
+                    if (index.canWork(x, z, 1))
                     {
-                        chunks.add(chunk);
+                        workable.add(ChunkPos.asLong(x, z));
+                        if (index.hasOres(x, z))
+                        {
+                            workableWithOres.add(ChunkPos.asLong(x, z));
+                        }
                     }
                 }
             }
+            workableChunks = workable.toLongArray();
+            workableChunksWithOres = workableWithOres.toLongArray();
         }
-        if (chunks.size() > 0)
-        {
-            Chunk workingChunk = chunks.get(Constants.RNG.nextInt(chunks.size()));
-            return ChunkDataTFC.get(workingChunk);
-        }
-        return null;
+        long[] chunks = needsOres ? workableChunksWithOres : workableChunks;
+        return chunks.length == 0 ? NO_CHUNK : chunks[Constants.RNG.nextInt(chunks.length)];
     }
 }
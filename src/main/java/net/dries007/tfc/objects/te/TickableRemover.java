@@ -0,0 +1,75 @@
+/*
+ * Work under Copyright. Licensed under the EUPL.
+ * See the project README.md and LICENSE.txt for more information.
+ */
+
+package net.dries007.tfc.objects.te;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.ParametersAreNonnullByDefault;
+
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.world.World;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.fml.common.Mod;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.minecraftforge.fml.common.gameevent.TickEvent;
+
+import static net.dries007.tfc.TerraFirmaCraft.MOD_ID;
+
+/**
+ * Takes tile entities out of {@link World#tickableTileEntities}, for tile entities that extend a vanilla {@link net.minecraft.util.ITickable} but have nothing to do each tick.
+ * They can't be removed while the world is ticking tile entities (which may be when they are loaded), so they are removed at the end of the tick instead.
+ */
+@Mod.EventBusSubscriber(modid = MOD_ID)
+@ParametersAreNonnullByDefault
+public final class TickableRemover
+{
+    // The integrated server and the client run on different threads, so each side has its own queue
+    private static final Map<World, Set<TileEntity>> SERVER_QUEUE = new IdentityHashMap<>();
+    private static final Map<World, Set<TileEntity>> CLIENT_QUEUE = new IdentityHashMap<>();
+
+    /**
+     * Stops a tile entity from being ticked, from the end of this tick. Call this from {@link TileEntity#onLoad()}
+     */
+    public static void remove(TileEntity tile)
+    {
+        World world = tile.getWorld();
+        Map<World, Set<TileEntity>> queue = world.isRemote ? CLIENT_QUEUE : SERVER_QUEUE;
+        queue.computeIfAbsent(world, key -> Collections.newSetFromMap(new IdentityHashMap<>())).add(tile);
+    }
+
+    @SubscribeEvent
+    public static void onWorldTick(TickEvent.WorldTickEvent event)
+    {
+        if (event.phase == TickEvent.Phase.END && !event.world.isRemote)
+        {
+            Set<TileEntity> queued = SERVER_QUEUE.remove(event.world);
+            if (queued != null)
+            {
+                event.world.tickableTileEntities.removeAll(queued);
+            }
+        }
+    }
+
+    @SubscribeEvent
+    public static void onClientTick(TickEvent.ClientTickEvent event)
+    {
+        if (event.phase == TickEvent.Phase.END && !CLIENT_QUEUE.isEmpty())
+        {
+            CLIENT_QUEUE.forEach((world, queued) -> world.tickableTileEntities.removeAll(queued));
+            CLIENT_QUEUE.clear();
+        }
+    }
+
+    @SubscribeEvent
+    public static void onWorldUnload(WorldEvent.Unload event)
+    {
+        (event.getWorld().isRemote ? CLIENT_QUEUE : SERVER_QUEUE).remove(event.getWorld());
+    }
+
+    private TickableRemover() {}
+}
@@ -17,6 +17,8 @@ import net.minecraftforge.fml.common.network.simpleimpl.MessageContext;
 import net.minecraftforge.fml.relauncher.Side;
 import net.minecraftforge.fml.relauncher.SideOnly;
 
+import net.dries007.tfc.client.render.ChestLidAnimator;
+import net.dries007.tfc.objects.te.TEChestTFC;
 import net.dries007.tfc.util.Helpers;
 import net.dries007.tfc.util.calendar.CalendarTFC;
 import net.dries007.tfc.util.calendar.Month;
@@ -94,4 +96,10 @@ public class ClientProxy implements IProxy
         // We call an additional String.format for the time, because vanilla doesn't support %02d format specifiers
         return I18n.format("tfc.tooltip.calendar_full_date", String.format("%02d:%02d", hour, minute), monthName, day, years);
     }
+
+    @Override
+    public void onChestUsersChanged(TEChestTFC chest)
+    {
+        ChestLidAnimator.add(chest);
+    }
 }
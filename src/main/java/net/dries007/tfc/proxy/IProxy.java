@@ -13,6 +13,7 @@ import net.minecraft.util.IThreadListener;
 import net.minecraft.world.World;
 import net.minecraftforge.fml.common.network.simpleimpl.MessageContext;
 
+import net.dries007.tfc.objects.te.TEChestTFC;
 import net.dries007.tfc.util.calendar.Month;
 
 public interface IProxy
@@ -37,6 +38,13 @@ public interface IProxy
     @Nonnull
     String getDate(int hour, int minute, String monthName, int day, long years);
 
+    // Client side effects
+
+    /**
+     * Called on the client when the number of players using a chest changes, to animate its lid
+     */
+    void onChestUsersChanged(TEChestTFC chest);
+
     class WrongSideException extends RuntimeException
     {
         WrongSideException(String message)
@@ -15,6 +15,7 @@ import net.minecraftforge.fml.common.network.simpleimpl.MessageContext;
 import net.minecraftforge.fml.relauncher.Side;
 import net.minecraftforge.fml.relauncher.SideOnly;
 
+import net.dries007.tfc.objects.te.TEChestTFC;
 import net.dries007.tfc.util.calendar.CalendarTFC;
 import net.dries007.tfc.util.calendar.Month;
 
@@ -84,4 +85,10 @@ public class ServerProxy implements IProxy
     {
         return String.format("%02d:%02d %s %02d, %04d", hour, minute, monthName, day, years);
     }
+
+    @Override
+    public void onChestUsersChanged(TEChestTFC chest)
+    {
+        // No chest lids to animate on the dedicated server
+    }
 }
@@ -15,10 +15,12 @@ import net.minecraftforge.event.RegistryEvent;
 import net.minecraftforge.fml.common.Mod;
 import net.minecraftforge.fml.common.eventhandler.EventPriority;
 import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.minecraftforge.oredict.OreDictionary;
 import net.minecraftforge.registries.IForgeRegistry;
 import net.minecraftforge.registries.IForgeRegistryEntry;
 import net.minecraftforge.registries.RegistryBuilder;
 
+import net.dries007.tfc.api.capability.ItemCapabilityResolver;
 import net.dries007.tfc.api.recipes.*;
 import net.dries007.tfc.api.recipes.anvil.AnvilRecipe;
 import net.dries007.tfc.api.recipes.barrel.BarrelRecipe;
@@ -71,9 +73,22 @@ public final class Registries
         preBlockRegistries.forEach((e, r) -> MinecraftForge.EVENT_BUS.post(new TFCRegistryEvent.RegisterPreBlock<>(e, r)));
     }
 
+    /**
+     * Recipes using ore dictionary ingredients are indexed by the items registered to that name, so this needs to rebuild the indexes
+     * Same for custom item capabilities, which are cached by item
+     */
+    @SubscribeEvent
+    public static void onOreRegister(OreDictionary.OreRegisterEvent event)
+    {
+        RecipeIndex.invalidateAll();
+        ItemCapabilityResolver.invalidate();
+    }
+
     private static <T extends IForgeRegistryEntry<T>> void newRegistry(ResourceLocation name, Class<T> tClass, boolean isPreBlockRegistry)
     {
-        IForgeRegistry<T> reg = new RegistryBuilder<T>().setName(name).allowModification().setType(tClass).create();
+        IForgeRegistry<T> reg = new RegistryBuilder<T>().setName(name).allowModification().setType(tClass)
+            .add((IForgeRegistry.AddCallback<T>) (owner, stage, id, obj, oldObj) -> RecipeIndex.invalidateAll()) // Recipe lookups are indexed, rebuild on change
+            .create();
         if (isPreBlockRegistry)
         {
             preBlockRegistries.put(name, reg);
@@ -5,11 +5,10 @@
 
 package net.dries007.tfc.util;
 
-import java.util.Map;
+import java.util.*;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
-import com.google.common.collect.Sets;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraftforge.common.util.INBTSerializable;
@@ -17,9 +16,11 @@ import net.minecraftforge.fluids.FluidStack;
 
 import it.unimi.dsi.fastutil.objects.Object2DoubleMap;
 import it.unimi.dsi.fastutil.objects.Object2DoubleOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
 import net.dries007.tfc.api.capability.metal.CapabilityMetalItem;
 import net.dries007.tfc.api.capability.metal.IMetalItem;
 import net.dries007.tfc.api.recipes.AlloyRecipe;
+import net.dries007.tfc.api.recipes.RecipeIndex;
 import net.dries007.tfc.api.recipes.heat.HeatRecipe;
 import net.dries007.tfc.api.registries.TFCRegistries;
 import net.dries007.tfc.api.types.Metal;
@@ -28,6 +29,7 @@ import net.dries007.tfc.objects.fluids.properties.MetalProperty;
 
 /**
  * A helper class for working with alloys
+ * The result is cached, and only looked up again when the ratios of the metals change. Removing alloy keeps the ratios, so it is free to call every tick.
  *
  * @author AlcatrazEscapee
  */
@@ -46,9 +48,13 @@ public class Alloy implements INBTSerializable<NBTTagCompound>
      */
     public static final double EPSILON = 1d / SAFE_MAX_ALLOY;
 
-    private final Object2DoubleMap<Metal> metalMap, sanitizedMetalMap;
+    // Alloy recipes, by the set of metals they are made of
+    private static final RecipeIndex<AlloyRecipe, Set<Metal>> INDEX = new RecipeIndex<>(() -> TFCRegistries.ALLOYS.getValuesCollection(), r -> Collections.singleton(r.getMetals().keySet()), metals -> metals);
+
+    private final Object2DoubleOpenHashMap<Metal> metalMap, sanitizedMetalMap;
     private int totalUnits;
     private int maxUnits;
+    private Metal result; // null = not computed since the last change
 
     /**
      * Constructs a new alloy. It starts with no metal content
@@ -170,11 +176,12 @@ public class Alloy implements INBTSerializable<NBTTagCompound>
         }
         // Directly add the other alloy exact values. This is important as it needs to not round floating point alloy amounts
         totalUnits += other.totalUnits;
-        for (Map.Entry<Metal, Double> entry : other.metalMap.entrySet())
+        for (ObjectIterator<Object2DoubleMap.Entry<Metal>> iterator = other.metalMap.object2DoubleEntrySet().fastIterator(); iterator.hasNext(); )
         {
-            metalMap.merge(entry.getKey(), keepRatio * entry.getValue(), Double::sum);
+            Object2DoubleMap.Entry<Metal> entry = iterator.next();
+            metalMap.addTo(entry.getKey(), keepRatio * entry.getDoubleValue());
         }
-        updateSanitizedMap();
+        onCompositionChanged();
         return this;
     }
 
@@ -200,9 +207,9 @@ public class Alloy implements INBTSerializable<NBTTagCompound>
                     return this;
                 }
             }
-            metalMap.merge(metal, (double) amount, Double::sum);
+            metalMap.addTo(metal, amount);
             totalUnits += amount;
-            updateSanitizedMap();
+            onCompositionChanged();
         }
         return this;
     }
@@ -215,18 +222,11 @@ public class Alloy implements INBTSerializable<NBTTagCompound>
     @Nonnull
     public Metal getResult()
     {
-        if (metalMap.size() == 1)
-        {
-            return metalMap.keySet().iterator().next(); // Easy way to get the only metal in the alloy
-        }
-        for (AlloyRecipe r : TFCRegistries.ALLOYS.getValuesCollection())
+        if (result == null)
         {
-            if (matchesRecipe(r))
-            {
-                return r.getResult();
-            }
+            result = findResult();
         }
-        return Metal.UNKNOWN;
+        return result;
     }
 
     /**
@@ -250,20 +250,33 @@ public class Alloy implements INBTSerializable<NBTTagCompound>
         }
         else
         {
-            Map<Metal, Double> resultMap = new Object2DoubleOpenHashMap<>(metalMap.size());
-            for (Map.Entry<Metal, Double> entry : metalMap.entrySet())
+            boolean removedMetal = false;
+            for (ObjectIterator<Object2DoubleMap.Entry<Metal>> iterator = metalMap.object2DoubleEntrySet().fastIterator(); iterator.hasNext(); )
             {
-                // Remove the amount of metal from each component, add the remainder (if it exists) into the result map
-                double remove = removeAmount * entry.getValue() / totalUnits;
-                if (entry.getValue() > remove)
+                // Remove the amount of metal from each component, in place, keeping the remainder (if it exists)
+                Object2DoubleMap.Entry<Metal> entry = iterator.next();
+                double value = entry.getDoubleValue();
+                double remove = removeAmount * value / totalUnits;
+                if (value > remove)
+                {
+                    entry.setValue(value - remove);
+                }
+                else
                 {
-                    resultMap.put(entry.getKey(), entry.getValue() - remove);
+                    iterator.remove();
+                    removedMetal = true;
                 }
             }
             totalUnits -= removeAmount;
-            metalMap.clear();
-            metalMap.putAll(resultMap);
-            updateSanitizedMap();
+            if (removedMetal)
+            {
+                onCompositionChanged();
+            }
+            else
+            {
+                // Every metal was reduced by the same ratio, so the result is unchanged
+                updateSanitizedMap();
+            }
             return removeAmount;
         }
     }
@@ -345,7 +358,7 @@ public class Alloy implements INBTSerializable<NBTTagCompound>
                     this.metalMap.put(metal, amount);
                 }
             }
-            updateSanitizedMap();
+            onCompositionChanged();
         }
     }
 
@@ -356,6 +369,13 @@ public class Alloy implements INBTSerializable<NBTTagCompound>
     {
         metalMap.clear();
         totalUnits = 0;
+        onCompositionChanged();
+    }
+
+    private void onCompositionChanged()
+    {
+        result = null;
+        updateSanitizedMap();
     }
 
     /**
@@ -365,17 +385,60 @@ public class Alloy implements INBTSerializable<NBTTagCompound>
     {
         sanitizedMetalMap.clear();
         double actualTotalAmount = getAmountAccurately();
-        metalMap.forEach((metal, value) -> {
-            if (value > actualTotalAmount * EPSILON)
+        for (ObjectIterator<Object2DoubleMap.Entry<Metal>> iterator = metalMap.object2DoubleEntrySet().fastIterator(); iterator.hasNext(); )
+        {
+            Object2DoubleMap.Entry<Metal> entry = iterator.next();
+            if (entry.getDoubleValue() > actualTotalAmount * EPSILON)
             {
-                sanitizedMetalMap.put(metal, value);
+                sanitizedMetalMap.put(entry.getKey(), entry.getDoubleValue());
             }
-        });
+        }
     }
 
     private double getAmountAccurately()
     {
-        return metalMap.values().stream().mapToDouble(x -> x).sum();
+        double amount = 0;
+        for (ObjectIterator<Object2DoubleMap.Entry<Metal>> iterator = metalMap.object2DoubleEntrySet().fastIterator(); iterator.hasNext(); )
+        {
+            amount += iterator.next().getDoubleValue();
+        }
+        return amount;
+    }
+
+    /**
+     * Finds the first alloy recipe (in registry order) this matches, see {@link #matchesRecipe(AlloyRecipe)}
+     * A recipe can only match if its metals are the same as the metals in this alloy, or if this alloy contains its result, the same as the rest of the metals in this alloy.
+     * Recipes are indexed by their metals, and there is at most one recipe for each result, so only those recipes are tested.
+     */
+    @Nonnull
+    private Metal findResult()
+    {
+        if (metalMap.size() == 1)
+        {
+            return metalMap.keySet().iterator().next(); // Easy way to get the only metal in the alloy
+        }
+        List<AlloyRecipe> matches = INDEX.findAll(sanitizedMetalMap.keySet(), this::matchesRecipe);
+        for (Metal metal : metalMap.keySet())
+        {
+            //noinspection ConstantConditions
+            AlloyRecipe recipe = TFCRegistries.ALLOYS.getValue(metal.getRegistryName());
+            if (recipe != null && recipe.getResult() == metal && !matches.contains(recipe) && matchesRecipe(recipe))
+            {
+                matches.add(recipe);
+            }
+        }
+        if (matches.size() > 1)
+        {
+            // Multiple matches, use the first in registry order
+            for (AlloyRecipe r : TFCRegistries.ALLOYS.getValuesCollection())
+            {
+                if (matches.contains(r))
+                {
+                    return r.getResult();
+                }
+            }
+        }
+        return matches.isEmpty() ? Metal.UNKNOWN : matches.get(0).getResult();
     }
 
     private boolean matchesRecipe(AlloyRecipe recipe)
@@ -395,11 +458,15 @@ public class Alloy implements INBTSerializable<NBTTagCompound>
     {
         // for each metal in the alloy, it needs to satisfy an ingredient
         // for each metal in the recipe, it needs to match with an alloy
-        Map<Metal, Double> metals = getMetals();
         double actualTotalAmount = getAmountAccurately();
-        for (Metal metal : Sets.union(recipe.getMetals().keySet(), metals.keySet()))
+        if (sanitizedMetalMap.size() != recipe.getMetals().size())
+        {
+            return false;
+        }
+        for (Map.Entry<Metal, AlloyRecipe.DoubleRange> entry : recipe.getMetals().entrySet())
         {
-            if (!metals.containsKey(metal) || !recipe.getMetals().containsKey(metal) || !recipe.getMetals().get(metal).test(metals.get(metal) / actualTotalAmount))
+            // Same size, so if every recipe metal is in the alloy, they are the same set
+            if (!sanitizedMetalMap.containsKey(entry.getKey()) || !entry.getValue().test(sanitizedMetalMap.getDouble(entry.getKey()) / actualTotalAmount))
             {
                 return false;
             }
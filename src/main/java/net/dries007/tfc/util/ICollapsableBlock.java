@@ -51,7 +51,7 @@ public interface ICollapsableBlock
             int radX = (Constants.RNG.nextInt(5) + 4) / 2;
             int radY = (Constants.RNG.nextInt(3) + 2) / 2;
             int radZ = (Constants.RNG.nextInt(5) + 4) / 2;
-            for (BlockPos checking : BlockSupport.getAllUnsupportedBlocksIn(worldIn, pos.add(-radX, -radY, -radZ), pos.add(radX, radY, radZ))) //9x5x9 max
+            for (BlockPos.MutableBlockPos checking : BlockSupport.getAllUnsupportedBlocksIn(worldIn, pos.add(-radX, -radY, -radZ), pos.add(radX, radY, radZ))) //9x5x9 max
             {
                 //Check the area for a block collapse!
                 if (worldIn.getBlockState(checking).getBlock() instanceof ICollapsableBlock)
@@ -60,7 +60,7 @@ public interface ICollapsableBlock
                     if (block.canCollapse(worldIn, checking)) //Still needs this to check if this can collapse without support(ie: no blocks below)
                     {
                         //Trigger collapse!
-                        block.collapseArea(worldIn, checking);
+                        block.collapseArea(worldIn, checking.toImmutable());
                         worldIn.playSound(null, pos, TFCSounds.ROCK_SLIDE_LONG, SoundCategory.BLOCKS, 1.0F, 1.0F);
                         return true; //Don't need to check other blocks
                     }
@@ -0,0 +1,175 @@
+/*
+ * Work under Copyright. Licensed under the EUPL.
+ * See the project README.md and LICENSE.txt for more information.
+ */
+
+package net.dries007.tfc.util;
+
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+
+import net.minecraft.nbt.*;
+import net.minecraftforge.common.util.Constants;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+
+/**
+ * The difference between two compound tags, used to sync only what has changed
+ * A delta is itself a compound tag, containing:
+ * - "s": tags that are new or have changed, by key
+ * - "r": keys of tags that were removed
+ * - "c": deltas of compound tags that have changed, by key
+ * - "l": changes to lists that kept the same size and type (i.e. the items of an inventory), by key, as the indexes that changed ("i") and their new tags ("v")
+ */
+@ParametersAreNonnullByDefault
+public final class NBTDelta
+{
+    private static final String SET = "s";
+    private static final String REMOVED = "r";
+    private static final String COMPOUNDS = "c";
+    private static final String LISTS = "l";
+    private static final String INDEXES = "i";
+    private static final String VALUES = "v";
+
+    /**
+     * Computes the changes from one tag to another. The delta may share tags with {@code to}, so neither should be modified afterwards
+     *
+     * @return the delta, or null if the tags are equal
+     */
+    @Nullable
+    public static NBTTagCompound diff(NBTTagCompound from, NBTTagCompound to)
+    {
+        NBTTagCompound set = new NBTTagCompound();
+        NBTTagList removed = new NBTTagList();
+        NBTTagCompound compounds = new NBTTagCompound();
+        NBTTagCompound lists = new NBTTagCompound();
+        for (String key : to.getKeySet())
+        {
+            NBTBase toTag = to.getTag(key);
+            NBTBase fromTag = from.getTag(key);
+            if (toTag.equals(fromTag))
+            {
+                continue;
+            }
+            if (fromTag instanceof NBTTagCompound && toTag instanceof NBTTagCompound)
+            {
+                NBTTagCompound delta = diff((NBTTagCompound) fromTag, (NBTTagCompound) toTag);
+                if (delta != null)
+                {
+                    compounds.setTag(key, delta);
+                }
+                continue;
+            }
+            if (fromTag instanceof NBTTagList && toTag instanceof NBTTagList)
+            {
+                NBTTagCompound delta = diffList((NBTTagList) fromTag, (NBTTagList) toTag);
+                if (delta != null)
+                {
+                    lists.setTag(key, delta);
+                    continue;
+                }
+            }
+            set.setTag(key, toTag);
+        }
+        for (String key : from.getKeySet())
+        {
+            if (!to.hasKey(key))
+            {
+                removed.appendTag(new NBTTagString(key));
+            }
+        }
+
+        NBTTagCompound delta = new NBTTagCompound();
+        if (!set.isEmpty())
+        {
+            delta.setTag(SET, set);
+        }
+        if (!removed.isEmpty())
+        {
+            delta.setTag(REMOVED, removed);
+        }
+        if (!compounds.isEmpty())
+        {
+            delta.setTag(COMPOUNDS, compounds);
+        }
+        if (!lists.isEmpty())
+        {
+            delta.setTag(LISTS, lists);
+        }
+        return delta.isEmpty() ? null : delta;
+    }
+
+    /**
+     * Applies a delta to a tag, see {@link #diff(NBTTagCompound, NBTTagCompound)}. The delta is not copied, so it should not be used afterwards
+     */
+    public static void apply(NBTTagCompound target, NBTTagCompound delta)
+    {
+        NBTTagCompound set = delta.getCompoundTag(SET);
+        for (String key : set.getKeySet())
+        {
+            target.setTag(key, set.getTag(key));
+        }
+        NBTTagList removed = delta.getTagList(REMOVED, Constants.NBT.TAG_STRING);
+        for (int i = 0; i < removed.tagCount(); i++)
+        {
+            target.removeTag(removed.getStringTagAt(i));
+        }
+        NBTTagCompound compounds = delta.getCompoundTag(COMPOUNDS);
+        for (String key : compounds.getKeySet())
+        {
+            NBTTagCompound nested = target.getCompoundTag(key);
+            apply(nested, compounds.getCompoundTag(key));
+            target.setTag(key, nested);
+        }
+        NBTTagCompound lists = delta.getCompoundTag(LISTS);
+        for (String key : lists.getKeySet())
+        {
+            NBTBase list = target.getTag(key);
+            if (list instanceof NBTTagList)
+            {
+                NBTTagCompound listDelta = lists.getCompoundTag(key);
+                int[] indexes = listDelta.getIntArray(INDEXES);
+                NBTTagList values = (NBTTagList) listDelta.getTag(VALUES);
+                for (int i = 0; i < indexes.length && i < values.tagCount(); i++)
+                {
+                    if (indexes[i] < ((NBTTagList) list).tagCount())
+                    {
+                        ((NBTTagList) list).set(indexes[i], values.get(i));
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * @return the changed elements of a list, or null if the whole list should be sent instead
+     */
+    @Nullable
+    private static NBTTagCompound diffList(NBTTagList from, NBTTagList to)
+    {
+        if (from.tagCount() != to.tagCount() || from.getTagType() != to.getTagType())
+        {
+            return null;
+        }
+        IntArrayList indexes = new IntArrayList();
+        NBTTagList values = new NBTTagList();
+        for (int i = 0; i < to.tagCount(); i++)
+        {
+            if (!to.get(i).equals(from.get(i)))
+            {
+                indexes.add(i);
+                values.appendTag(to.get(i));
+            }
+        }
+        if (indexes.size() == to.tagCount())
+        {
+            return null;
+        }
+        NBTTagCompound delta = new NBTTagCompound();
+        delta.setIntArray(INDEXES, indexes.toIntArray());
+        delta.setTag(VALUES, values);
+        return delta;
+    }
+
+    private NBTDelta() {}
+}
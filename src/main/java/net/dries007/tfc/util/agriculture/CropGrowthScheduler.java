@@ -0,0 +1,110 @@
+/*
+ * Work under Copyright. Licensed under the EUPL.
+ * See the project README.md and LICENSE.txt for more information.
+ */
+
+package net.dries007.tfc.util.agriculture;
+
+import java.util.PriorityQueue;
+
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+
+import it.unimi.dsi.fastutil.longs.Long2LongMap;
+import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
+import net.dries007.tfc.objects.blocks.agriculture.BlockCropTFC;
+import net.dries007.tfc.objects.te.TECropBase;
+import net.dries007.tfc.util.Helpers;
+import net.dries007.tfc.util.calendar.CalendarTFC;
+
+/**
+ * Drives crop growth for a single world, instead of every crop tile entity ticking.
+ * Crops register the player tick at which they are next able to grow, and {@link BlockCropTFC#checkGrowth} is only called once that tick has passed.
+ * Since due ticks are absolute player ticks, a calendar jump (i.e. sleeping, /timetfc) simply makes every crop that would have grown in between due at once.
+ *
+ * Crops are tracked while their chunk is loaded: they register on load and are removed on unload / invalidation. This is not saved, it is rebuilt as tile entities load.
+ */
+public class CropGrowthScheduler
+{
+    private final PriorityQueue<Entry> queue = new PriorityQueue<>();
+    private final Long2LongMap dueTicks = new Long2LongOpenHashMap(); // The current due tick for each tracked position. Queue entries not matching this are stale
+
+    /**
+     * Tracks a crop, or updates when it is next due
+     */
+    public void schedule(BlockPos pos, long dueTick)
+    {
+        long key = pos.toLong();
+        if (!dueTicks.containsKey(key) || dueTicks.get(key) != dueTick)
+        {
+            dueTicks.put(key, dueTick);
+            queue.add(new Entry(key, dueTick));
+        }
+    }
+
+    /**
+     * Stops tracking a crop. The queue entry is left in place and skipped when it comes up
+     */
+    public void remove(BlockPos pos)
+    {
+        dueTicks.remove(pos.toLong());
+    }
+
+    public int size()
+    {
+        return dueTicks.size();
+    }
+
+    public void tick(World world)
+    {
+        final long now = CalendarTFC.PLAYER_TIME.getTicks();
+        while (!queue.isEmpty() && queue.peek().dueTick <= now)
+        {
+            Entry entry = queue.poll();
+            if (!dueTicks.containsKey(entry.pos) || dueTicks.get(entry.pos) != entry.dueTick)
+            {
+                continue; // Stale, either removed or rescheduled
+            }
+            dueTicks.remove(entry.pos);
+
+            BlockPos pos = BlockPos.fromLong(entry.pos);
+            if (!world.isBlockLoaded(pos))
+            {
+                continue; // Will re-register when loaded again
+            }
+            IBlockState state = world.getBlockState(pos);
+            TECropBase tile = Helpers.getTE(world, pos, TECropBase.class);
+            if (tile != null && state.getBlock() instanceof BlockCropTFC)
+            {
+                BlockCropTFC block = (BlockCropTFC) state.getBlock();
+                block.checkGrowth(world, pos, state, world.rand);
+
+                // The crop may have died or been replaced during growth
+                TECropBase updatedTile = Helpers.getTE(world, pos, TECropBase.class);
+                if (updatedTile != null && !updatedTile.isInvalid())
+                {
+                    updatedTile.scheduleGrowth();
+                }
+            }
+        }
+    }
+
+    private static final class Entry implements Comparable<Entry>
+    {
+        private final long pos;
+        private final long dueTick;
+
+        private Entry(long pos, long dueTick)
+        {
+            this.pos = pos;
+            this.dueTick = dueTick;
+        }
+
+        @Override
+        public int compareTo(Entry other)
+        {
+            return Long.compare(dueTick, other.dueTick);
+        }
+    }
+}
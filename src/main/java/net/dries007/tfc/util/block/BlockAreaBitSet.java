@@ -0,0 +1,163 @@
+/*
+ * Work under Copyright. Licensed under the EUPL.
+ * See the project README.md and LICENSE.txt for more information.
+ */
+
+package net.dries007.tfc.util.block;
+
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import javax.annotation.Nonnull;
+
+import net.minecraft.util.math.BlockPos;
+
+/**
+ * A set of positions inside a fixed box, backed by a single {@link BitSet}
+ * Used in place of a {@code Set<BlockPos>} when the whole area is known up front, to avoid boxing every position
+ * Indexes are laid out Z first, then Y, then X, so a run of Z positions can be set / cleared in one call
+ */
+public class BlockAreaBitSet implements Iterable<BlockPos.MutableBlockPos>
+{
+    private final int minX, minY, minZ;
+    private final int sizeX, sizeY, sizeZ;
+    private final BitSet bits;
+
+    public BlockAreaBitSet(BlockPos from, BlockPos to)
+    {
+        this.minX = Math.min(from.getX(), to.getX());
+        this.minY = Math.min(from.getY(), to.getY());
+        this.minZ = Math.min(from.getZ(), to.getZ());
+        this.sizeX = Math.max(from.getX(), to.getX()) - minX + 1;
+        this.sizeY = Math.max(from.getY(), to.getY()) - minY + 1;
+        this.sizeZ = Math.max(from.getZ(), to.getZ()) - minZ + 1;
+        this.bits = new BitSet(sizeX * sizeY * sizeZ);
+    }
+
+    public int getMinX()
+    {
+        return minX;
+    }
+
+    public int getMinY()
+    {
+        return minY;
+    }
+
+    public int getMinZ()
+    {
+        return minZ;
+    }
+
+    public int getMaxX()
+    {
+        return minX + sizeX - 1;
+    }
+
+    public int getMaxY()
+    {
+        return minY + sizeY - 1;
+    }
+
+    public int getMaxZ()
+    {
+        return minZ + sizeZ - 1;
+    }
+
+    public boolean isInside(int x, int y, int z)
+    {
+        return x >= minX && x < minX + sizeX && y >= minY && y < minY + sizeY && z >= minZ && z < minZ + sizeZ;
+    }
+
+    public boolean contains(int x, int y, int z)
+    {
+        return isInside(x, y, z) && bits.get(index(x, y, z));
+    }
+
+    public boolean contains(BlockPos pos)
+    {
+        return contains(pos.getX(), pos.getY(), pos.getZ());
+    }
+
+    public void add(int x, int y, int z)
+    {
+        if (isInside(x, y, z))
+        {
+            bits.set(index(x, y, z));
+        }
+    }
+
+    public void addAll()
+    {
+        bits.set(0, sizeX * sizeY * sizeZ);
+    }
+
+    /**
+     * Removes every position in the given box (inclusive), clipped to this area
+     */
+    public void removeBox(int fromX, int fromY, int fromZ, int toX, int toY, int toZ)
+    {
+        int x0 = Math.max(fromX, minX), x1 = Math.min(toX, getMaxX());
+        int y0 = Math.max(fromY, minY), y1 = Math.min(toY, getMaxY());
+        int z0 = Math.max(fromZ, minZ), z1 = Math.min(toZ, getMaxZ());
+        if (z0 > z1)
+        {
+            return;
+        }
+        for (int x = x0; x <= x1; x++)
+        {
+            for (int y = y0; y <= y1; y++)
+            {
+                int start = index(x, y, z0);
+                bits.clear(start, start + z1 - z0 + 1);
+            }
+        }
+    }
+
+    public boolean isEmpty()
+    {
+        return bits.isEmpty();
+    }
+
+    public int size()
+    {
+        return bits.cardinality();
+    }
+
+    /**
+     * Iterates every position in this set. Like {@link BlockPos#getAllInBoxMutable(BlockPos, BlockPos)}, the returned position is reused, call {@link BlockPos#toImmutable()} to keep it
+     */
+    @Override
+    @Nonnull
+    public Iterator<BlockPos.MutableBlockPos> iterator()
+    {
+        return new Iterator<BlockPos.MutableBlockPos>()
+        {
+            private final BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+            private int next = bits.nextSetBit(0);
+
+            @Override
+            public boolean hasNext()
+            {
+                return next >= 0;
+            }
+
+            @Override
+            public BlockPos.MutableBlockPos next()
+            {
+                if (next < 0)
+                {
+                    throw new NoSuchElementException();
+                }
+                int i = next;
+                next = bits.nextSetBit(i + 1);
+                return pos.setPos(minX + i / (sizeZ * sizeY), minY + (i / sizeZ) % sizeY, minZ + i % sizeZ);
+            }
+        };
+    }
+
+    private int index(int x, int y, int z)
+    {
+        return ((x - minX) * sizeY + (y - minY)) * sizeZ + (z - minZ);
+    }
+}
@@ -5,34 +5,214 @@
 
 package net.dries007.tfc.util.climate;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import javax.annotation.Nonnull;
 
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.ChunkPos;
 
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+
 /**
  * This stores climate data for when the world context is not available
+ * Entries are keyed by packed chunk position ({@link ChunkPos#asLong(int, int)}) and held in a fixed number of slots, evicted with a CLOCK (second chance) policy.
+ * Reads may happen off the main thread (i.e. chunk render threads asking for grass colors), so all access is guarded by a read / write lock.
  */
 public final class ClimateCache
 {
-    private final Map<ChunkPos, ClimateData> backingMap = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Long2IntMap slotByKey = new Long2IntOpenHashMap();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    private int capacity;
+    private long[] keys;
+    private ClimateData[] values;
+    private boolean[] referenced; // Second chance bits. Written by readers without the write lock, which is fine as it is only a hint
+    private int size;
+    private int hand;
+
+    public ClimateCache(int capacity)
+    {
+        slotByKey.defaultReturnValue(-1);
+        allocate(capacity);
+    }
 
     @Nonnull
     public ClimateData get(BlockPos pos)
     {
-        return get(new ChunkPos(pos));
+        return get(pos.getX() >> 4, pos.getZ() >> 4);
     }
 
     @Nonnull
     public ClimateData get(ChunkPos pos)
     {
-        return backingMap.getOrDefault(pos, ClimateData.DEFAULT);
+        return get(pos.x, pos.z);
+    }
+
+    @Nonnull
+    public ClimateData get(int chunkX, int chunkZ)
+    {
+        long key = ChunkPos.asLong(chunkX, chunkZ);
+        lock.readLock().lock();
+        try
+        {
+            int slot = slotByKey.get(key);
+            if (slot >= 0)
+            {
+                referenced[slot] = true;
+                hits.increment();
+                return values[slot];
+            }
+        }
+        finally
+        {
+            lock.readLock().unlock();
+        }
+        misses.increment();
+        return ClimateData.DEFAULT;
     }
 
     public void update(ChunkPos pos, float temperature, float rainfall)
     {
-        backingMap.put(pos, new ClimateData(temperature, rainfall));
+        long key = ChunkPos.asLong(pos.x, pos.z);
+        ClimateData data = new ClimateData(temperature, rainfall);
+        lock.writeLock().lock();
+        try
+        {
+            int slot = slotByKey.get(key);
+            if (slot < 0)
+            {
+                slot = size < capacity ? size++ : evict();
+                keys[slot] = key;
+                slotByKey.put(key, slot);
+            }
+            values[slot] = data;
+            referenced[slot] = true;
+        }
+        finally
+        {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes the entry for a chunk, if present. Called when a chunk is unloaded.
+     */
+    public void remove(ChunkPos pos)
+    {
+        long key = ChunkPos.asLong(pos.x, pos.z);
+        lock.writeLock().lock();
+        try
+        {
+            int slot = slotByKey.remove(key);
+            if (slot >= 0)
+            {
+                // Move the last entry into the freed slot, so occupied slots are always [0, size)
+                int last = --size;
+                if (slot != last)
+                {
+                    keys[slot] = keys[last];
+                    values[slot] = values[last];
+                    referenced[slot] = referenced[last];
+                    slotByKey.put(keys[slot], slot);
+                }
+                values[last] = null;
+                referenced[last] = false;
+                if (hand >= size)
+                {
+                    hand = 0;
+                }
+            }
+        }
+        finally
+        {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Changes the maximum number of entries. This clears the cache.
+     */
+    public void setCapacity(int capacity)
+    {
+        lock.writeLock().lock();
+        try
+        {
+            if (capacity != this.capacity)
+            {
+                slotByKey.clear();
+                allocate(capacity);
+            }
+        }
+        finally
+        {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int getCapacity()
+    {
+        return capacity;
+    }
+
+    public int size()
+    {
+        lock.readLock().lock();
+        try
+        {
+            return size;
+        }
+        finally
+        {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long getHits()
+    {
+        return hits.sum();
+    }
+
+    public long getMisses()
+    {
+        return misses.sum();
+    }
+
+    public long getEvictions()
+    {
+        return evictions.sum();
+    }
+
+    /**
+     * Finds a slot to reuse. Must be called while holding the write lock, with a full cache
+     */
+    private int evict()
+    {
+        while (referenced[hand])
+        {
+            referenced[hand] = false;
+            hand = (hand + 1) % capacity;
+        }
+        int slot = hand;
+        hand = (hand + 1) % capacity;
+        slotByKey.remove(keys[slot]);
+        evictions.increment();
+        return slot;
+    }
+
+    private void allocate(int capacity)
+    {
+        this.capacity = Math.max(1, capacity);
+        this.keys = new long[this.capacity];
+        this.values = new ClimateData[this.capacity];
+        this.referenced = new boolean[this.capacity];
+        this.size = 0;
+        this.hand = 0;
     }
 }
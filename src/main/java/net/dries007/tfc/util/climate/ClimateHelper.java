@@ -5,7 +5,7 @@
 
 package net.dries007.tfc.util.climate;
 
-import java.util.Random;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import net.minecraft.util.math.MathHelper;
 
@@ -14,13 +14,37 @@ import net.dries007.tfc.util.calendar.CalendarTFC;
 import net.dries007.tfc.util.calendar.ICalendar;
 import net.dries007.tfc.util.calendar.ICalendarFormatted;
 import net.dries007.tfc.util.calendar.Month;
+import net.dries007.tfc.util.config.HemisphereType;
 import net.dries007.tfc.util.config.TemperatureMode;
 
 import static net.dries007.tfc.world.classic.WorldTypeTFC.SEALEVEL;
 
+/**
+ * These are called for every heated item, crop, ice block and spawn check, so they are kept allocation and lock free:
+ * - the daily variation is computed straight from the day number instead of re-seeding a shared {@link java.util.Random}
+ * - hour modifiers are a constant table
+ * - latitude factors are memoized per z coordinate, see {@link LatitudeTable}
+ */
 public class ClimateHelper
 {
-    private static final Random RANDOM = new Random();
+    // Constants of the LCG used by java.util.Random
+    private static final long RANDOM_MULTIPLIER = 0x5DEECE66DL;
+    private static final long RANDOM_ADDEND = 0xBL;
+    private static final long RANDOM_MASK = (1L << 48) - 1;
+
+    private static final float[] HOUR_MODIFIERS = new float[ICalendar.HOURS_IN_DAY];
+
+    private static volatile LatitudeTable latitudeTable = null;
+
+    static
+    {
+        for (int hour = 0; hour < HOUR_MODIFIERS.length; hour++)
+        {
+            // Hottest part of the day at 12, coldest at 0
+            // Range: -1 - 1
+            HOUR_MODIFIERS[hour] = ((hour > 12 ? 24 - hour : hour) / 6f) - 1f;
+        }
+    }
 
     /**
      * @return The month adjusted temperature. This gets the base temperature, before daily / hourly changes
@@ -35,24 +59,33 @@ public class ClimateHelper
      */
     public static float dailyTemp(float regionalTemp, int z, long timeOffset)
     {
-        // Hottest part of the day at 12, coldest at 0
-        int hourOfDay = ICalendarFormatted.getHourOfDay(CalendarTFC.CALENDAR_TIME.getTicks() + timeOffset);
-        if (hourOfDay > 12)
-        {
-            // Range: 0 - 12
-            hourOfDay = 24 - hourOfDay;
-        }
+        long time = CalendarTFC.CALENDAR_TIME.getTicks() + timeOffset;
         // Range: -1 - 1
-        float hourModifier = (hourOfDay / 6f) - 1f;
+        float hourModifier = HOUR_MODIFIERS[Math.floorMod(ICalendarFormatted.getHourOfDay(time), ICalendar.HOURS_IN_DAY)];
 
         // Note: this does not use world seed, as that is not synced from server - client, resulting in the seed being different
-        long day = ICalendar.getTotalDays(CalendarTFC.CALENDAR_TIME.getTicks() + timeOffset);
-        RANDOM.setSeed(day);
         // Range: -1 - 1
-        final float dailyModifier = RANDOM.nextFloat() - RANDOM.nextFloat();
+        final float dailyModifier = dailyModifier(ICalendar.getTotalDays(time));
 
         // Max daily / hourly variance is +/- 4 C
-        return monthlyTemp(regionalTemp, z, timeOffset) + (dailyModifier + 0.3f * hourModifier) * 3f;
+        return monthlyTempAt(regionalTemp, z, time) + (dailyModifier + 0.3f * hourModifier) * 3f;
+    }
+
+    /**
+     * Gets the random temperature variation for a day.
+     * This is identical to {@code random.setSeed(day); random.nextFloat() - random.nextFloat()}, but without any shared state
+     *
+     * @param day the total number of days
+     * @return a value in the range -1 - 1
+     */
+    public static float dailyModifier(long day)
+    {
+        long seed = (day ^ RANDOM_MULTIPLIER) & RANDOM_MASK;
+        seed = (seed * RANDOM_MULTIPLIER + RANDOM_ADDEND) & RANDOM_MASK;
+        final float first = (int) (seed >>> 24) / (float) (1 << 24);
+        seed = (seed * RANDOM_MULTIPLIER + RANDOM_ADDEND) & RANDOM_MASK;
+        final float second = (int) (seed >>> 24) / (float) (1 << 24);
+        return first - second;
     }
 
     /**
@@ -60,15 +93,7 @@ public class ClimateHelper
      */
     public static float monthlyTemp(float regionalTemp, int z, long timeOffset)
     {
-        long time = CalendarTFC.CALENDAR_TIME.getTicks() + timeOffset;
-        Month monthOfYear = ICalendarFormatted.getMonthOfYear(time, CalendarTFC.CALENDAR_TIME.getDaysInMonth());
-
-        final float currentMonthFactor = monthFactor(regionalTemp, monthOfYear, z);
-        final float nextMonthFactor = monthFactor(regionalTemp, monthOfYear.next(), z);
-
-        final float delta = (float) ICalendarFormatted.getDayOfMonth(time, CalendarTFC.CALENDAR_TIME.getDaysInMonth()) / CalendarTFC.CALENDAR_TIME.getDaysInMonth();
-        // Affine combination to smooth temperature transition
-        return currentMonthFactor * (1 - delta) + nextMonthFactor * delta;
+        return monthlyTempAt(regionalTemp, z, CalendarTFC.CALENDAR_TIME.getTicks() + timeOffset);
     }
 
     /**
@@ -107,7 +132,7 @@ public class ClimateHelper
 
     public static float monthFactor(float regionalTemp, float monthTempModifier, int z)
     {
-        return (41f - monthTempModifier * 1.1f * (1 - 0.8f * latitudeFactor(z))) + regionalTemp;
+        return monthFactorAt(regionalTemp, monthTempModifier, latitudeFactor(z));
     }
 
     /**
@@ -118,13 +143,91 @@ public class ClimateHelper
      */
     public static float latitudeFactor(int chunkZ)
     {
-        int tempRange = ConfigTFC.General.WORLD.latitudeTemperatureModifier;
-        if (ConfigTFC.General.WORLD.temperatureMode == TemperatureMode.ENDLESS)
+        LatitudeTable table = latitudeTable;
+        if (table == null || !table.matchesConfig())
         {
-            chunkZ = MathHelper.clamp(chunkZ, -tempRange / 2, tempRange / 2);
+            // Racing threads may both build a table, which is harmless as they are identical
+            table = new LatitudeTable();
+            latitudeTable = table;
         }
-        return 0.5f + 0.5f * ConfigTFC.General.WORLD.hemisphereType.getValue() * (float) Math.sin(Math.PI * chunkZ / tempRange);
+        return table.get(chunkZ);
+    }
+
+    private static float monthlyTempAt(float regionalTemp, int z, long time)
+    {
+        final int daysInMonth = CalendarTFC.CALENDAR_TIME.getDaysInMonth();
+        final Month monthOfYear = ICalendarFormatted.getMonthOfYear(time, daysInMonth);
+        final float latitudeFactor = latitudeFactor(z);
+
+        final float currentMonthFactor = monthFactorAt(regionalTemp, monthOfYear.getTemperatureModifier(), latitudeFactor);
+        final float nextMonthFactor = monthFactorAt(regionalTemp, monthOfYear.next().getTemperatureModifier(), latitudeFactor);
+
+        final float delta = (float) ICalendarFormatted.getDayOfMonth(time, daysInMonth) / daysInMonth;
+        // Affine combination to smooth temperature transition
+        return currentMonthFactor * (1 - delta) + nextMonthFactor * delta;
+    }
+
+    private static float monthFactorAt(float regionalTemp, float monthTempModifier, float latitudeFactor)
+    {
+        return (41f - monthTempModifier * 1.1f * (1 - 0.8f * latitudeFactor)) + regionalTemp;
     }
 
     private ClimateHelper() {}
+
+    /**
+     * Memoized latitude factors, for the current world config.
+     * The sine wave repeats every (2 * range) blocks (or is clamped, in endless mode), so only that many values can exist.
+     * They are computed in pages as they are first requested, so only latitudes that are actually visited take up memory.
+     * Pages are published through an {@link AtomicReferenceArray}, so readers on other threads never see a partially filled page.
+     */
+    private static final class LatitudeTable
+    {
+        private static final int PAGE_BITS = 12;
+        private static final int PAGE_SIZE = 1 << PAGE_BITS;
+
+        private final int tempRange;
+        private final TemperatureMode mode;
+        private final HemisphereType hemisphere;
+        private final int length;
+        private final AtomicReferenceArray<float[]> pages;
+
+        private LatitudeTable()
+        {
+            this.tempRange = ConfigTFC.General.WORLD.latitudeTemperatureModifier;
+            this.mode = ConfigTFC.General.WORLD.temperatureMode;
+            this.hemisphere = ConfigTFC.General.WORLD.hemisphereType;
+            this.length = mode == TemperatureMode.ENDLESS ? tempRange + 1 : 2 * tempRange;
+            this.pages = new AtomicReferenceArray<>((length + PAGE_SIZE - 1) >> PAGE_BITS);
+        }
+
+        private boolean matchesConfig()
+        {
+            return tempRange == ConfigTFC.General.WORLD.latitudeTemperatureModifier && mode == ConfigTFC.General.WORLD.temperatureMode && hemisphere == ConfigTFC.General.WORLD.hemisphereType;
+        }
+
+        private float get(int z)
+        {
+            final int index = mode == TemperatureMode.ENDLESS ? MathHelper.clamp(z, -tempRange / 2, tempRange / 2) + tempRange / 2 : Math.floorMod(z, length);
+            final int pageIndex = index >> PAGE_BITS;
+            float[] page = pages.get(pageIndex);
+            if (page == null)
+            {
+                page = computePage(pageIndex);
+                pages.compareAndSet(pageIndex, null, page);
+            }
+            return page[index & (PAGE_SIZE - 1)];
+        }
+
+        private float[] computePage(int pageIndex)
+        {
+            final float[] page = new float[PAGE_SIZE];
+            final int offset = mode == TemperatureMode.ENDLESS ? -tempRange / 2 : 0;
+            for (int i = 0; i < PAGE_SIZE; i++)
+            {
+                int z = (pageIndex << PAGE_BITS) + i + offset;
+                page[i] = 0.5f + 0.5f * hemisphere.getValue() * (float) Math.sin(Math.PI * z / tempRange);
+            }
+            return page;
+        }
+    }
 }
@@ -9,12 +9,13 @@ import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.ChunkPos;
 import net.minecraft.world.World;
 
+import net.dries007.tfc.ConfigTFC;
 import net.dries007.tfc.util.calendar.Month;
 import net.dries007.tfc.world.classic.chunkdata.ChunkDataTFC;
 
 public final class ClimateTFC
 {
-    private static final ClimateCache CACHE = new ClimateCache();
+    private static final ClimateCache CACHE = new ClimateCache(ConfigTFC.General.MISC.climateCacheSize);
 
     public static float getActualTemp(World world, BlockPos pos)
     {
@@ -121,5 +122,20 @@ public final class ClimateTFC
         CACHE.update(pos, temperature, rainfall);
     }
 
+    public static void invalidate(ChunkPos pos)
+    {
+        CACHE.remove(pos);
+    }
+
+    public static void onConfigChanged()
+    {
+        CACHE.setCapacity(ConfigTFC.General.MISC.climateCacheSize);
+    }
+
+    public static ClimateCache getCache()
+    {
+        return CACHE;
+    }
+
     private ClimateTFC() {}
 }
@@ -5,6 +5,9 @@
 
 package net.dries007.tfc.util.fuel;
 
+import java.util.Collection;
+import javax.annotation.Nullable;
+
 import net.minecraft.item.ItemStack;
 
 import net.dries007.tfc.objects.inventory.ingredient.IIngredient;
@@ -54,6 +57,15 @@ public class Fuel
         return ingredient.testIgnoreCount(stack);
     }
 
+    /**
+     * @see IIngredient#getIndexKeys()
+     */
+    @Nullable
+    public Collection<?> getIndexKeys()
+    {
+        return ingredient.getIndexKeys();
+    }
+
     public int getAmount()
     {
         return amount;
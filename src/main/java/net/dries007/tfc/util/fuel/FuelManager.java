@@ -11,6 +11,7 @@ import javax.annotation.Nonnull;
 
 import net.minecraft.item.ItemStack;
 
+import net.dries007.tfc.api.recipes.RecipeIndex;
 import net.dries007.tfc.api.registries.TFCRegistries;
 import net.dries007.tfc.api.types.Tree;
 import net.dries007.tfc.objects.blocks.wood.BlockLogTFC;
@@ -19,12 +20,22 @@ import net.dries007.tfc.objects.inventory.ingredient.IIngredient;
 public final class FuelManager
 {
     private static final List<Fuel> FUELS = new ArrayList<>();
+    private static final RecipeIndex<Fuel, ItemStack> INDEX = new RecipeIndex<>(() -> FUELS, Fuel::getIndexKeys, ItemStack::getItem);
     private static final Fuel EMPTY = new Fuel(IIngredient.empty(), 0, 0);
 
+    /**
+     * Fuels are indexed by item, so this does not depend on the number of registered fuels. Devices should still cache the result per slot, see {@link FuelSlotCache}
+     */
     @Nonnull
     public static Fuel getFuel(ItemStack stack)
     {
-        return FUELS.stream().filter(x -> x.matchesInput(stack)).findFirst().orElse(EMPTY);
+        Fuel fuel = INDEX.findFirst(stack, x -> x.matchesInput(stack));
+        return fuel != null ? fuel : EMPTY;
+    }
+
+    public static boolean isEmpty(Fuel fuel)
+    {
+        return fuel == EMPTY;
     }
 
     public static boolean isItemFuel(ItemStack stack)
@@ -0,0 +1,51 @@
+/*
+ * Work under Copyright. Licensed under the EUPL.
+ * See the project README.md and LICENSE.txt for more information.
+ */
+
+package net.dries007.tfc.util.fuel;
+
+import javax.annotation.Nonnull;
+
+import net.minecraft.item.ItemStack;
+import net.minecraftforge.items.IItemHandler;
+
+/**
+ * Caches the resolved {@link Fuel} for a range of inventory slots
+ * An entry is reused as long as the slot still holds the same stack instance, so any slot change (insert, extract, cascading slots) resolves it again
+ */
+public final class FuelSlotCache
+{
+    private final int minSlot;
+    private final ItemStack[] stacks;
+    private final Fuel[] fuels;
+
+    public FuelSlotCache(int minSlot, int maxSlot)
+    {
+        this.minSlot = minSlot;
+        this.stacks = new ItemStack[maxSlot - minSlot + 1];
+        this.fuels = new Fuel[maxSlot - minSlot + 1];
+    }
+
+    @Nonnull
+    public Fuel get(IItemHandler inventory, int slot)
+    {
+        ItemStack stack = inventory.getStackInSlot(slot);
+        int i = slot - minSlot;
+        if (stacks[i] != stack || stack.isEmpty())
+        {
+            stacks[i] = stack;
+            fuels[i] = FuelManager.getFuel(stack);
+        }
+        return fuels[i];
+    }
+
+    public void invalidate(int slot)
+    {
+        if (slot >= minSlot && slot < minSlot + stacks.length)
+        {
+            stacks[slot - minSlot] = null;
+            fuels[slot - minSlot] = null;
+        }
+    }
+}
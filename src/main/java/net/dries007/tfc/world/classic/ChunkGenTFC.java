@@ -26,7 +26,6 @@ import net.minecraft.world.gen.IChunkGenerator;
 import net.minecraft.world.gen.MapGenBase;
 import net.minecraft.world.gen.NoiseGeneratorOctaves;
 import net.minecraft.world.gen.NoiseGeneratorPerlin;
-import net.minecraft.world.gen.layer.IntCache;
 import net.minecraftforge.event.ForgeEventFactory;
 import net.minecraftforge.event.terraingen.InitMapGenEvent;
 import net.minecraftforge.event.terraingen.TerrainGen;
@@ -46,6 +45,7 @@ import net.dries007.tfc.util.climate.ClimateHelper;
 import net.dries007.tfc.world.classic.biomes.BiomesTFC;
 import net.dries007.tfc.world.classic.chunkdata.ChunkDataProvider;
 import net.dries007.tfc.world.classic.chunkdata.ChunkDataTFC;
+import net.dries007.tfc.world.classic.genlayers.GenLayerRegionCache;
 import net.dries007.tfc.world.classic.genlayers.GenLayerTFC;
 import net.dries007.tfc.world.classic.genlayers.datalayers.drainage.GenDrainageLayer;
 import net.dries007.tfc.world.classic.genlayers.datalayers.ph.GenPHLayer;
@@ -120,12 +120,12 @@ public class ChunkGenTFC implements IChunkGenerator
     private final NoiseGeneratorPerlin noiseGen8; // Flora Density
     private final NoiseGeneratorPerlin noiseGen9; // Flora Diversity
     private final NoiseGeneratorPerlin noiseGen10; // Temperature
-    private final GenLayerTFC rocksGenLayer1;
-    private final GenLayerTFC rocksGenLayer2;
-    private final GenLayerTFC rocksGenLayer3;
-    private final GenLayerTFC stabilityGenLayer;
+    private final GenLayerRegionCache rocksGenLayer1;
+    private final GenLayerRegionCache rocksGenLayer2;
+    private final GenLayerRegionCache rocksGenLayer3;
+    private final GenLayerRegionCache stabilityGenLayer;
     private final GenLayerTFC phGenLayer;
-    private final GenLayerTFC drainageGenLayer;
+    private final GenLayerRegionCache drainageGenLayer;
     private final double[] noise1 = new double[425];
     private final double[] noise2 = new double[425];
     private final double[] noise3 = new double[425];
@@ -168,18 +168,20 @@ public class ChunkGenTFC implements IChunkGenerator
         noiseGen6 = new NoiseGeneratorOctaves(rand, 1);
         mobSpawnerNoise = new NoiseGeneratorOctaves(rand, 8);
 
-        rocksGenLayer1 = GenLayerTFC.initializeRock(seed + 1, RockCategory.Layer.TOP, s.rockLayerSize);
-        rocksGenLayer2 = GenLayerTFC.initializeRock(seed + 2, RockCategory.Layer.MIDDLE, s.rockLayerSize);
-        rocksGenLayer3 = GenLayerTFC.initializeRock(seed + 3, RockCategory.Layer.BOTTOM, s.rockLayerSize);
+        // Layers are built lazily, once for each thread that generates chunks
+        final int rockLayerSize = s.rockLayerSize;
+        rocksGenLayer1 = new GenLayerRegionCache(() -> GenLayerTFC.initializeRock(seed + 1, RockCategory.Layer.TOP, rockLayerSize));
+        rocksGenLayer2 = new GenLayerRegionCache(() -> GenLayerTFC.initializeRock(seed + 2, RockCategory.Layer.MIDDLE, rockLayerSize));
+        rocksGenLayer3 = new GenLayerRegionCache(() -> GenLayerTFC.initializeRock(seed + 3, RockCategory.Layer.BOTTOM, rockLayerSize));
 
         noiseGen7 = new NoiseGeneratorPerlin(new Random(seed + 4), 4);
         noiseGen8 = new NoiseGeneratorPerlin(new Random(seed + 5), 4);
         noiseGen9 = new NoiseGeneratorPerlin(new Random(seed + 6), 4);
         noiseGen10 = new NoiseGeneratorPerlin(new Random(seed + 7), 4);
 
-        stabilityGenLayer = GenLayerTFC.initializeStability(seed + 9);
+        stabilityGenLayer = new GenLayerRegionCache(() -> GenLayerTFC.initializeStability(seed + 9));
         phGenLayer = GenPHLayer.initializePH(seed + 10);
-        drainageGenLayer = GenDrainageLayer.initialize(seed + 11);
+        drainageGenLayer = new GenLayerRegionCache(() -> GenDrainageLayer.initialize(seed + 11));
 
         caveGen = TerrainGen.getModdedMapGen(new MapGenCavesTFC(stabilityLayer), InitMapGenEvent.EventType.CAVE);
         surfaceRavineGen = new MapGenRavineTFC(s.surfaceRavineRarity, s.surfaceRavineHeight, s.surfaceRavineVariability);
@@ -220,9 +222,9 @@ public class ChunkGenTFC implements IChunkGenerator
         float floraDiversity = MathHelper.clamp(0.5f + 0.5f * floraDiversitySpread * (float) noiseGen9.getValue(chunkX * 0.005, chunkZ * 0.005), 0, 1);
         float floraDensity = MathHelper.clamp((0.3f + 0.2f * rainfall / 500f) + 0.4f * floraDensitySpread * (float) noiseGen8.getValue(chunkX * 0.05, chunkZ * 0.05), 0, 1);
 
-        rockLayer1 = rocksGenLayer1.getInts(chunkX * 16, chunkZ * 16, 16, 16).clone();
-        rockLayer2 = rocksGenLayer2.getInts(chunkX * 16, chunkZ * 16, 16, 16).clone();
-        rockLayer3 = rocksGenLayer3.getInts(chunkX * 16, chunkZ * 16, 16, 16).clone();
+        rockLayer1 = rocksGenLayer1.getInts(chunkX * 16, chunkZ * 16, 16, 16);
+        rockLayer2 = rocksGenLayer2.getInts(chunkX * 16, chunkZ * 16, 16, 16);
+        rockLayer3 = rocksGenLayer3.getInts(chunkX * 16, chunkZ * 16, 16, 16);
 
         final float regionalFactor = 5f * 0.09f * (float) noiseGen10.getValue(chunkX * 0.05, chunkZ * 0.05); // Range -5 <> 5
         averageTemp = ClimateHelper.monthFactor(regionalFactor, Month.AVERAGE_TEMPERATURE_MODIFIER, chunkZ << 4);
@@ -359,9 +361,8 @@ public class ChunkGenTFC implements IChunkGenerator
     }
 
     @SuppressWarnings("SameParameterValue")
-    private void loadLayerGeneratorData(GenLayerTFC gen, DataLayer[] layers, int x, int y, int width, int height)
+    private void loadLayerGeneratorData(GenLayerRegionCache gen, DataLayer[] layers, int x, int y, int width, int height)
     {
-        IntCache.resetIntCache();
         int[] ints = gen.getInts(x, y, width, height);
         for (int i = 0; i < width * height; ++i)
         {
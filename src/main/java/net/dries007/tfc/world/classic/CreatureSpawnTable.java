@@ -0,0 +1,213 @@
+/*
+ * Work under Copyright. Licensed under the EUPL.
+ * See the project README.md and LICENSE.txt for more information.
+ */
+
+package net.dries007.tfc.world.classic;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+
+import net.minecraft.entity.Entity;
+import net.minecraft.world.World;
+import net.minecraft.world.biome.Biome;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.fml.common.Mod;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.minecraftforge.fml.common.registry.EntityEntry;
+import net.minecraftforge.fml.common.registry.ForgeRegistries;
+
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import net.dries007.tfc.api.types.ICreatureTFC;
+
+import static net.dries007.tfc.TerraFirmaCraft.MOD_ID;
+
+/**
+ * All registered {@link ICreatureTFC} entities, and their spawn weights by climate.
+ * Spawn weights only depend on the biome and climate, which are the same for every position in a chunk, so they are computed for all creatures at once and cached by climate.
+ * Each creature is constructed once when the table is built, instead of every time a spawn weight is needed.
+ */
+@Mod.EventBusSubscriber(modid = MOD_ID)
+@ParametersAreNonnullByDefault
+public final class CreatureSpawnTable
+{
+    private static final int MAX_CLIMATES = 256;
+
+    private static CreatureSpawnTable table;
+
+    /**
+     * @return the spawn table. The creatures used to compute spawn weights are constructed in the world, so the table is rebuilt for each world
+     */
+    @Nonnull
+    public static CreatureSpawnTable get(World world)
+    {
+        CreatureSpawnTable current = table;
+        if (current == null || current.world != world)
+        {
+            current = new CreatureSpawnTable(world);
+            table = current;
+        }
+        return current;
+    }
+
+    /**
+     * Spawn weights depend on the config (rarity of each creature)
+     */
+    public static void onConfigChanged()
+    {
+        table = null;
+    }
+
+    @SubscribeEvent
+    public static void onWorldUnload(WorldEvent.Unload event)
+    {
+        CreatureSpawnTable current = table;
+        if (current != null && current.world == event.getWorld())
+        {
+            table = null;
+        }
+    }
+
+    private final World world;
+    private final EntityEntry[] entries;
+    private final ICreatureTFC[] creatures;
+    private final Object2IntMap<Class<? extends Entity>> indexByClass = new Object2IntOpenHashMap<>();
+
+    // Access ordered, so this evicts the least recently used climate. Guarded by synchronizing on the map.
+    private final Map<Climate, int[]> weightsByClimate = new LinkedHashMap<Climate, int[]>(MAX_CLIMATES, 0.75f, true)
+    {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Climate, int[]> eldest)
+        {
+            return size() > MAX_CLIMATES;
+        }
+    };
+
+    private CreatureSpawnTable(World world)
+    {
+        this.world = world;
+
+        List<EntityEntry> entries = new ArrayList<>();
+        List<ICreatureTFC> creatures = new ArrayList<>();
+        indexByClass.defaultReturnValue(-1);
+        for (EntityEntry entry : ForgeRegistries.ENTITIES.getValuesCollection())
+        {
+            if (ICreatureTFC.class.isAssignableFrom(entry.getEntityClass()))
+            {
+                // Only used to query the spawn weight, this is never spawned
+                Entity entity = entry.newInstance(world);
+                if (entity instanceof ICreatureTFC)
+                {
+                    indexByClass.put(entry.getEntityClass(), entries.size());
+                    entries.add(entry);
+                    creatures.add((ICreatureTFC) entity);
+                }
+            }
+        }
+        this.entries = entries.toArray(new EntityEntry[0]);
+        this.creatures = creatures.toArray(new ICreatureTFC[0]);
+    }
+
+    public int size()
+    {
+        return entries.length;
+    }
+
+    @Nonnull
+    public EntityEntry getEntry(int index)
+    {
+        return entries[index];
+    }
+
+    /**
+     * @return the spawn weight of every creature in this table, see {@link ICreatureTFC#getSpawnWeight(Biome, float, float, float, float)}. This array must not be modified
+     */
+    @Nonnull
+    public int[] getSpawnWeights(Biome biome, float temperature, float rainfall, float floraDensity, float floraDiversity)
+    {
+        final Climate climate = new Climate(biome, temperature, rainfall, floraDensity, floraDiversity);
+        int[] weights;
+        synchronized (weightsByClimate)
+        {
+            weights = weightsByClimate.get(climate);
+        }
+        if (weights == null)
+        {
+            weights = new int[creatures.length];
+            for (int i = 0; i < creatures.length; i++)
+            {
+                weights[i] = creatures[i].getSpawnWeight(biome, temperature, rainfall, floraDensity, floraDiversity);
+            }
+            synchronized (weightsByClimate)
+            {
+                weightsByClimate.put(climate, weights);
+            }
+        }
+        return weights;
+    }
+
+    /**
+     * Same as {@link ICreatureTFC#getSpawnWeight(Biome, float, float, float, float)}, but cached
+     */
+    public int getSpawnWeight(ICreatureTFC creature, Biome biome, float temperature, float rainfall, float floraDensity, float floraDiversity)
+    {
+        int index = indexByClass.getInt(creature.getClass());
+        if (index == -1)
+        {
+            // Not a registered entity, so not in this table
+            return creature.getSpawnWeight(biome, temperature, rainfall, floraDensity, floraDiversity);
+        }
+        return getSpawnWeights(biome, temperature, rainfall, floraDensity, floraDiversity)[index];
+    }
+
+    private static final class Climate
+    {
+        private final Biome biome;
+        private final float temperature;
+        private final float rainfall;
+        private final float floraDensity;
+        private final float floraDiversity;
+
+        private Climate(Biome biome, float temperature, float rainfall, float floraDensity, float floraDiversity)
+        {
+            this.biome = biome;
+            this.temperature = temperature;
+            this.rainfall = rainfall;
+            this.floraDensity = floraDensity;
+            this.floraDiversity = floraDiversity;
+        }
+
+        @Override
+        public boolean equals(@Nullable Object o)
+        {
+            if (this == o)
+            {
+                return true;
+            }
+            if (!(o instanceof Climate))
+            {
+                return false;
+            }
+            Climate other = (Climate) o;
+            return biome == other.biome && Float.compare(temperature, other.temperature) == 0 && Float.compare(rainfall, other.rainfall) == 0
+                && Float.compare(floraDensity, other.floraDensity) == 0 && Float.compare(floraDiversity, other.floraDiversity) == 0;
+        }
+
+        @Override
+        public int hashCode()
+        {
+            int result = System.identityHashCode(biome);
+            result = 31 * result + Float.floatToIntBits(temperature);
+            result = 31 * result + Float.floatToIntBits(rainfall);
+            result = 31 * result + Float.floatToIntBits(floraDensity);
+            result = 31 * result + Float.floatToIntBits(floraDiversity);
+            return result;
+        }
+    }
+}
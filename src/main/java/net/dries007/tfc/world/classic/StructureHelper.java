@@ -5,18 +5,19 @@
 
 package net.dries007.tfc.world.classic;
 
+import java.util.Map;
 import java.util.Random;
+import java.util.WeakHashMap;
 import javax.annotation.ParametersAreNonnullByDefault;
 
-import net.minecraft.block.Block;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.init.Blocks;
+import net.minecraft.util.Mirror;
 import net.minecraft.util.Rotation;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
 import net.minecraft.world.gen.structure.StructureBoundingBox;
 import net.minecraft.world.gen.structure.template.BlockRotationProcessor;
-import net.minecraft.world.gen.structure.template.ITemplateProcessor;
 import net.minecraft.world.gen.structure.template.PlacementSettings;
 import net.minecraft.world.gen.structure.template.Template;
 
@@ -28,52 +29,76 @@ import net.dries007.tfc.objects.blocks.wood.BlockSaplingTFC;
 @MethodsReturnNonnullByDefault
 public final class StructureHelper
 {
+    private static final Mirror[] MIRRORS = Mirror.values();
+    private static final Rotation[] ROTATIONS = Rotation.values();
+
+    // Weak keys, as templates are reloaded with the template manager. Guarded by synchronizing on the map.
+    private static final Map<Template, CompiledTemplate[]> COMPILED = new WeakHashMap<>();
+
+    /**
+     * Places a template, notifying neighbors of every placed block. Used for sapling growth
+     *
+     * @see #addStructureToWorld(World, BlockPos, Template, PlacementSettings, boolean)
+     */
+    public static void addStructureToWorld(World worldIn, BlockPos pos, Template template, PlacementSettings placementIn)
+    {
+        addStructureToWorld(worldIn, pos, template, placementIn, false);
+    }
+
     /**
      * This is a copy of the method included in the Template class, with some key differences.
      * This will ignore TEs / Entities, and does less checks for bad usage, since it will only be used for tree worldgen
      * It will do an additional check that the block is replaceable; important for tree growth; as to not replace other blocks
      *
+     * Each template is compiled once per mirror and rotation, into the transformed positions and block states, so placing it only needs to check and set each block.
+     * Integrity is applied the same as {@link BlockRotationProcessor}, drawing from the same random, in the same order.
+     *
      * @param worldIn     the world
      * @param pos         the position
      * @param template    the template
      * @param placementIn the placement settings
+     * @param isWorldGen  if true, neighbors are not notified of the placed blocks, same as vanilla world generation
      */
-    public static void addStructureToWorld(World worldIn, BlockPos pos, Template template, PlacementSettings placementIn)
+    public static void addStructureToWorld(World worldIn, BlockPos pos, Template template, PlacementSettings placementIn, boolean isWorldGen)
     {
-        ITemplateProcessor templateProcessor = new BlockRotationProcessor(pos, placementIn);
-        StructureBoundingBox structureboundingbox = placementIn.getBoundingBox();
+        final CompiledTemplate compiled = getCompiled(template, placementIn.getMirror(), placementIn.getRotation());
+        final StructureBoundingBox structureboundingbox = placementIn.getBoundingBox();
+        final boolean ignoreStructureBlock = placementIn.getIgnoreStructureBlock();
+        final float integrity = placementIn.getIntegrity();
+        final Random random = integrity < 1.0F ? placementIn.getRandom(pos) : null;
+        final int[] offsets = compiled.offsets;
+        final IBlockState[] states = compiled.states;
+        final BlockPos.MutableBlockPos mutablePos = new BlockPos.MutableBlockPos();
 
-        for (Template.BlockInfo template$blockinfo : template.blocks)
+        for (int i = 0; i < states.length; i++)
         {
-            BlockPos blockpos = Template.transformedBlockPos(placementIn, template$blockinfo.pos).add(pos);
-            Template.BlockInfo template$blockinfo1 = templateProcessor.processBlock(worldIn, blockpos, template$blockinfo);
-
-            if (template$blockinfo1 != null)
+            if (random != null && random.nextFloat() > integrity)
             {
-                Block block1 = template$blockinfo1.blockState.getBlock();
+                continue;
+            }
 
-                if ((!placementIn.getIgnoreStructureBlock() || block1 != Blocks.STRUCTURE_BLOCK) && (structureboundingbox == null || structureboundingbox.isVecInside(blockpos)))
+            final IBlockState stateToPlace = states[i];
+            mutablePos.setPos(pos.getX() + offsets[3 * i], pos.getY() + offsets[3 * i + 1], pos.getZ() + offsets[3 * i + 2]);
+            if ((!ignoreStructureBlock || stateToPlace.getBlock() != Blocks.STRUCTURE_BLOCK) && (structureboundingbox == null || structureboundingbox.isVecInside(mutablePos)))
+            {
+                IBlockState stateToReplace = worldIn.getBlockState(mutablePos);
+                if (stateToReplace.getMaterial().isReplaceable() || stateToReplace.getBlock() instanceof BlockLeavesTFC || stateToReplace.getBlock() instanceof BlockSaplingTFC)
                 {
-                    IBlockState stateToPlace = template$blockinfo1.blockState.withMirror(placementIn.getMirror()).withRotation(placementIn.getRotation());
-                    IBlockState stateToReplace = worldIn.getBlockState(blockpos);
-
-                    if (stateToReplace.getMaterial().isReplaceable() || stateToReplace.getBlock() instanceof BlockLeavesTFC || stateToReplace.getBlock() instanceof BlockSaplingTFC)
-                    {
-                        worldIn.setBlockState(blockpos, stateToPlace, 2);
-                    }
+                    worldIn.setBlockState(mutablePos.toImmutable(), stateToPlace, 2);
                 }
             }
         }
 
-        for (Template.BlockInfo template$blockinfo2 : template.blocks)
+        if (!isWorldGen)
         {
-            BlockPos blockpos1 = Template.transformedBlockPos(placementIn, template$blockinfo2.pos).add(pos);
-
-            if (structureboundingbox == null || structureboundingbox.isVecInside(blockpos1))
+            for (int i = 0; i < states.length; i++)
             {
-                worldIn.notifyNeighborsRespectDebug(blockpos1, template$blockinfo2.blockState.getBlock(), false);
+                mutablePos.setPos(pos.getX() + offsets[3 * i], pos.getY() + offsets[3 * i + 1], pos.getZ() + offsets[3 * i + 2]);
+                if (structureboundingbox == null || structureboundingbox.isVecInside(mutablePos))
+                {
+                    worldIn.notifyNeighborsRespectDebug(mutablePos.toImmutable(), states[i].getBlock(), false);
+                }
             }
-
         }
     }
 
@@ -98,4 +123,44 @@ public final class StructureHelper
     {
         return getDefaultSettings().setRotation(Rotation.values()[rand.nextInt(Rotation.values().length)]);
     }
+
+    private static CompiledTemplate getCompiled(Template template, Mirror mirror, Rotation rotation)
+    {
+        final int index = mirror.ordinal() * ROTATIONS.length + rotation.ordinal();
+        synchronized (COMPILED)
+        {
+            CompiledTemplate[] variants = COMPILED.computeIfAbsent(template, key -> new CompiledTemplate[MIRRORS.length * ROTATIONS.length]);
+            if (variants[index] == null)
+            {
+                variants[index] = new CompiledTemplate(template, mirror, rotation);
+            }
+            return variants[index];
+        }
+    }
+
+    /**
+     * The blocks of a template with one mirror and rotation applied, in template order
+     */
+    private static final class CompiledTemplate
+    {
+        private final int[] offsets; // x, y, z of each block, relative to the placement position
+        private final IBlockState[] states;
+
+        private CompiledTemplate(Template template, Mirror mirror, Rotation rotation)
+        {
+            final PlacementSettings settings = new PlacementSettings().setMirror(mirror).setRotation(rotation);
+            final int size = template.blocks.size();
+            offsets = new int[3 * size];
+            states = new IBlockState[size];
+            for (int i = 0; i < size; i++)
+            {
+                Template.BlockInfo blockInfo = template.blocks.get(i);
+                BlockPos offset = Template.transformedBlockPos(settings, blockInfo.pos);
+                offsets[3 * i] = offset.getX();
+                offsets[3 * i + 1] = offset.getY();
+                offsets[3 * i + 2] = offset.getZ();
+                states[i] = blockInfo.blockState.withMirror(mirror).withRotation(rotation);
+            }
+        }
+    }
 }
@@ -9,13 +9,12 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
 
-import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityLiving;
 import net.minecraft.entity.EnumCreatureType;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
 import net.minecraft.world.biome.Biome;
-import net.minecraftforge.fml.common.registry.ForgeRegistries;
+import net.minecraftforge.fml.common.registry.EntityEntry;
 
 import net.dries007.tfc.ConfigTFC;
 import net.dries007.tfc.api.types.ICreatureTFC;
@@ -58,71 +57,69 @@ public final class WorldEntitySpawnerTFC
         final float floraDiversity = ChunkDataTFC.getFloraDiversity(worldIn, chunkBlockPos);
 
         // Spawns only one group
-        ForgeRegistries.ENTITIES.getValuesCollection().stream()
-            .filter(x -> {
-                if (ICreatureTFC.class.isAssignableFrom(x.getEntityClass()))
-                {
-                    Entity ent = x.newInstance(worldIn);
-                    if (ent instanceof ICreatureTFC)
-                    {
-                        int weight = ((ICreatureTFC) ent).getSpawnWeight(biomeIn, temperature, rainfall, floraDensity, floraDiversity);
-                        return weight > 0 && randomIn.nextInt(weight) == 0;
-                    }
-                }
-                return false;
-            }).findFirst()
-            .ifPresent(entityEntry ->
+        final CreatureSpawnTable table = CreatureSpawnTable.get(worldIn);
+        final int[] weights = table.getSpawnWeights(biomeIn, temperature, rainfall, floraDensity, floraDiversity);
+        for (int i = 0; i < weights.length; i++)
+        {
+            if (weights[i] > 0 && randomIn.nextInt(weights[i]) == 0)
             {
-                List<EntityLiving> group = new ArrayList<>();
-                EntityLiving creature = (EntityLiving) entityEntry.newInstance(worldIn);
-                if (!(creature instanceof ICreatureTFC))
-                {
-                    return; // Make sure to not crash
-                }
-                ICreatureTFC creatureTFC = (ICreatureTFC) creature;
-                int fallback = 5; // Fallback measure if some mod completely deny this entity spawn
-                int individuals = Math.max(1, creatureTFC.getMinGroupSize()) + randomIn.nextInt(creatureTFC.getMaxGroupSize() - Math.max(0, creatureTFC.getMinGroupSize() - 1));
-                while (individuals > 0)
+                spawnGroup(worldIn, table.getEntry(i), centerX, centerZ, diameterX, diameterZ, randomIn);
+                break;
+            }
+        }
+    }
+
+    private static void spawnGroup(World worldIn, EntityEntry entityEntry, int centerX, int centerZ, int diameterX, int diameterZ, Random randomIn)
+    {
+        List<EntityLiving> group = new ArrayList<>();
+        EntityLiving creature = (EntityLiving) entityEntry.newInstance(worldIn);
+        if (!(creature instanceof ICreatureTFC))
+        {
+            return; // Make sure to not crash
+        }
+        ICreatureTFC creatureTFC = (ICreatureTFC) creature;
+        int fallback = 5; // Fallback measure if some mod completely deny this entity spawn
+        int individuals = Math.max(1, creatureTFC.getMinGroupSize()) + randomIn.nextInt(creatureTFC.getMaxGroupSize() - Math.max(0, creatureTFC.getMinGroupSize() - 1));
+        while (individuals > 0)
+        {
+            int j = centerX + randomIn.nextInt(diameterX);
+            int k = centerZ + randomIn.nextInt(diameterZ);
+            BlockPos blockpos = worldIn.getTopSolidOrLiquidBlock(new BlockPos(j, 0, k));
+            creature.setLocationAndAngles((float) j + 0.5F, blockpos.getY(), (float) k + 0.5F, randomIn.nextFloat() * 360.0F, 0.0F);
+            if (creature.getCanSpawnHere()) // fix entities spawning inside walls
+            {
+                if (net.minecraftforge.event.ForgeEventFactory.canEntitySpawn(creature, worldIn, j + 0.5f, (float) blockpos.getY(), k + 0.5f, null) == net.minecraftforge.fml.common.eventhandler.Event.Result.DENY)
                 {
-                    int j = centerX + randomIn.nextInt(diameterX);
-                    int k = centerZ + randomIn.nextInt(diameterZ);
-                    BlockPos blockpos = worldIn.getTopSolidOrLiquidBlock(new BlockPos(j, 0, k));
-                    creature.setLocationAndAngles((float) j + 0.5F, blockpos.getY(), (float) k + 0.5F, randomIn.nextFloat() * 360.0F, 0.0F);
-                    if (creature.getCanSpawnHere()) // fix entities spawning inside walls
+                    if (--fallback > 0)
                     {
-                        if (net.minecraftforge.event.ForgeEventFactory.canEntitySpawn(creature, worldIn, j + 0.5f, (float) blockpos.getY(), k + 0.5f, null) == net.minecraftforge.fml.common.eventhandler.Event.Result.DENY)
-                        {
-                            if (--fallback > 0)
-                            {
-                                continue;
-                            }
-                            else
-                            {
-                                break; // Someone doesn't want me to spawn :(
-                            }
-                        }
-                        fallback = 5;
-                        // Spawn pass! let's continue
-                        worldIn.spawnEntity(creature);
-                        group.add(creature);
-                        creature.onInitialSpawn(worldIn.getDifficultyForLocation(new BlockPos(creature)), null);
-                        if (--individuals > 0)
-                        {
-                            //We still need to spawn more
-                            creature = (EntityLiving) entityEntry.newInstance(worldIn);
-                            creatureTFC = (ICreatureTFC) creature;
-                        }
+                        continue;
                     }
                     else
                     {
-                        if (--fallback <= 0) //Trying to spawn in water or inside walls too many times, let's break
-                        {
-                            break;
-                        }
+                        break; // Someone doesn't want me to spawn :(
                     }
                 }
-                // Apply the group spawning mechanics!
-                creatureTFC.getGroupingRules().accept(group, randomIn);
-            });
+                fallback = 5;
+                // Spawn pass! let's continue
+                worldIn.spawnEntity(creature);
+                group.add(creature);
+                creature.onInitialSpawn(worldIn.getDifficultyForLocation(new BlockPos(creature)), null);
+                if (--individuals > 0)
+                {
+                    //We still need to spawn more
+                    creature = (EntityLiving) entityEntry.newInstance(worldIn);
+                    creatureTFC = (ICreatureTFC) creature;
+                }
+            }
+            else
+            {
+                if (--fallback <= 0) //Trying to spawn in water or inside walls too many times, let's break
+                {
+                    break;
+                }
+            }
+        }
+        // Apply the group spawning mechanics!
+        creatureTFC.getGroupingRules().accept(group, randomIn);
     }
 }
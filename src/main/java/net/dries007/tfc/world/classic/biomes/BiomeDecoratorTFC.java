@@ -151,11 +151,13 @@ public class BiomeDecoratorTFC extends BiomeDecorator
         final float floraDiversity = data.getFloraDiversity();
 
         this.chunkPos = chunkPos;
+        // Only the plants that may be valid in this climate, these are still checked exactly so the same plants generate
+        final Plant[][] candidates = PlantCandidateTable.get().getCandidates(avgTemperature, rainfall);
         // todo: settings for all the rarities?
 
         if (TerrainGen.decorate(world, rng, forgeChunkPos, DecorateBiomeEvent.Decorate.EventType.SHROOM))
         {
-            for (Plant plant : TFCRegistries.PLANTS.getValuesCollection())
+            for (Plant plant : candidates[PlantCandidateTable.Pass.MUSHROOM.ordinal()])
             {
                 if (plant.getPlantType() == Plant.PlantType.MUSHROOM && plant.isValidTempForWorldGen(avgTemperature) && plant.isValidRain(rainfall))
                 {
@@ -172,7 +174,7 @@ public class BiomeDecoratorTFC extends BiomeDecorator
 
         if (TerrainGen.decorate(world, rng, forgeChunkPos, DecorateBiomeEvent.Decorate.EventType.CACTUS))
         {
-            for (Plant plant : TFCRegistries.PLANTS.getValuesCollection())
+            for (Plant plant : candidates[PlantCandidateTable.Pass.CACTUS.ordinal()])
             {
                 if (plant.getPlantType() == Plant.PlantType.CACTUS && plant.isValidTempForWorldGen(avgTemperature) && plant.isValidRain(rainfall))
                 {
@@ -190,7 +192,7 @@ public class BiomeDecoratorTFC extends BiomeDecorator
 
         if (TerrainGen.decorate(world, rng, forgeChunkPos, DecorateBiomeEvent.Decorate.EventType.LILYPAD))
         {
-            for (Plant plant : TFCRegistries.PLANTS.getValuesCollection())
+            for (Plant plant : candidates[PlantCandidateTable.Pass.LILYPAD.ordinal()])
             {
                 if (plant.isValidTempForWorldGen(avgTemperature) && plant.isValidRain(rainfall))
                 {
@@ -221,7 +223,7 @@ public class BiomeDecoratorTFC extends BiomeDecorator
 
         if (TerrainGen.decorate(world, rng, forgeChunkPos, DecorateBiomeEvent.Decorate.EventType.REED))
         {
-            for (Plant plant : TFCRegistries.PLANTS.getValuesCollection())
+            for (Plant plant : candidates[PlantCandidateTable.Pass.REED.ordinal()])
             {
                 if (plant.isValidTempForWorldGen(avgTemperature) && plant.isValidRain(rainfall))
                 {
@@ -254,7 +256,7 @@ public class BiomeDecoratorTFC extends BiomeDecorator
 
         if (TerrainGen.decorate(world, rng, forgeChunkPos, DecorateBiomeEvent.Decorate.EventType.FLOWERS))
         {
-            for (Plant plant : TFCRegistries.PLANTS.getValuesCollection())
+            for (Plant plant : candidates[PlantCandidateTable.Pass.FLOWERS.ordinal()])
             {
                 if (plant.isValidTempForWorldGen(avgTemperature) && plant.isValidRain(rainfall))
                 {
@@ -334,7 +336,7 @@ public class BiomeDecoratorTFC extends BiomeDecorator
 
         if (TerrainGen.decorate(world, rng, forgeChunkPos, DecorateBiomeEvent.Decorate.EventType.DEAD_BUSH))
         {
-            for (Plant plant : TFCRegistries.PLANTS.getValuesCollection())
+            for (Plant plant : candidates[PlantCandidateTable.Pass.DEAD_BUSH.ordinal()])
             {
                 if (plant.isValidTempForWorldGen(avgTemperature) && plant.isValidRain(rainfall))
                 {
@@ -367,7 +369,7 @@ public class BiomeDecoratorTFC extends BiomeDecorator
 
         if (TerrainGen.decorate(world, rng, forgeChunkPos, DecorateBiomeEvent.Decorate.EventType.GRASS))
         {
-            for (Plant plant : TFCRegistries.PLANTS.getValuesCollection())
+            for (Plant plant : candidates[PlantCandidateTable.Pass.GRASS.ordinal()])
             {
                 if (plant.isValidTempForWorldGen(avgTemperature) && plant.isValidRain(rainfall))
                 {
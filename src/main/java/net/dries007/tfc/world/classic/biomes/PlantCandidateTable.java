@@ -0,0 +1,120 @@
+/*
+ * Work under Copyright. Licensed under the EUPL.
+ * See the project README.md and LICENSE.txt for more information.
+ */
+
+package net.dries007.tfc.world.classic.biomes;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import javax.annotation.Nonnull;
+import javax.annotation.ParametersAreNonnullByDefault;
+
+import net.dries007.tfc.api.registries.TFCRegistries;
+import net.dries007.tfc.api.types.Plant;
+
+import static net.dries007.tfc.api.types.Plant.PlantType.*;
+
+/**
+ * The plants that may generate in a climate, for each decoration pass of {@link BiomeDecoratorTFC}.
+ * Climates are split into buckets of {@link #TEMP_STEP} degrees and {@link #RAIN_STEP} mm of rainfall, and each bucket lists every plant that is valid for world gen somewhere in it, in registry order.
+ * These are only candidates: each plant must still be checked with the exact temperature and rainfall, so the plants generated are the same as checking every plant.
+ */
+@ParametersAreNonnullByDefault
+public final class PlantCandidateTable
+{
+    private static final float MIN_TEMP = -50, TEMP_STEP = 1;
+    private static final float MIN_RAIN = 0, RAIN_STEP = 10;
+    private static final int TEMP_BUCKETS = 100, RAIN_BUCKETS = 50;
+    // Buckets are widened by this much, so float rounding in the exact checks never makes a plant valid outside its buckets
+    private static final float MARGIN = 0.5f;
+
+    private static PlantCandidateTable instance;
+
+    /**
+     * @return the table, built the first time it is needed, which is after the plant registry is frozen
+     */
+    @Nonnull
+    public static PlantCandidateTable get()
+    {
+        if (instance == null)
+        {
+            instance = new PlantCandidateTable();
+        }
+        return instance;
+    }
+
+    private static int getBucket(float value, float min, float step, int buckets)
+    {
+        int bucket = (int) Math.floor((value - min) / step);
+        return bucket < 0 ? 0 : bucket >= buckets ? buckets - 1 : bucket;
+    }
+
+    private static float getBucketMin(int bucket, float min, float step)
+    {
+        // The lowest bucket also holds everything below it
+        return bucket == 0 ? Float.NEGATIVE_INFINITY : min + bucket * step - MARGIN;
+    }
+
+    private static float getBucketMax(int bucket, float min, float step, int buckets)
+    {
+        // The highest bucket also holds everything above it
+        return bucket == buckets - 1 ? Float.POSITIVE_INFINITY : min + (bucket + 1) * step + MARGIN;
+    }
+
+    private final Plant[][][] candidates = new Plant[TEMP_BUCKETS * RAIN_BUCKETS][][];
+
+    private PlantCandidateTable()
+    {
+        final Pass[] passes = Pass.values();
+        final List<Plant> plants = new ArrayList<>(TFCRegistries.PLANTS.getValuesCollection());
+        for (int tempBucket = 0; tempBucket < TEMP_BUCKETS; tempBucket++)
+        {
+            final float minTemp = getBucketMin(tempBucket, MIN_TEMP, TEMP_STEP), maxTemp = getBucketMax(tempBucket, MIN_TEMP, TEMP_STEP, TEMP_BUCKETS);
+            for (int rainBucket = 0; rainBucket < RAIN_BUCKETS; rainBucket++)
+            {
+                final float minRain = getBucketMin(rainBucket, MIN_RAIN, RAIN_STEP), maxRain = getBucketMax(rainBucket, MIN_RAIN, RAIN_STEP, RAIN_BUCKETS);
+                final Plant[][] bucket = new Plant[passes.length][];
+                for (Pass pass : passes)
+                {
+                    bucket[pass.ordinal()] = plants.stream()
+                        .filter(plant -> pass.types.contains(plant.getPlantType()) && plant.isValidForWorldGen(minTemp, maxTemp, minRain, maxRain))
+                        .toArray(Plant[]::new);
+                }
+                candidates[tempBucket * RAIN_BUCKETS + rainBucket] = bucket;
+            }
+        }
+    }
+
+    /**
+     * @return the candidates for each pass, by {@link Pass#ordinal()}. These arrays must not be modified
+     */
+    @Nonnull
+    public Plant[][] getCandidates(float temperature, float rainfall)
+    {
+        return candidates[getBucket(temperature, MIN_TEMP, TEMP_STEP, TEMP_BUCKETS) * RAIN_BUCKETS + getBucket(rainfall, MIN_RAIN, RAIN_STEP, RAIN_BUCKETS)];
+    }
+
+    /**
+     * The plant types generated by each decoration pass
+     */
+    public enum Pass
+    {
+        MUSHROOM(EnumSet.of(Plant.PlantType.MUSHROOM)),
+        CACTUS(EnumSet.of(Plant.PlantType.CACTUS)),
+        LILYPAD(EnumSet.of(FLOATING, FLOATING_SEA)),
+        REED(EnumSet.of(Plant.PlantType.REED, TALL_REED, REED_SEA, TALL_REED_SEA)),
+        FLOWERS(EnumSet.of(WATER, TALL_WATER, EMERGENT_TALL_WATER, WATER_SEA, TALL_WATER_SEA, EMERGENT_TALL_WATER_SEA, EPIPHYTE, CREEPING, HANGING, TALL_PLANT, STANDARD)),
+        DEAD_BUSH(EnumSet.of(DESERT, DESERT_TALL_PLANT, DRY, DRY_TALL_PLANT)),
+        GRASS(EnumSet.of(SHORT_GRASS, TALL_GRASS));
+
+        private final Set<Plant.PlantType> types;
+
+        Pass(Set<Plant.PlantType> types)
+        {
+            this.types = types;
+        }
+    }
+}
@@ -5,14 +5,19 @@
 
 package net.dries007.tfc.world.classic.chunkdata;
 
-import net.minecraft.nbt.NBTTagCompound;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.util.ResourceLocation;
 import net.minecraft.world.chunk.Chunk;
 import net.minecraftforge.common.capabilities.CapabilityManager;
 import net.minecraftforge.event.AttachCapabilitiesEvent;
+import net.minecraftforge.event.world.ChunkEvent;
 import net.minecraftforge.event.world.ChunkWatchEvent;
 import net.minecraftforge.fml.common.Mod;
 import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.minecraftforge.fml.common.gameevent.TickEvent;
 
 import net.dries007.tfc.TerraFirmaCraft;
 import net.dries007.tfc.network.PacketChunkData;
@@ -25,6 +30,11 @@ public final class CapabilityChunkData
 {
     public static final ResourceLocation CHUNK_DATA = new ResourceLocation(MOD_ID, "chunkdata");
 
+    /**
+     * Chunk data waiting to be sent, per player. Players start watching many chunks at once (on login or teleport), so these are sent together at the end of the tick
+     */
+    private static final Map<EntityPlayerMP, PacketChunkData> PENDING_SYNC = new IdentityHashMap<>();
+
     public static void preInit()
     {
         CapabilityManager.INSTANCE.register(ChunkDataTFC.class, new ChunkDataTFC.ChunkDataStorage(), ChunkDataTFC::new);
@@ -37,7 +47,7 @@ public final class CapabilityChunkData
         //noinspection ConstantConditions
         if (event.getObject().getWorld() != null && event.getObject().getWorld().getWorldType() == TerraFirmaCraft.getWorldType())
         {
-            event.addCapability(CHUNK_DATA, new ChunkDataProvider());
+            event.addCapability(CHUNK_DATA, new ChunkDataProvider(event.getObject()));
         }
     }
 
@@ -54,8 +64,63 @@ public final class CapabilityChunkData
                 ClimateTFC.update(chunk.getPos(), data.getRegionalTemp(), data.getRainfall());
 
                 // Update client side data
-                NBTTagCompound nbt = (NBTTagCompound) ChunkDataProvider.CHUNK_DATA_CAPABILITY.writeNBT(data, null);
-                TerraFirmaCraft.getNetwork().sendTo(new PacketChunkData(chunk.getPos(), nbt, data.getRegionalTemp(), data.getRainfall()), event.getPlayer());
+                PacketChunkData packet = PENDING_SYNC.get(event.getPlayer());
+                if (packet == null)
+                {
+                    PENDING_SYNC.put(event.getPlayer(), new PacketChunkData(chunk.getPos(), data));
+                }
+                else
+                {
+                    packet.add(chunk.getPos(), data);
+                    if (packet.size() >= PacketChunkData.MAX_CHUNKS)
+                    {
+                        TerraFirmaCraft.getNetwork().sendTo(packet, event.getPlayer());
+                        PENDING_SYNC.remove(event.getPlayer());
+                    }
+                }
+            }
+        }
+    }
+
+    @SubscribeEvent
+    public static void onServerTick(TickEvent.ServerTickEvent event)
+    {
+        if (event.phase == TickEvent.Phase.END && !PENDING_SYNC.isEmpty())
+        {
+            PENDING_SYNC.forEach((player, packet) -> {
+                if (!player.hasDisconnected())
+                {
+                    TerraFirmaCraft.getNetwork().sendTo(packet, player);
+                }
+            });
+            PENDING_SYNC.clear();
+        }
+    }
+
+    @SubscribeEvent
+    public static void onChunkLoad(ChunkEvent.Load event)
+    {
+        if (!event.getWorld().isRemote)
+        {
+            ChunkDataTFC data = event.getChunk().getCapability(ChunkDataProvider.CHUNK_DATA_CAPABILITY, null);
+            if (data != null)
+            {
+                data.onLoad();
+            }
+        }
+    }
+
+    @SubscribeEvent
+    public static void onChunkUnload(ChunkEvent.Unload event)
+    {
+        // Keep the world-less climate cache bounded to chunks that are actually loaded somewhere
+        // The cache has no dimension or side, so only drop chunks which filled it (see onChunkWatchWatch) when the server unloads them
+        if (!event.getWorld().isRemote)
+        {
+            ChunkDataTFC data = event.getChunk().getCapability(ChunkDataProvider.CHUNK_DATA_CAPABILITY, null);
+            if (data != null && data.isInitialized())
+            {
+                ClimateTFC.invalidate(event.getChunk().getPos());
             }
         }
     }
@@ -10,6 +10,7 @@ import javax.annotation.Nullable;
 
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.util.EnumFacing;
+import net.minecraft.world.chunk.Chunk;
 import net.minecraftforge.common.capabilities.Capability;
 import net.minecraftforge.common.capabilities.CapabilityInject;
 import net.minecraftforge.common.capabilities.ICapabilitySerializable;
@@ -23,6 +24,11 @@ public final class ChunkDataProvider implements ICapabilitySerializable<NBTTagCo
 
     private final ChunkDataTFC instance = CHUNK_DATA_CAPABILITY.getDefaultInstance();
 
+    public ChunkDataProvider(Chunk chunk)
+    {
+        instance.setChunk(chunk);
+    }
+
     @Override
     public boolean hasCapability(@Nonnull Capability<?> capability, @Nullable EnumFacing facing)
     {
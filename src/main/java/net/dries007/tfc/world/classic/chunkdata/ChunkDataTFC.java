@@ -20,10 +20,18 @@ import net.minecraft.world.World;
 import net.minecraft.world.chunk.Chunk;
 import net.minecraftforge.common.capabilities.Capability;
 import net.minecraftforge.common.util.Constants;
+import net.minecraftforge.fml.common.network.ByteBufUtils;
 import net.minecraftforge.registries.ForgeRegistry;
 
-import net.dries007.tfc.ConfigTFC;
+import io.netty.buffer.ByteBuf;
+import it.unimi.dsi.fastutil.ints.Int2IntMap;
+import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import it.unimi.dsi.fastutil.ints.IntSet;
 import net.dries007.tfc.api.registries.TFCRegistries;
+import net.dries007.tfc.api.types.Ore;
 import net.dries007.tfc.api.types.Rock;
 import net.dries007.tfc.api.types.Tree;
 import net.dries007.tfc.util.NBTBuilder;
@@ -134,6 +142,37 @@ public final class ChunkDataTFC
     private int chunkWorkage;
     private long protectedTicks; // Used for hostile spawn protection. Starts negative, increases by players in the area
     private long lastUpdateTick, lastUpdateYear; // The last time this chunk was updated by world regen
+    private final IntSet supports = new IntOpenHashSet(); // Horizontal support beams in this chunk, packed with packSupportPos
+    private boolean supportsIndexed = true; // False for chunks saved before the support index existed, until they are scanned once
+    private final ChunkOreIndex oreIndex = new ChunkOreIndex();
+    private World world; // The world and position of the chunk, to update the workable ore index. Null for chunk data not attached to a chunk
+    private int chunkX, chunkZ;
+
+    /**
+     * INTERNAL USE ONLY.
+     * Called when this is attached to a chunk, see {@link ChunkDataProvider}
+     */
+    public void setChunk(Chunk chunk)
+    {
+        this.world = chunk.getWorld();
+        this.chunkX = chunk.x;
+        this.chunkZ = chunk.z;
+    }
+
+    /**
+     * Called when the chunk is loaded, to bring it and the {@link WorkableOreIndex} up to date with each other.
+     * Work may have been done in the index while this chunk was unloaded, and chunks saved before the index existed are not in it yet
+     */
+    public void onLoad()
+    {
+        WorkableOreIndex index = getWorkableOreIndex();
+        if (index != null && initialized)
+        {
+            chunkWorkage = Math.max(chunkWorkage, index.getWork(chunkX, chunkZ));
+            index.setWork(chunkX, chunkZ, chunkWorkage);
+            index.setOres(chunkX, chunkZ, getWorkableOres());
+        }
+    }
 
     /**
      * INTERNAL USE ONLY.
@@ -169,7 +208,14 @@ public final class ChunkDataTFC
      */
     public void markVeinGenerated(@Nonnull Vein vein)
     {
-        generatedVeins.add(vein);
+        if (generatedVeins.add(vein) && vein.getType() != null && vein.getType().getOre() != null)
+        {
+            WorkableOreIndex index = getWorkableOreIndex();
+            if (index != null)
+            {
+                index.setOres(chunkX, chunkZ, getWorkableOres());
+            }
+        }
     }
 
     /**
@@ -180,14 +226,67 @@ public final class ChunkDataTFC
         return generatedVeins;
     }
 
+    /**
+     * Packs a position into the support index key. Only the position inside the chunk is kept.
+     */
+    public static int packSupportPos(BlockPos pos)
+    {
+        return (pos.getY() & 255) << 8 | (pos.getZ() & 15) << 4 | (pos.getX() & 15);
+    }
+
+    /**
+     * Records a horizontal support beam placed in this chunk
+     * Used by {@link net.dries007.tfc.objects.blocks.wood.BlockSupport} to answer support queries without scanning blocks
+     */
+    public void addSupport(BlockPos pos)
+    {
+        supports.add(packSupportPos(pos));
+    }
+
+    public void removeSupport(BlockPos pos)
+    {
+        supports.remove(packSupportPos(pos));
+    }
+
+    /**
+     * @return the horizontal supports in this chunk, packed as (y << 8 | z << 4 | x) with local x / z
+     */
+    public IntSet getSupports()
+    {
+        return supports;
+    }
+
+    /**
+     * @return false if this chunk was saved before supports were indexed, and needs a one time scan
+     */
+    public boolean isSupportIndexed()
+    {
+        return supportsIndexed;
+    }
+
+    public void setSupports(IntSet supports)
+    {
+        this.supports.clear();
+        this.supports.addAll(supports);
+        this.supportsIndexed = true;
+    }
+
+    /**
+     * @return the ores in each section of this chunk, for the prospector pick
+     */
+    public ChunkOreIndex getOreIndex()
+    {
+        return oreIndex;
+    }
+
     public boolean canWork(int amount)
     {
-        return ConfigTFC.Devices.SLUICE.maxWorkChunk == 0 || chunkWorkage <= ConfigTFC.Devices.SLUICE.maxWorkChunk + amount;
+        return WorkableOreIndex.canWork(chunkWorkage, amount);
     }
 
     public void addWork(int amount)
     {
-        chunkWorkage += amount;
+        setWork(chunkWorkage + amount);
     }
 
     public void addWork()
@@ -198,6 +297,11 @@ public final class ChunkDataTFC
     public void setWork(int amount)
     {
         chunkWorkage = amount;
+        WorkableOreIndex index = getWorkableOreIndex();
+        if (index != null)
+        {
+            index.setWork(chunkX, chunkZ, chunkWorkage);
+        }
     }
 
     public boolean isInitialized()
@@ -351,6 +455,90 @@ public final class ChunkDataTFC
             .orElse(null);
     }
 
+    /**
+     * Writes the data the client uses, for {@link net.dries007.tfc.network.PacketChunkData}
+     * Rock layers are palette indexed and bit packed, sea level offsets are delta encoded, and server only data (veins, workage, supports, update times) is skipped
+     */
+    public void writeSyncData(ByteBuf buf)
+    {
+        writeRockLayer(buf, rockLayer1);
+        writeRockLayer(buf, rockLayer2);
+        writeRockLayer(buf, rockLayer3);
+
+        int previous = 0;
+        for (int offset : seaLevelOffset)
+        {
+            // Zig-zag, so small negative deltas are also a single byte
+            int delta = offset - previous;
+            ByteBufUtils.writeVarInt(buf, (delta << 1) ^ (delta >> 31), 5);
+            previous = offset;
+        }
+
+        writeDataLayer(buf, stabilityLayer);
+        writeDataLayer(buf, drainageLayer);
+
+        ByteBufUtils.writeVarInt(buf, fishPopulation, 5);
+        buf.writeFloat(rainfall);
+        buf.writeFloat(regionalTemp);
+        buf.writeFloat(avgTemp);
+        buf.writeFloat(floraDensity);
+        buf.writeFloat(floraDiversity);
+        buf.writeLong(protectedTicks);
+    }
+
+    /**
+     * Reads the data written by {@link ChunkDataTFC#writeSyncData(ByteBuf)}
+     */
+    public void readSyncData(ByteBuf buf)
+    {
+        readRockLayer(buf, rockLayer1);
+        readRockLayer(buf, rockLayer2);
+        readRockLayer(buf, rockLayer3);
+
+        int previous = 0;
+        for (int i = 0; i < 256; i++)
+        {
+            int zigzag = ByteBufUtils.readVarInt(buf, 5);
+            previous += (zigzag >>> 1) ^ -(zigzag & 1);
+            seaLevelOffset[i] = previous;
+        }
+
+        readDataLayer(buf, stabilityLayer);
+        readDataLayer(buf, drainageLayer);
+
+        fishPopulation = ByteBufUtils.readVarInt(buf, 5);
+        rainfall = buf.readFloat();
+        regionalTemp = buf.readFloat();
+        avgTemp = buf.readFloat();
+        floraDensity = buf.readFloat();
+        floraDiversity = buf.readFloat();
+        protectedTicks = buf.readLong();
+
+        initialized = true;
+    }
+
+    @Nullable
+    private WorkableOreIndex getWorkableOreIndex()
+    {
+        return world == null ? null : WorkableOreIndex.get(world);
+    }
+
+    /**
+     * @return the registry ids of the ores of each ore bearing vein in this chunk, for the {@link WorkableOreIndex}
+     */
+    private int[] getWorkableOres()
+    {
+        IntList ores = new IntArrayList();
+        for (Vein vein : generatedVeins)
+        {
+            if (vein.getType() != null && vein.getType().getOre() != null)
+            {
+                ores.add(((ForgeRegistry<Ore>) TFCRegistries.ORES).getID(vein.getType().getOre()));
+            }
+        }
+        return ores.toIntArray();
+    }
+
     // Directly accessing the DataLayer is discouraged (except for getting the name). It's easy to use the wrong value.
     public Rock getRockLayer1(int x, int z)
     {
@@ -385,6 +573,116 @@ public final class ChunkDataTFC
         return getRockLayer1(x, z);
     }
 
+    /**
+     * Writes a palette of the rock ids in a layer, followed by the index of each column in the palette, using the minimum number of bits
+     * Most chunks only have one or two rocks per layer, which takes zero or one bit per column
+     */
+    private static void writeRockLayer(ByteBuf buf, int[] layer)
+    {
+        IntList palette = new IntArrayList();
+        Int2IntMap paletteIndex = new Int2IntOpenHashMap();
+        for (int id : layer)
+        {
+            if (!paletteIndex.containsKey(id))
+            {
+                paletteIndex.put(id, palette.size());
+                palette.add(id);
+            }
+        }
+        ByteBufUtils.writeVarInt(buf, palette.size(), 5);
+        for (int i = 0; i < palette.size(); i++)
+        {
+            ByteBufUtils.writeVarInt(buf, palette.getInt(i), 5);
+        }
+
+        int bits = getPaletteBits(palette.size());
+        if (bits > 0)
+        {
+            long pending = 0;
+            int pendingBits = 0;
+            for (int id : layer)
+            {
+                pending |= (long) paletteIndex.get(id) << pendingBits;
+                pendingBits += bits;
+                while (pendingBits >= 8)
+                {
+                    buf.writeByte((int) pending);
+                    pending >>>= 8;
+                    pendingBits -= 8;
+                }
+            }
+            if (pendingBits > 0)
+            {
+                buf.writeByte((int) pending);
+            }
+        }
+    }
+
+    private static void readRockLayer(ByteBuf buf, int[] layer)
+    {
+        int[] palette = new int[ByteBufUtils.readVarInt(buf, 5)];
+        for (int i = 0; i < palette.length; i++)
+        {
+            palette[i] = ByteBufUtils.readVarInt(buf, 5);
+        }
+
+        int bits = getPaletteBits(palette.length);
+        if (bits == 0)
+        {
+            Arrays.fill(layer, palette.length == 0 ? 0 : palette[0]);
+            return;
+        }
+        int mask = (1 << bits) - 1;
+        long pending = 0;
+        int pendingBits = 0;
+        for (int i = 0; i < layer.length; i++)
+        {
+            while (pendingBits < bits)
+            {
+                pending |= (long) buf.readUnsignedByte() << pendingBits;
+                pendingBits += 8;
+            }
+            layer[i] = palette[(int) (pending & mask)];
+            pending >>>= bits;
+            pendingBits -= bits;
+        }
+    }
+
+    private static int getPaletteBits(int paletteSize)
+    {
+        return paletteSize <= 1 ? 0 : 32 - Integer.numberOfLeadingZeros(paletteSize - 1);
+    }
+
+    /**
+     * Data layers are run length encoded, as they are mostly uniform across a chunk
+     */
+    private static void writeDataLayer(ByteBuf buf, DataLayer[] layers)
+    {
+        int start = 0;
+        while (start < layers.length)
+        {
+            int end = start + 1;
+            while (end < layers.length && layers[end] == layers[start])
+            {
+                end++;
+            }
+            ByteBufUtils.writeVarInt(buf, end - start, 5);
+            buf.writeByte(layers[start].layerID);
+            start = end;
+        }
+    }
+
+    private static void readDataLayer(ByteBuf buf, DataLayer[] layers)
+    {
+        int start = 0;
+        while (start < layers.length)
+        {
+            int end = Math.min(layers.length, start + Math.max(1, ByteBufUtils.readVarInt(buf, 5)));
+            Arrays.fill(layers, start, end, DataLayer.get(buf.readByte()));
+            start = end;
+        }
+    }
+
     public static final class ChunkDataStorage implements Capability.IStorage<ChunkDataTFC>
     {
         public static NBTTagByteArray write(DataLayer[] layers)
@@ -439,6 +737,15 @@ public final class ChunkDataTFC
             }
             root.setTag("veins", veinList);
 
+            if (instance.supportsIndexed)
+            {
+                root.setTag("supports", new NBTTagIntArray(instance.supports.toIntArray()));
+            }
+            if (instance.oreIndex.isIndexed())
+            {
+                root.setTag("ores", instance.oreIndex.serializeNBT());
+            }
+
             return root;
         }
 
@@ -477,6 +784,15 @@ public final class ChunkDataTFC
                     instance.generatedVeins.add(Vein.deserialize(veinList.getCompoundTagAt(i)));
                 }
 
+                instance.supports.clear();
+                instance.supportsIndexed = root.hasKey("supports", Constants.NBT.TAG_INT_ARRAY);
+                for (int support : root.getIntArray("supports"))
+                {
+                    instance.supports.add(support);
+                }
+
+                instance.oreIndex.deserializeNBT(root.hasKey("ores", Constants.NBT.TAG_LIST) ? root.getTagList("ores", Constants.NBT.TAG_COMPOUND) : null);
+
                 instance.initialized = true;
             }
         }
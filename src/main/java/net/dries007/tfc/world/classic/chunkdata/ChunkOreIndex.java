@@ -0,0 +1,290 @@
+/*
+ * Work under Copyright. Licensed under the EUPL.
+ * See the project README.md and LICENSE.txt for more information.
+ */
+
+package net.dries007.tfc.world.classic.chunkdata;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+
+import net.minecraft.block.Block;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagList;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.storage.ExtendedBlockStorage;
+import net.minecraftforge.event.world.BlockEvent;
+import net.minecraftforge.fml.common.Mod;
+import net.minecraftforge.fml.common.eventhandler.EventPriority;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.minecraftforge.fml.common.registry.ForgeRegistries;
+
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import net.dries007.tfc.objects.blocks.stone.BlockOreTFC;
+import net.dries007.tfc.world.classic.worldgen.vein.VeinRegistry;
+import net.dries007.tfc.world.classic.worldgen.vein.VeinType;
+
+import static net.dries007.tfc.TerraFirmaCraft.MOD_ID;
+
+/**
+ * The number of each ore block (any block state that is part of a vein type, see {@link VeinType#isOreBlock(IBlockState)}) in each 16x16x16 section of a chunk.
+ * Used by {@link net.dries007.tfc.objects.items.metal.ItemProspectorPick} to skip sections without ores, and count the ores in sections that are entirely in range without looking at each block.
+ *
+ * This is kept up to date by:
+ * - {@link BlockOreTFC}, when ore blocks are placed or removed in the world
+ * - {@link net.dries007.tfc.world.classic.worldgen.ChunkBlockWriter}, which writes ore veins (and everything else placed during population) directly to the chunk
+ * - Players placing or breaking ore blocks of custom vein types
+ * Chunks saved before this existed are indexed the first time they are prospected.
+ *
+ * Counts of {@link BlockOreTFC} states are exact. Ores of custom vein types can be any block, which can be removed in many ways (explosions, pistons, fluids...) without telling the index.
+ * So their counts may be out of date, and only mean that a section should be checked block by block, see {@link #isExact(Object2IntMap)}.
+ */
+@Mod.EventBusSubscriber(modid = MOD_ID)
+@ParametersAreNonnullByDefault
+public final class ChunkOreIndex
+{
+    private static volatile Set<IBlockState> oreStates; // Chunk data may be read off thread
+
+    /**
+     * @return if a block state is an ore, for the prospector pick
+     */
+    public static boolean isOre(IBlockState state)
+    {
+        if (oreStates == null)
+        {
+            // Vein types are only loaded once, on post init
+            Set<IBlockState> states = Collections.newSetFromMap(new IdentityHashMap<>());
+            for (Block block : ForgeRegistries.BLOCKS)
+            {
+                for (IBlockState blockState : block.getBlockState().getValidStates())
+                {
+                    for (VeinType vein : VeinRegistry.INSTANCE.getVeins().values())
+                    {
+                        if (vein.isOreBlock(blockState))
+                        {
+                            states.add(blockState);
+                            break;
+                        }
+                    }
+                }
+            }
+            oreStates = states;
+        }
+        return oreStates.contains(state);
+    }
+
+    /**
+     * @return true if the counts of a section are exact, i.e. it only has {@link BlockOreTFC} ores
+     */
+    public static boolean isExact(Object2IntMap<IBlockState> counts)
+    {
+        for (IBlockState state : counts.keySet())
+        {
+            if (!(state.getBlock() instanceof BlockOreTFC))
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @SubscribeEvent(priority = EventPriority.LOWEST)
+    public static void onBlockPlace(BlockEvent.PlaceEvent event)
+    {
+        // See onBlockBreak
+        IBlockState state = event.getPlacedBlock();
+        if (!event.getWorld().isRemote && !(state.getBlock() instanceof BlockOreTFC) && isOre(state))
+        {
+            ChunkDataTFC data = ChunkDataTFC.get(event.getWorld(), event.getPos());
+            if (data.isInitialized())
+            {
+                data.getOreIndex().add(event.getPos(), state);
+            }
+        }
+    }
+
+    @SubscribeEvent(priority = EventPriority.LOWEST)
+    public static void onBlockBreak(BlockEvent.BreakEvent event)
+    {
+        // Ore blocks of custom vein types can be any block, so they can't update this themselves
+        IBlockState state = event.getState();
+        if (!event.getWorld().isRemote && !(state.getBlock() instanceof BlockOreTFC) && isOre(state))
+        {
+            ChunkDataTFC data = ChunkDataTFC.get(event.getWorld(), event.getPos());
+            if (data.isInitialized())
+            {
+                data.getOreIndex().remove(event.getPos(), state);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private final Object2IntMap<IBlockState>[] sections = new Object2IntMap[16];
+    private boolean indexed = true; // False for chunks saved before the ore index existed, until they are scanned once
+
+    /**
+     * @return false if this chunk was saved before ores were indexed, and needs a one time scan
+     */
+    public boolean isIndexed()
+    {
+        return indexed;
+    }
+
+    /**
+     * Indexes all ores in a chunk, by looking at every block
+     */
+    public void scan(Chunk chunk)
+    {
+        clear();
+        for (ExtendedBlockStorage storage : chunk.getBlockStorageArray())
+        {
+            if (storage != Chunk.NULL_BLOCK_STORAGE && !storage.isEmpty())
+            {
+                for (int y = 0; y < 16; y++)
+                {
+                    for (int z = 0; z < 16; z++)
+                    {
+                        for (int x = 0; x < 16; x++)
+                        {
+                            IBlockState state = storage.get(x, y, z);
+                            if (isOre(state))
+                            {
+                                add(storage.getYLocation() >> 4, state, 1);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        indexed = true;
+    }
+
+    public void clear()
+    {
+        for (int i = 0; i < sections.length; i++)
+        {
+            sections[i] = null;
+        }
+    }
+
+    /**
+     * @return the number of each ore in a section (by y / 16), or null if there are none. This map must not be modified
+     */
+    @Nullable
+    public Object2IntMap<IBlockState> getSection(int sectionY)
+    {
+        return sectionY < 0 || sectionY >= sections.length ? null : sections[sectionY];
+    }
+
+    /**
+     * Updates the index for a block that changed, if either state is an ore
+     */
+    public void onBlockChanged(BlockPos pos, IBlockState oldState, IBlockState newState)
+    {
+        if (oldState != newState)
+        {
+            remove(pos, oldState);
+            add(pos, newState);
+        }
+    }
+
+    public void add(BlockPos pos, IBlockState state)
+    {
+        if (indexed && isOre(state))
+        {
+            add(pos.getY() >> 4, state, 1);
+        }
+    }
+
+    public void remove(BlockPos pos, IBlockState state)
+    {
+        Object2IntMap<IBlockState> counts = getSection(pos.getY() >> 4);
+        if (counts != null && counts.containsKey(state))
+        {
+            int count = counts.getInt(state) - 1;
+            if (count > 0)
+            {
+                counts.put(state, count);
+            }
+            else
+            {
+                counts.removeInt(state);
+                if (counts.isEmpty())
+                {
+                    sections[pos.getY() >> 4] = null;
+                }
+            }
+        }
+    }
+
+    public NBTTagList serializeNBT()
+    {
+        NBTTagList list = new NBTTagList();
+        for (int sectionY = 0; sectionY < sections.length; sectionY++)
+        {
+            Object2IntMap<IBlockState> counts = sections[sectionY];
+            if (counts != null)
+            {
+                int[] states = new int[counts.size()];
+                int[] amounts = new int[counts.size()];
+                int i = 0;
+                for (Object2IntMap.Entry<IBlockState> entry : counts.object2IntEntrySet())
+                {
+                    states[i] = Block.getStateId(entry.getKey());
+                    amounts[i] = entry.getIntValue();
+                    i++;
+                }
+                NBTTagCompound nbt = new NBTTagCompound();
+                nbt.setByte("y", (byte) sectionY);
+                nbt.setIntArray("states", states);
+                nbt.setIntArray("counts", amounts);
+                list.appendTag(nbt);
+            }
+        }
+        return list;
+    }
+
+    /**
+     * @param list the saved index, or null if the chunk was saved before ores were indexed
+     */
+    public void deserializeNBT(@Nullable NBTTagList list)
+    {
+        clear();
+        indexed = list != null;
+        if (list != null)
+        {
+            for (int i = 0; i < list.tagCount(); i++)
+            {
+                NBTTagCompound nbt = list.getCompoundTagAt(i);
+                int sectionY = nbt.getByte("y");
+                int[] states = nbt.getIntArray("states");
+                int[] amounts = nbt.getIntArray("counts");
+                for (int j = 0; j < states.length && j < amounts.length; j++)
+                {
+                    IBlockState state = Block.getStateById(states[j]);
+                    if (sectionY >= 0 && sectionY < sections.length && amounts[j] > 0 && isOre(state))
+                    {
+                        add(sectionY, state, amounts[j]);
+                    }
+                }
+            }
+        }
+    }
+
+    private void add(int sectionY, IBlockState state, int amount)
+    {
+        Object2IntMap<IBlockState> counts = sections[sectionY];
+        if (counts == null)
+        {
+            counts = new Object2IntOpenHashMap<>(4);
+            sections[sectionY] = counts;
+        }
+        counts.put(state, counts.getInt(state) + amount);
+    }
+}
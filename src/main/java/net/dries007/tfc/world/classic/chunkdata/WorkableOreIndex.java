@@ -0,0 +1,276 @@
+/*
+ * Work under Copyright. Licensed under the EUPL.
+ * See the project README.md and LICENSE.txt for more information.
+ */
+
+package net.dries007.tfc.world.classic.chunkdata;
+
+import java.util.Arrays;
+import java.util.Random;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagList;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.storage.MapStorage;
+import net.minecraft.world.storage.WorldSavedData;
+import net.minecraftforge.common.util.Constants;
+import net.minecraftforge.registries.ForgeRegistry;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.dries007.tfc.ConfigTFC;
+import net.dries007.tfc.api.registries.TFCRegistries;
+import net.dries007.tfc.api.types.Ore;
+
+import static net.dries007.tfc.TerraFirmaCraft.MOD_ID;
+
+/**
+ * A summary of the work done in each chunk of a world, and the ores of the veins generated there, for sluices and gold pans.
+ * This is maintained by {@link ChunkDataTFC#addWork(int)} and {@link ChunkDataTFC#markVeinGenerated}, and saved with the world, so it can be queried (and worked) without loading chunks.
+ * Chunks are grouped in regions of 32 x 32, like region files. Chunks that were never worked and have no ores take no space.
+ *
+ * Work done while a chunk is unloaded is only recorded here, and copied to the chunk data when the chunk is loaded again, see {@link ChunkDataTFC#onLoad()}
+ */
+@ParametersAreNonnullByDefault
+public class WorkableOreIndex extends WorldSavedData
+{
+    private static final String NAME = MOD_ID + "_workable_ores";
+
+    private static final int REGION_BITS = 5;
+    private static final int REGION_MASK = (1 << REGION_BITS) - 1;
+    private static final int CHUNKS_PER_REGION = 1 << (2 * REGION_BITS);
+    private static final int[] NO_ORES = new int[0];
+
+    /**
+     * @return the index for a world, or null on the client
+     */
+    @Nullable
+    public static WorkableOreIndex get(World world)
+    {
+        if (world.isRemote)
+        {
+            return null;
+        }
+        MapStorage storage = world.getPerWorldStorage();
+        WorkableOreIndex index = (WorkableOreIndex) storage.getOrLoadData(WorkableOreIndex.class, NAME);
+        if (index == null)
+        {
+            index = new WorkableOreIndex(NAME);
+            storage.setData(NAME, index);
+        }
+        return index;
+    }
+
+    /**
+     * Adds work to a chunk, without loading it. If the chunk is loaded, this goes through its chunk data instead
+     */
+    public static void addWork(World world, int chunkX, int chunkZ, int amount)
+    {
+        Chunk chunk = world.getChunkProvider().getLoadedChunk(chunkX, chunkZ);
+        if (chunk != null)
+        {
+            ChunkDataTFC.get(chunk).addWork(amount);
+        }
+        else
+        {
+            WorkableOreIndex index = get(world);
+            if (index != null)
+            {
+                index.setWork(chunkX, chunkZ, index.getWork(chunkX, chunkZ) + amount);
+            }
+        }
+    }
+
+    /**
+     * @return if a chunk with this much work done can be worked by this amount
+     */
+    public static boolean canWork(int work, int amount)
+    {
+        return ConfigTFC.Devices.SLUICE.maxWorkChunk == 0 || work <= ConfigTFC.Devices.SLUICE.maxWorkChunk + amount;
+    }
+
+    private static long regionKey(int chunkX, int chunkZ)
+    {
+        return ((long) (chunkX >> REGION_BITS) << 32) | ((chunkZ >> REGION_BITS) & 0xFFFFFFFFL);
+    }
+
+    private static int regionIndex(int chunkX, int chunkZ)
+    {
+        return (chunkZ & REGION_MASK) << REGION_BITS | (chunkX & REGION_MASK);
+    }
+
+    private final Long2ObjectMap<Region> regions = new Long2ObjectOpenHashMap<>();
+    private int version;
+
+    @SuppressWarnings("unused")
+    public WorkableOreIndex(String name)
+    {
+        super(name);
+    }
+
+    public int getWork(int chunkX, int chunkZ)
+    {
+        Region region = regions.get(regionKey(chunkX, chunkZ));
+        return region == null ? 0 : region.work[regionIndex(chunkX, chunkZ)];
+    }
+
+    public boolean canWork(int chunkX, int chunkZ, int amount)
+    {
+        return canWork(getWork(chunkX, chunkZ), amount);
+    }
+
+    public boolean hasOres(int chunkX, int chunkZ)
+    {
+        Region region = regions.get(regionKey(chunkX, chunkZ));
+        return region != null && region.ores[regionIndex(chunkX, chunkZ)].length > 0;
+    }
+
+    /**
+     * @return the ore of a random ore bearing vein in a chunk, or null if there are none
+     */
+    @Nullable
+    public Ore getRandomOre(int chunkX, int chunkZ, Random random)
+    {
+        Region region = regions.get(regionKey(chunkX, chunkZ));
+        if (region != null)
+        {
+            int[] ores = region.ores[regionIndex(chunkX, chunkZ)];
+            if (ores.length > 0)
+            {
+                return ((ForgeRegistry<Ore>) TFCRegistries.ORES).getValue(ores[random.nextInt(ores.length)]);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * The version changes whenever a chunk becomes workable or not (for an amount of 1), or its ores change, so callers can cache which chunks around them are workable
+     */
+    public int getVersion()
+    {
+        return version;
+    }
+
+    public void setWork(int chunkX, int chunkZ, int work)
+    {
+        Region region = work == 0 ? regions.get(regionKey(chunkX, chunkZ)) : getOrCreateRegion(chunkX, chunkZ);
+        if (region != null)
+        {
+            int index = regionIndex(chunkX, chunkZ);
+            int previous = region.work[index];
+            if (previous != work)
+            {
+                region.work[index] = work;
+                if (canWork(previous, 1) != canWork(work, 1))
+                {
+                    version++;
+                }
+                markDirty();
+            }
+        }
+    }
+
+    /**
+     * @param ores the registry ids of the ores in a chunk, one for each ore bearing vein
+     */
+    public void setOres(int chunkX, int chunkZ, int[] ores)
+    {
+        Region region = ores.length == 0 ? regions.get(regionKey(chunkX, chunkZ)) : getOrCreateRegion(chunkX, chunkZ);
+        if (region != null)
+        {
+            int index = regionIndex(chunkX, chunkZ);
+            if (!Arrays.equals(region.ores[index], ores))
+            {
+                region.ores[index] = ores.length == 0 ? NO_ORES : ores;
+                version++;
+                markDirty();
+            }
+        }
+    }
+
+    @Override
+    public void readFromNBT(NBTTagCompound nbt)
+    {
+        regions.clear();
+        NBTTagList regionList = nbt.getTagList("regions", Constants.NBT.TAG_COMPOUND);
+        for (int i = 0; i < regionList.tagCount(); i++)
+        {
+            NBTTagCompound regionNbt = regionList.getCompoundTagAt(i);
+            int[] work = regionNbt.getIntArray("work");
+            int[] oreCounts = regionNbt.getIntArray("oreCounts");
+            int[] ores = regionNbt.getIntArray("ores");
+            if (work.length != CHUNKS_PER_REGION || oreCounts.length != CHUNKS_PER_REGION)
+            {
+                continue;
+            }
+            Region region = new Region();
+            System.arraycopy(work, 0, region.work, 0, CHUNKS_PER_REGION);
+            int offset = 0;
+            for (int j = 0; j < CHUNKS_PER_REGION && offset + oreCounts[j] <= ores.length; j++)
+            {
+                if (oreCounts[j] > 0)
+                {
+                    region.ores[j] = Arrays.copyOfRange(ores, offset, offset + oreCounts[j]);
+                    offset += oreCounts[j];
+                }
+            }
+            regions.put(((long) regionNbt.getInteger("x") << 32) | (regionNbt.getInteger("z") & 0xFFFFFFFFL), region);
+        }
+    }
+
+    @Override
+    @Nonnull
+    public NBTTagCompound writeToNBT(NBTTagCompound nbt)
+    {
+        NBTTagList regionList = new NBTTagList();
+        for (Long2ObjectMap.Entry<Region> entry : regions.long2ObjectEntrySet())
+        {
+            Region region = entry.getValue();
+            int[] oreCounts = new int[CHUNKS_PER_REGION];
+            IntArrayList ores = new IntArrayList();
+            for (int i = 0; i < CHUNKS_PER_REGION; i++)
+            {
+                oreCounts[i] = region.ores[i].length;
+                ores.addElements(ores.size(), region.ores[i]);
+            }
+
+            NBTTagCompound regionNbt = new NBTTagCompound();
+            regionNbt.setInteger("x", (int) (entry.getLongKey() >> 32));
+            regionNbt.setInteger("z", (int) entry.getLongKey());
+            regionNbt.setIntArray("work", region.work);
+            regionNbt.setIntArray("oreCounts", oreCounts);
+            regionNbt.setIntArray("ores", ores.toIntArray());
+            regionList.appendTag(regionNbt);
+        }
+        nbt.setTag("regions", regionList);
+        return nbt;
+    }
+
+    private Region getOrCreateRegion(int chunkX, int chunkZ)
+    {
+        long key = regionKey(chunkX, chunkZ);
+        Region region = regions.get(key);
+        if (region == null)
+        {
+            region = new Region();
+            regions.put(key, region);
+        }
+        return region;
+    }
+
+    private static final class Region
+    {
+        private final int[] work = new int[CHUNKS_PER_REGION];
+        private final int[][] ores = new int[CHUNKS_PER_REGION][];
+
+        private Region()
+        {
+            Arrays.fill(ores, NO_ORES);
+        }
+    }
+}
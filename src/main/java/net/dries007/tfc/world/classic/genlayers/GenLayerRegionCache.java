@@ -0,0 +1,121 @@
+/*
+ * Work under Copyright. Licensed under the EUPL.
+ * See the project README.md and LICENSE.txt for more information.
+ */
+
+package net.dries007.tfc.world.classic.genlayers;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+import javax.annotation.Nonnull;
+
+import net.minecraft.util.math.ChunkPos;
+
+/**
+ * Thread safe, cached evaluation of a layer stack.
+ * The output of the stack is computed in square tiles (256 x 256 blocks) at a time, and the most recently used tiles are kept, so neighboring chunks do not each evaluate the whole stack again for a 16 x 16 area.
+ *
+ * Layers are not thread safe (they keep the current chunk seed as a field), so each thread builds its own copy of the stack, using the factory.
+ * Every position in a layer's output only depends on the world seed and the position (never on the size of the queried area), so results are identical to querying the stack directly.
+ */
+public final class GenLayerRegionCache
+{
+    public static final int TILE_SHIFT = 8;
+    public static final int TILE_SIZE = 1 << TILE_SHIFT;
+    private static final int TILE_MASK = TILE_SIZE - 1;
+    private static final int MAX_TILES = 16;
+
+    private final ThreadLocal<GenLayerTFC> layers;
+
+    // Access ordered, so this evicts the least recently used tile. Guarded by synchronizing on the map.
+    private final Map<Long, int[]> tiles = new LinkedHashMap<Long, int[]>(MAX_TILES, 0.75f, true)
+    {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, int[]> eldest)
+        {
+            return size() > MAX_TILES;
+        }
+    };
+
+    /**
+     * @param factory creates the layer stack, fully initialized with the world seed. Called once for each thread that uses this
+     */
+    public GenLayerRegionCache(Supplier<GenLayerTFC> factory)
+    {
+        this.layers = ThreadLocal.withInitial(factory);
+    }
+
+    /**
+     * Same as {@link GenLayerTFC#getInts(int, int, int, int)}, but the returned array is a new array, which is safe to keep.
+     */
+    @Nonnull
+    public int[] getInts(int x, int z, int width, int height)
+    {
+        int[] out = new int[width * height];
+        getInts(x, z, width, height, out);
+        return out;
+    }
+
+    /**
+     * Fills an array with the output of the layer stack, in the same order as {@link GenLayerTFC#getInts(int, int, int, int)} ({@code out[dx + dz * width]})
+     */
+    public void getInts(int x, int z, int width, int height, int[] out)
+    {
+        int[] tile = null;
+        int tileX = 0, tileZ = 0;
+        for (int dz = 0; dz < height; dz++)
+        {
+            final int posZ = z + dz;
+            int dx = 0;
+            while (dx < width)
+            {
+                final int posX = x + dx;
+                if (tile == null || tileX != posX >> TILE_SHIFT || tileZ != posZ >> TILE_SHIFT)
+                {
+                    tileX = posX >> TILE_SHIFT;
+                    tileZ = posZ >> TILE_SHIFT;
+                    tile = getTile(tileX, tileZ);
+                }
+                // Copy the rest of this row that lies within the current tile
+                final int length = Math.min(width - dx, TILE_SIZE - (posX & TILE_MASK));
+                System.arraycopy(tile, (posZ & TILE_MASK) << TILE_SHIFT | (posX & TILE_MASK), out, dx + dz * width, length);
+                dx += length;
+            }
+        }
+    }
+
+    /**
+     * Clears all cached tiles
+     */
+    public void clear()
+    {
+        synchronized (tiles)
+        {
+            tiles.clear();
+        }
+    }
+
+    @Nonnull
+    private int[] getTile(int tileX, int tileZ)
+    {
+        final long key = ChunkPos.asLong(tileX, tileZ);
+        int[] tile;
+        synchronized (tiles)
+        {
+            tile = tiles.get(key);
+        }
+        if (tile == null)
+        {
+            // Computed outside the lock, as this is comparatively slow. Two threads may both compute the same tile, which is harmless as the result is identical.
+            IntCacheTFC.resetIntCache();
+            tile = Arrays.copyOf(layers.get().getInts(tileX << TILE_SHIFT, tileZ << TILE_SHIFT, TILE_SIZE, TILE_SIZE), TILE_SIZE * TILE_SIZE);
+            synchronized (tiles)
+            {
+                tiles.put(key, tile);
+            }
+        }
+        return tile;
+    }
+}
@@ -0,0 +1,32 @@
+/*
+ * Work under Copyright. Licensed under the EUPL.
+ * See the project README.md and LICENSE.txt for more information.
+ */
+
+package net.dries007.tfc.world.classic.genlayers;
+
+/**
+ * The top of a layer stack that is queried by vanilla code (i.e. the biome provider), which only resets vanilla's {@link net.minecraft.world.gen.layer.IntCache}
+ * This resets {@link IntCacheTFC} for the current thread before every query. The returned array is valid until the next query on the same thread.
+ */
+public class GenLayerRootTFC extends GenLayerTFC
+{
+    public GenLayerRootTFC(GenLayerTFC parent)
+    {
+        super(0L);
+        super.parent = parent;
+    }
+
+    @Override
+    public void initWorldGenSeed(long seed)
+    {
+        parent.initWorldGenSeed(seed);
+    }
+
+    @Override
+    public int[] getInts(int x, int z, int width, int height)
+    {
+        IntCacheTFC.resetIntCache();
+        return parent.getInts(x, z, width, height);
+    }
+}
@@ -6,7 +6,6 @@
 package net.dries007.tfc.world.classic.genlayers;
 
 import net.minecraft.world.gen.layer.GenLayer;
-import net.minecraft.world.gen.layer.IntCache;
 
 public class GenLayerSmoothTFC extends GenLayerTFC
 {
@@ -24,7 +23,7 @@ public class GenLayerSmoothTFC extends GenLayerTFC
         int var7 = par3 + 2;
         int var8 = par4 + 2;
         int[] var9 = this.parent.getInts(var5, var6, var7, var8);
-        int[] var10 = IntCache.getIntCache(par3 * par4);
+        int[] var10 = IntCacheTFC.getIntCache(par3 * par4);
 
         for (int var11 = 0; var11 < par4; ++var11)
         {
@@ -104,7 +104,8 @@ public abstract class GenLayerTFC extends GenLayer
         zoomed.initWorldGenSeed(seed);
         drawImageBiomes(1024, zoomed, "zoomed");
 
-        return new GenLayerTFC[] {riverMix, zoomed};
+        // These are queried by the vanilla biome provider, which doesn't know to reset our int cache
+        return new GenLayerTFC[] {new GenLayerRootTFC(riverMix), new GenLayerRootTFC(zoomed)};
     }
 
     public static GenLayerTFC initializeRock(long seed, RockCategory.Layer level, int rockLayerSize)
@@ -164,6 +165,7 @@ public abstract class GenLayerTFC extends GenLayer
         if (FMLCommonHandler.instance().getEffectiveSide().isClient()) return;
         try
         {
+            IntCacheTFC.resetIntCache();
             int[] ints = genlayer.getInts(-size / 2, -size / 2, size, size);
             BufferedImage outBitmap = new BufferedImage(size, size, BufferedImage.TYPE_INT_RGB);
             Graphics2D graphics = (Graphics2D) outBitmap.getGraphics();
@@ -5,7 +5,6 @@
 
 package net.dries007.tfc.world.classic.genlayers;
 
-import net.minecraft.world.gen.layer.IntCache;
 
 public class GenLayerZoomTFC extends GenLayerTFC
 {
@@ -33,7 +32,7 @@ public class GenLayerZoomTFC extends GenLayerTFC
         int[] parentCache = this.parent.getInts(xCoord, zCoord, newXSize, newZSize);
         int i2 = newXSize - 1 << 1;
         int j2 = newZSize - 1 << 1;
-        int[] out = IntCache.getIntCache(i2 * j2);
+        int[] out = IntCacheTFC.getIntCache(i2 * j2);
         int l2;
 
         for (int z = 0; z < newZSize - 1; ++z)
@@ -56,7 +55,7 @@ public class GenLayerZoomTFC extends GenLayerTFC
             }
         }
 
-        int[] outCache = IntCache.getIntCache(xSize * zSize);
+        int[] outCache = IntCacheTFC.getIntCache(xSize * zSize);
 
         for (int zoom = 0; zoom < zSize; ++zoom)
         {
@@ -0,0 +1,76 @@
+/*
+ * Work under Copyright. Licensed under the EUPL.
+ * See the project README.md and LICENSE.txt for more information.
+ */
+
+package net.dries007.tfc.world.classic.genlayers;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Per thread replacement for {@link net.minecraft.world.gen.layer.IntCache}, used by all TFC gen layers.
+ * Vanilla's cache is a single global pool, so one thread resetting it hands out arrays that another thread is still using.
+ * This works the same way (arrays are handed out, and reused after {@link #resetIntCache()}), but each thread has its own pool.
+ *
+ * Arrays are only valid until the next reset on the same thread, so anything that queries a layer stack must reset first, see {@link GenLayerRootTFC} and {@link GenLayerRegionCache}
+ */
+public final class IntCacheTFC
+{
+    private static final ThreadLocal<IntCacheTFC> CACHE = ThreadLocal.withInitial(IntCacheTFC::new);
+
+    public static int[] getIntCache(int size)
+    {
+        return CACHE.get().get(size);
+    }
+
+    public static void resetIntCache()
+    {
+        CACHE.get().reset();
+    }
+
+    private final List<int[]> freeSmallArrays = new ArrayList<>();
+    private final List<int[]> inUseSmallArrays = new ArrayList<>();
+    private final List<int[]> freeLargeArrays = new ArrayList<>();
+    private final List<int[]> inUseLargeArrays = new ArrayList<>();
+    private int largeArraySize = 256;
+
+    private IntCacheTFC() {}
+
+    private int[] get(int size)
+    {
+        if (size <= 256)
+        {
+            int[] array = freeSmallArrays.isEmpty() ? new int[256] : freeSmallArrays.remove(freeSmallArrays.size() - 1);
+            inUseSmallArrays.add(array);
+            return array;
+        }
+        if (size > largeArraySize)
+        {
+            // All previously allocated large arrays are too small, so drop them
+            largeArraySize = size;
+            freeLargeArrays.clear();
+            inUseLargeArrays.clear();
+        }
+        int[] array = freeLargeArrays.isEmpty() ? new int[largeArraySize] : freeLargeArrays.remove(freeLargeArrays.size() - 1);
+        inUseLargeArrays.add(array);
+        return array;
+    }
+
+    private void reset()
+    {
+        // Same as vanilla, drop one free array each reset so the pool shrinks back after a large query
+        if (!freeLargeArrays.isEmpty())
+        {
+            freeLargeArrays.remove(freeLargeArrays.size() - 1);
+        }
+        if (!freeSmallArrays.isEmpty())
+        {
+            freeSmallArrays.remove(freeSmallArrays.size() - 1);
+        }
+        freeLargeArrays.addAll(inUseLargeArrays);
+        freeSmallArrays.addAll(inUseSmallArrays);
+        inUseLargeArrays.clear();
+        inUseSmallArrays.clear();
+    }
+}
@@ -6,9 +6,9 @@
 package net.dries007.tfc.world.classic.genlayers.biome;
 
 import net.minecraft.world.gen.layer.GenLayer;
-import net.minecraft.world.gen.layer.IntCache;
 
 import net.dries007.tfc.world.classic.genlayers.GenLayerTFC;
+import net.dries007.tfc.world.classic.genlayers.IntCacheTFC;
 
 public class GenLayerAddIslandTFC extends GenLayerTFC
 {
@@ -24,7 +24,7 @@ public class GenLayerAddIslandTFC extends GenLayerTFC
         int w2 = w + 2;
         int h2 = h + 2;
         int[] ints = this.parent.getInts(x - 1, y - 1, w2, h2);
-        int[] out = IntCache.getIntCache(w * h);
+        int[] out = IntCacheTFC.getIntCache(w * h);
 
         for (int yy = 0; yy < h; ++yy)
         {
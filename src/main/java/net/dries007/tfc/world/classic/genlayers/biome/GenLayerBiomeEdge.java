@@ -6,9 +6,9 @@
 package net.dries007.tfc.world.classic.genlayers.biome;
 
 import net.minecraft.world.gen.layer.GenLayer;
-import net.minecraft.world.gen.layer.IntCache;
 
 import net.dries007.tfc.world.classic.genlayers.GenLayerTFC;
+import net.dries007.tfc.world.classic.genlayers.IntCacheTFC;
 
 public class GenLayerBiomeEdge extends GenLayerTFC
 {
@@ -22,7 +22,7 @@ public class GenLayerBiomeEdge extends GenLayerTFC
     public int[] getInts(int x, int z, int xSize, int zSize)
     {
         int[] inCache = this.parent.getInts(x - 1, z - 1, xSize + 2, zSize + 2);
-        int[] outCache = IntCache.getIntCache(xSize * zSize);
+        int[] outCache = IntCacheTFC.getIntCache(xSize * zSize);
 
         for (int zz = 0; zz < zSize; ++zz)
         {
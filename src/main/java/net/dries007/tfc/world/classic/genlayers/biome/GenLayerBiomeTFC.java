@@ -10,12 +10,12 @@ import java.util.Objects;
 
 import net.minecraft.world.biome.Biome;
 import net.minecraft.world.gen.layer.GenLayer;
-import net.minecraft.world.gen.layer.IntCache;
 
 import net.dries007.tfc.ConfigTFC;
 import net.dries007.tfc.TerraFirmaCraft;
 import net.dries007.tfc.world.classic.biomes.BiomesTFC;
 import net.dries007.tfc.world.classic.genlayers.GenLayerTFC;
+import net.dries007.tfc.world.classic.genlayers.IntCacheTFC;
 
 public class GenLayerBiomeTFC extends GenLayerTFC
 {
@@ -36,7 +36,7 @@ public class GenLayerBiomeTFC extends GenLayerTFC
     public int[] getInts(int x, int y, int sizeX, int sizeY)
     {
         int[] ints = parent.getInts(x, y, sizeX, sizeY);
-        int[] out = IntCache.getIntCache(sizeX * sizeY);
+        int[] out = IntCacheTFC.getIntCache(sizeX * sizeY);
 
         for (int yy = 0; yy < sizeY; ++yy)
         {
@@ -5,9 +5,8 @@
 
 package net.dries007.tfc.world.classic.genlayers.biome;
 
-import net.minecraft.world.gen.layer.IntCache;
-
 import net.dries007.tfc.world.classic.genlayers.GenLayerTFC;
+import net.dries007.tfc.world.classic.genlayers.IntCacheTFC;
 
 public class GenLayerDeepOcean extends GenLayerTFC
 {
@@ -24,7 +23,7 @@ public class GenLayerDeepOcean extends GenLayerTFC
         int zSize = parZSize + 2;
         int thisID;
         int[] parentIDs = this.parent.getInts(parX - 1, parZ - 1, xSize, zSize);
-        int[] outCache = IntCache.getIntCache(parXSize * parZSize);
+        int[] outCache = IntCacheTFC.getIntCache(parXSize * parZSize);
 
         for (int z = 0; z < parZSize; ++z)
         {
@@ -5,9 +5,8 @@
 
 package net.dries007.tfc.world.classic.genlayers.biome;
 
-import net.minecraft.world.gen.layer.IntCache;
-
 import net.dries007.tfc.world.classic.genlayers.GenLayerTFC;
+import net.dries007.tfc.world.classic.genlayers.IntCacheTFC;
 
 public class GenLayerLakes extends GenLayerTFC
 {
@@ -21,7 +20,7 @@ public class GenLayerLakes extends GenLayerTFC
     public int[] getInts(int x, int z, int sizeX, int sizeZ)
     {
         int[] ints = this.parent.getInts(x - 1, z - 1, sizeX + 2, sizeZ + 2);
-        int[] out = IntCache.getIntCache(sizeX * sizeZ);
+        int[] out = IntCacheTFC.getIntCache(sizeX * sizeZ);
 
         for (int zz = 0; zz < sizeZ; ++zz)
         {
@@ -5,9 +5,8 @@
 
 package net.dries007.tfc.world.classic.genlayers.datalayers.drainage;
 
-import net.minecraft.world.gen.layer.IntCache;
-
 import net.dries007.tfc.world.classic.genlayers.GenLayerTFC;
+import net.dries007.tfc.world.classic.genlayers.IntCacheTFC;
 
 public class GenLayerDrainageInit extends GenLayerTFC
 {
@@ -19,7 +18,7 @@ public class GenLayerDrainageInit extends GenLayerTFC
     @Override
     public int[] getInts(int par1, int par2, int maxX, int maxZ)
     {
-        int[] outCache = IntCache.getIntCache(maxX * maxZ);
+        int[] outCache = IntCacheTFC.getIntCache(maxX * maxZ);
 
         for (int z = 0; z < maxZ; ++z)
         {
@@ -6,9 +6,9 @@
 package net.dries007.tfc.world.classic.genlayers.datalayers.ph;
 
 import net.minecraft.world.gen.layer.GenLayer;
-import net.minecraft.world.gen.layer.IntCache;
 
 import net.dries007.tfc.world.classic.genlayers.GenLayerTFC;
+import net.dries007.tfc.world.classic.genlayers.IntCacheTFC;
 
 public class GenLayerPHMix extends GenLayerTFC
 {
@@ -22,7 +22,7 @@ public class GenLayerPHMix extends GenLayerTFC
     public int[] getInts(int x, int z, int xSize, int zSize)
     {
         int[] var5 = this.parent.getInts(x - 1, z - 1, xSize + 2, zSize + 2);
-        int[] outCache = IntCache.getIntCache(xSize * zSize);
+        int[] outCache = IntCacheTFC.getIntCache(xSize * zSize);
         int thisID;
         int id0;
         int id1;
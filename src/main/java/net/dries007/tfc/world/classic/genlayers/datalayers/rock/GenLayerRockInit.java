@@ -9,7 +9,6 @@ import java.util.Arrays;
 import java.util.Objects;
 import javax.annotation.Nonnull;
 
-import net.minecraft.world.gen.layer.IntCache;
 import net.minecraftforge.registries.ForgeRegistry;
 
 import net.dries007.tfc.ConfigTFC;
@@ -18,6 +17,7 @@ import net.dries007.tfc.api.registries.TFCRegistries;
 import net.dries007.tfc.api.types.Rock;
 import net.dries007.tfc.api.types.RockCategory;
 import net.dries007.tfc.world.classic.genlayers.GenLayerTFC;
+import net.dries007.tfc.world.classic.genlayers.IntCacheTFC;
 
 public class GenLayerRockInit extends GenLayerTFC
 {
@@ -38,7 +38,7 @@ public class GenLayerRockInit extends GenLayerTFC
     @Nonnull
     public int[] getInts(int par1, int par2, int maxX, int maxZ)
     {
-        int[] cache = IntCache.getIntCache(maxX * maxZ);
+        int[] cache = IntCacheTFC.getIntCache(maxX * maxZ);
 
         for (int z = 0; z < maxZ; ++z)
         {
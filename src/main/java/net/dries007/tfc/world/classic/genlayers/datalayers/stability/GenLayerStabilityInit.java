@@ -5,10 +5,9 @@
 
 package net.dries007.tfc.world.classic.genlayers.datalayers.stability;
 
-import net.minecraft.world.gen.layer.IntCache;
-
 import net.dries007.tfc.world.classic.DataLayer;
 import net.dries007.tfc.world.classic.genlayers.GenLayerTFC;
+import net.dries007.tfc.world.classic.genlayers.IntCacheTFC;
 
 public class GenLayerStabilityInit extends GenLayerTFC
 {
@@ -20,7 +19,7 @@ public class GenLayerStabilityInit extends GenLayerTFC
     @Override
     public int[] getInts(int par1, int par2, int maxX, int maxZ)
     {
-        int[] cache = IntCache.getIntCache(maxX * maxZ);
+        int[] cache = IntCacheTFC.getIntCache(maxX * maxZ);
 
         for (int z = 0; z < maxZ; ++z)
         {
@@ -0,0 +1,199 @@
+/*
+ * Work under Copyright. Licensed under the EUPL.
+ * See the project README.md and LICENSE.txt for more information.
+ */
+
+package net.dries007.tfc.world.classic.worldgen;
+
+import javax.annotation.Nonnull;
+import javax.annotation.ParametersAreNonnullByDefault;
+
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.init.Blocks;
+import net.minecraft.network.play.server.SPacketChunkData;
+import net.minecraft.server.management.PlayerChunkMapEntry;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+import net.minecraft.world.WorldServer;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.storage.ExtendedBlockStorage;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import net.dries007.tfc.objects.blocks.stone.BlockOreTFC;
+import net.dries007.tfc.world.classic.chunkdata.ChunkDataTFC;
+import net.dries007.tfc.world.classic.chunkdata.ChunkOreIndex;
+
+/**
+ * Bulk block placement for world generators, used instead of {@link World#setBlockState(BlockPos, IBlockState, int)} for every block.
+ * Population touches up to four chunks, so this keeps track of every chunk written to, and does the relighting and client updates once per chunk in {@link #finish()}.
+ *
+ * Replacing a block with one that has the same light opacity and light value (i.e. ore in raw rock, clay in dirt) is written directly into the chunk section.
+ * This skips {@link net.minecraft.block.Block#onBlockAdded(World, BlockPos, IBlockState)} and {@link net.minecraft.block.Block#breakBlock(World, BlockPos, IBlockState)}, and the heightmap and light stay valid as is.
+ * The chunk's {@link ChunkOreIndex} is updated here instead, as ore blocks keep it up to date from those methods.
+ * Anything else (placing blocks in air, blocks with tile entities, new chunk sections) goes through {@link Chunk#setBlockState(BlockPos, IBlockState)}, which keeps the heightmap, sky light and tile entities correct, and the chunk is queued for a full light check.
+ * Neighbors are never notified, same as vanilla world generation (see {@link net.minecraft.world.gen.feature.WorldGenerator#setBlockAndNotifyAdequately(World, BlockPos, IBlockState)})
+ *
+ * Reads and writes are immediate, so reading back through either this or the world always sees the blocks written so far.
+ */
+@ParametersAreNonnullByDefault
+public final class ChunkBlockWriter
+{
+    private final World world;
+    private final Long2ObjectLinkedOpenHashMap<Entry> entries = new Long2ObjectLinkedOpenHashMap<>(4);
+    private Entry last;
+
+    public ChunkBlockWriter(World world)
+    {
+        this.world = world;
+    }
+
+    @Nonnull
+    public IBlockState getBlockState(BlockPos pos)
+    {
+        if (world.isOutsideBuildHeight(pos))
+        {
+            return Blocks.AIR.getDefaultState();
+        }
+        return getEntry(pos).chunk.getBlockState(pos);
+    }
+
+    public boolean isAirBlock(BlockPos pos)
+    {
+        IBlockState state = getBlockState(pos);
+        return state.getBlock().isAir(state, world, pos);
+    }
+
+    public void setBlockToAir(BlockPos pos)
+    {
+        setBlockState(pos, Blocks.AIR.getDefaultState());
+    }
+
+    /**
+     * Sets a block, without notifying neighbors. Lighting and clients are updated on {@link #finish()}
+     *
+     * @return true if the block was changed
+     */
+    public boolean setBlockState(BlockPos pos, IBlockState state)
+    {
+        if (world.isOutsideBuildHeight(pos))
+        {
+            return false;
+        }
+
+        final Entry entry = getEntry(pos);
+        final ExtendedBlockStorage storage = entry.chunk.getBlockStorageArray()[pos.getY() >> 4];
+        if (storage != Chunk.NULL_BLOCK_STORAGE)
+        {
+            final IBlockState current = storage.get(pos.getX() & 15, pos.getY() & 15, pos.getZ() & 15);
+            if (current == state)
+            {
+                return false;
+            }
+            if (!current.getBlock().hasTileEntity(current) && !state.getBlock().hasTileEntity(state)
+                && current.getLightOpacity(world, pos) == state.getLightOpacity(world, pos) && current.getLightValue(world, pos) == state.getLightValue(world, pos))
+            {
+                storage.set(pos.getX() & 15, pos.getY() & 15, pos.getZ() & 15, state);
+                entry.changed(pos.getY() >> 4, false);
+                if (entry.data.isInitialized())
+                {
+                    entry.data.getOreIndex().onBlockChanged(pos, current, state);
+                }
+                return true;
+            }
+        }
+
+        final IBlockState previous = entry.chunk.setBlockState(pos, state);
+        if (previous != null)
+        {
+            entry.changed(pos.getY() >> 4, true);
+            if (entry.data.isInitialized())
+            {
+                // BlockOreTFC indexes itself when it is added or broken, which the chunk only does when the block changes. Other ores never do
+                final ChunkOreIndex ores = entry.data.getOreIndex();
+                final boolean sameBlock = previous.getBlock() == state.getBlock();
+                if (sameBlock || !(previous.getBlock() instanceof BlockOreTFC))
+                {
+                    ores.remove(pos, previous);
+                }
+                if (sameBlock || !(state.getBlock() instanceof BlockOreTFC))
+                {
+                    ores.add(pos, state);
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Marks all changed chunks as needing saving, queues relighting, and resends changed sections to any players already watching
+     * Must be called once done placing blocks. The writer can be reused afterwards.
+     */
+    public void finish()
+    {
+        for (Entry entry : entries.values())
+        {
+            if (entry.changedSections == 0)
+            {
+                continue;
+            }
+            entry.chunk.markDirty();
+            if (entry.relight)
+            {
+                // The chunk re-checks light for the whole chunk in one go, next time it is ticked. This is the same pass every freshly populated chunk goes through
+                entry.chunk.setLightPopulated(false);
+            }
+            if (world instanceof WorldServer)
+            {
+                // Normally nobody is watching a chunk that is being populated, but it can happen for the chunks around it
+                PlayerChunkMapEntry watchers = ((WorldServer) world).getPlayerChunkMap().getEntry(entry.chunk.x, entry.chunk.z);
+                if (watchers != null && watchers.isSentToPlayers())
+                {
+                    watchers.sendPacket(new SPacketChunkData(entry.chunk, entry.changedSections));
+                }
+            }
+        }
+        entries.clear();
+        last = null;
+    }
+
+    @Nonnull
+    private Entry getEntry(BlockPos pos)
+    {
+        final int chunkX = pos.getX() >> 4, chunkZ = pos.getZ() >> 4;
+        if (last != null && last.chunk.x == chunkX && last.chunk.z == chunkZ)
+        {
+            return last;
+        }
+        final long key = ChunkPos.asLong(chunkX, chunkZ);
+        Entry entry = entries.get(key);
+        if (entry == null)
+        {
+            entry = new Entry(world.getChunk(chunkX, chunkZ));
+            entries.put(key, entry);
+        }
+        last = entry;
+        return entry;
+    }
+
+    private static final class Entry
+    {
+        private final Chunk chunk;
+        private final ChunkDataTFC data;
+        private int changedSections;
+        private boolean relight;
+
+        private Entry(Chunk chunk)
+        {
+            this.chunk = chunk;
+            this.data = ChunkDataTFC.get(chunk);
+        }
+
+        private void changed(int section, boolean relight)
+        {
+            this.changedSections |= 1 << section;
+            this.relight |= relight;
+        }
+    }
+}
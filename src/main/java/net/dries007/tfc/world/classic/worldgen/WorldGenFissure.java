@@ -67,11 +67,12 @@ public class WorldGenFissure implements IWorldGenerator
         List<BlockPos> clearing = getCircle(start, radius + 2);
 
         // Checks for water bodies above fissure
+        final ChunkBlockWriter writer = new ChunkBlockWriter(world);
         for (int y = 1; y < 4; y++)
         {
             for (BlockPos pos : clearing)
             {
-                IBlockState block = world.getBlockState(pos.up(y));
+                IBlockState block = writer.getBlockState(pos.up(y));
                 if (BlocksTFC.isWater(block) && !BlocksTFC.isGround(block)) return;
             }
         }
@@ -81,7 +82,7 @@ public class WorldGenFissure implements IWorldGenerator
         {
             for (BlockPos clear : clearing)
             {
-                world.setBlockToAir(clear.up(y));
+                writer.setBlockToAir(clear.up(y));
             }
         }
 
@@ -89,8 +90,9 @@ public class WorldGenFissure implements IWorldGenerator
         Set<BlockPos> blocks = getCollapseSet(random, start, radius, depth);
         for (BlockPos filling : blocks)
         {
-            smartFill(world, filling, blocks, rock, fillBlock);
+            smartFill(writer, filling, blocks, rock, fillBlock);
         }
+        writer.finish();
 
         // This is an experimental way of fixing "missing" rocks
         // I disabled it because the looks is more man-made
@@ -234,13 +236,13 @@ public class WorldGenFissure implements IWorldGenerator
 
     // A bit smarter fill, try to not fill the "insides" with rock
     // Needs more tweaking
-    private void smartFill(World world, BlockPos pos, Set<BlockPos> fillBlockPos, IBlockState rock, IBlockState fillBlock)
+    private void smartFill(ChunkBlockWriter writer, BlockPos pos, Set<BlockPos> fillBlockPos, IBlockState rock, IBlockState fillBlock)
     {
-        world.setBlockState(pos, fillBlock);
+        writer.setBlockState(pos, fillBlock);
         for (EnumFacing facing : EnumFacing.VALUES)
         {
             if (facing == EnumFacing.UP) continue;
-            if (world.getBlockState(pos.offset(facing)) == fillBlock) continue;
+            if (writer.getBlockState(pos.offset(facing)) == fillBlock) continue;
             BlockPos rockPos = pos.offset(facing);
             int filledBlocks = 0;
             for (EnumFacing facing2 : EnumFacing.VALUES)
@@ -253,11 +255,11 @@ public class WorldGenFissure implements IWorldGenerator
             }
             if (filledBlocks < 3)
             {
-                world.setBlockState(rockPos, rock);
+                writer.setBlockState(rockPos, rock);
             }
             else
             {
-                world.setBlockState(rockPos, fillBlock);
+                writer.setBlockState(rockPos, fillBlock);
             }
         }
     }
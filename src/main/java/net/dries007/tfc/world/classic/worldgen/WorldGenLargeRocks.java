@@ -47,12 +47,14 @@ public class WorldGenLargeRocks implements IWorldGenerator
 
         if (!isFlatEnough) return;
 
-        genFromPoint(world, rng, start.add(0, y, 0));
+        final ChunkBlockWriter writer = new ChunkBlockWriter(world);
+        genFromPoint(world, writer, rng, start.add(0, y, 0));
         if (rng.nextInt(1) == 0)
-            genFromPoint(world, rng, start.add((rng.nextInt(2) + 1) * (rng.nextBoolean() ? 1 : -1), y + (rng.nextInt(2) + 1) * (rng.nextBoolean() ? 1 : -1), (rng.nextInt(2) + 1) * (rng.nextBoolean() ? 1 : -1)));
+            genFromPoint(world, writer, rng, start.add((rng.nextInt(2) + 1) * (rng.nextBoolean() ? 1 : -1), y + (rng.nextInt(2) + 1) * (rng.nextBoolean() ? 1 : -1), (rng.nextInt(2) + 1) * (rng.nextBoolean() ? 1 : -1)));
+        writer.finish();
     }
 
-    private void genFromPoint(World world, Random rng, BlockPos start)
+    private void genFromPoint(World world, ChunkBlockWriter writer, Random rng, BlockPos start)
     {
         Rock rock = ChunkDataTFC.getRockHeight(world, start);
         final int size = rng.nextInt(10) == 0 ? 4 : 3;
@@ -63,7 +65,7 @@ public class WorldGenLargeRocks implements IWorldGenerator
                 for (int y = -2; y <= 2; y++)
                 {
                     if (x * x + z * z + y * y > size * size) continue;
-                    world.setBlockState(start.add(x, y, z), BlockRockVariant.get(rock, Rock.Type.RAW).getDefaultState());
+                    writer.setBlockState(start.add(x, y, z), BlockRockVariant.get(rock, Rock.Type.RAW).getDefaultState());
                 }
             }
         }
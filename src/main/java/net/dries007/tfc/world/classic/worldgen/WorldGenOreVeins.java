@@ -5,10 +5,8 @@
 
 package net.dries007.tfc.world.classic.worldgen;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
-import java.util.stream.Collectors;
 
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.util.math.BlockPos;
@@ -24,35 +22,16 @@ import net.dries007.tfc.objects.blocks.stone.BlockRockVariant;
 import net.dries007.tfc.world.classic.ChunkGenTFC;
 import net.dries007.tfc.world.classic.chunkdata.ChunkDataTFC;
 import net.dries007.tfc.world.classic.worldgen.vein.Vein;
-import net.dries007.tfc.world.classic.worldgen.vein.VeinRegistry;
+import net.dries007.tfc.world.classic.worldgen.vein.VeinCatalog;
 
 public class WorldGenOreVeins implements IWorldGenerator
 {
-    private static final Random LOCAL_RANDOM = new Random();
     public static int CHUNK_RADIUS = 1;
 
     // Used to generate chunk
     public static List<Vein> getNearbyVeins(int chunkX, int chunkZ, long worldSeed, int radius)
     {
-        List<Vein> veins = new ArrayList<>();
-        for (int x = -radius; x <= radius; x++)
-        {
-            for (int z = -radius; z <= radius; z++)
-            {
-                getVeinsAtChunk(veins, chunkX + x, chunkZ + z, worldSeed);
-            }
-        }
-        return veins;
-    }
-
-    // Gets veins at a single chunk. Deterministic for a specific chunk x/z and world seed
-    private static void getVeinsAtChunk(List<Vein> listToAdd, int chunkX, int chunkZ, long worldSeed)
-    {
-        LOCAL_RANDOM.setSeed(worldSeed + chunkX * 341873128712L + chunkZ * 132897987541L);
-        listToAdd.addAll(VeinRegistry.INSTANCE.getVeins().values().stream()
-            .filter(veinType -> LOCAL_RANDOM.nextInt(veinType.getRarity()) == 0)
-            .map(veinType -> veinType.createVein(LOCAL_RANDOM, chunkX, chunkZ))
-            .collect(Collectors.toList()));
+        return VeinCatalog.INSTANCE.getVeinsNear(chunkX, chunkZ, worldSeed, radius);
     }
 
     @Override
@@ -64,52 +43,56 @@ public class WorldGenOreVeins implements IWorldGenerator
         if (!chunkData.isInitialized()) return;
         if (world.provider.getDimension() != 0) return;
 
-        List<Vein> veins = getNearbyVeins(chunkX, chunkZ, world.getSeed(), CHUNK_RADIUS);
+        // Veins that don't overlap this chunk would never pass inRange(), so skipping them leaves the random sequence unchanged
+        final ChunkBlockWriter writer = new ChunkBlockWriter(world);
+        VeinCatalog.INSTANCE.forEachVeinIntersecting(chunkX, chunkZ, world.getSeed(), CHUNK_RADIUS, vein -> generateVein(random, chunkX, chunkZ, writer, chunkBlockPos, chunkData, vein));
+        writer.finish();
+    }
 
-        for (Vein vein : veins)
+    private void generateVein(Random random, int chunkX, int chunkZ, ChunkBlockWriter writer, BlockPos chunkBlockPos, ChunkDataTFC chunkData, Vein vein)
+    {
+        final BlockPos.MutableBlockPos posAt = new BlockPos.MutableBlockPos();
+        boolean generated = false;
+        for (int x = chunkBlockPos.getX() + 8; x < chunkBlockPos.getX() + 24; x++)
         {
-            boolean generated = false;
-            for (int x = chunkBlockPos.getX() + 8; x < chunkBlockPos.getX() + 24; x++)
+            for (int z = chunkBlockPos.getZ() + 8; z < chunkBlockPos.getZ() + 24; z++)
             {
-                for (int z = chunkBlockPos.getZ() + 8; z < chunkBlockPos.getZ() + 24; z++)
+                // Do checks here that are specific to the the horizontal position, not the vertical one
+                if (vein.inRange(x, z, 0))
                 {
-                    // Do checks here that are specific to the the horizontal position, not the vertical one
-                    if (vein.inRange(x, z, 0))
+                    for (int y = vein.getLowestY(); y <= vein.getHighestY(); y++)
                     {
-                        for (int y = vein.getLowestY(); y <= vein.getHighestY(); y++)
-                        {
-                            final BlockPos posAt = new BlockPos(x, y, z);
-                            final IBlockState stateAt = world.getBlockState(posAt);
+                        posAt.setPos(x, y, z);
+                        final IBlockState stateAt = writer.getBlockState(posAt);
 
-                            // Do checks specific to the individual block pos that is getting replaced
-                            if (random.nextDouble() < vein.getChanceToGenerate(posAt) && stateAt.getBlock() instanceof BlockRockVariant)
+                        // Do checks specific to the individual block pos that is getting replaced
+                        if (random.nextDouble() < vein.getChanceToGenerate(posAt) && stateAt.getBlock() instanceof BlockRockVariant)
+                        {
+                            final BlockRockVariant blockAt = (BlockRockVariant) stateAt.getBlock();
+                            if (blockAt.getType() == Rock.Type.RAW && vein.canSpawnIn(blockAt.getRock()))
                             {
-                                final BlockRockVariant blockAt = (BlockRockVariant) stateAt.getBlock();
-                                if (blockAt.getType() == Rock.Type.RAW && vein.canSpawnIn(blockAt.getRock()))
-                                {
-                                    world.setBlockState(posAt, vein.getOreState(blockAt.getRock()), 2);
-                                    generated = true;
-                                }
+                                writer.setBlockState(posAt, vein.getOreState(blockAt.getRock()));
+                                generated = true;
                             }
                         }
                     }
                 }
             }
-            // Chunk post-processing, if a vein generated
-            if (vein.getType() != null)
+        }
+        // Chunk post-processing, if a vein generated
+        if (vein.getType() != null)
+        {
+            if (generated)
             {
-                if (generated)
-                {
-                    chunkData.markVeinGenerated(vein);
-                }
-                else if (ConfigTFC.General.DEBUG.enable)
-                {
-                    // Failed to generate, debug info
-                    // This can be by a number of factors, mainly because at each expected replacing position we didn't find a matching raw rock.
-                    // Some possible causes: Width / Height / Shape / Density / Y / Rock Layer
-                    TerraFirmaCraft.getLog().debug("Failed to generate vein '{}' in chunk ({}, {}). Vein center pos ({}x, {}y, {}z)", vein.getType().getRegistryName(), chunkX, chunkZ, vein.getPos().getX(), vein.getPos().getY(), vein.getPos().getZ());
-                }
+                chunkData.markVeinGenerated(vein);
+            }
+            else if (ConfigTFC.General.DEBUG.enable)
+            {
+                // Failed to generate, debug info
+                // This can be by a number of factors, mainly because at each expected replacing position we didn't find a matching raw rock.
+                // Some possible causes: Width / Height / Shape / Density / Y / Rock Layer
+                TerraFirmaCraft.getLog().debug("Failed to generate vein '{}' in chunk ({}, {}). Vein center pos ({}x, {}y, {}z)", vein.getType().getRegistryName(), chunkX, chunkZ, vein.getPos().getX(), vein.getPos().getY(), vein.getPos().getZ());
             }
         }
     }
-}
\ No newline at end of file
+}
@@ -40,14 +40,16 @@ public class WorldGenSoilPits implements IWorldGenerator
         if (!(chunkGenerator instanceof ChunkGenTFC)) return;
         final BlockPos chunkBlockPos = new BlockPos(chunkX << 4, 0, chunkZ << 4);
 
+        final ChunkBlockWriter writer = new ChunkBlockWriter(world);
         BlockPos pos = world.getTopSolidOrLiquidBlock(chunkBlockPos.add(8 + random.nextInt(16), 0, 8 + random.nextInt(16)));
-        generateClay(world, random, pos);
+        generateClay(world, writer, random, pos);
 
         pos = world.getTopSolidOrLiquidBlock(chunkBlockPos.add(8 + random.nextInt(16), 0, 8 + random.nextInt(16)));
-        generatePeat(world, random, pos);
+        generatePeat(world, writer, random, pos);
+        writer.finish();
     }
 
-    private void generateClay(World world, Random rng, BlockPos start)
+    private void generateClay(World world, ChunkBlockWriter writer, Random rng, BlockPos start)
     {
         // If this has to have a radius that is >= 8, then it needs to be moved to a cascading-lag safe model
         // Otherwise, do not change this unless you are prepared to do some fairly large re-writes, similar to how ore gen is handled
@@ -67,15 +69,15 @@ public class WorldGenSoilPits implements IWorldGenerator
                 for (int y = -depth; y <= +depth; y++)
                 {
                     final BlockPos pos = posHorizontal.add(0, y, 0);
-                    final IBlockState current = world.getBlockState(pos);
+                    final IBlockState current = writer.getBlockState(pos);
                     if (BlocksTFC.isDirt(current))
                     {
-                        world.setBlockState(pos, BlockRockVariant.get(ChunkDataTFC.getRockHeight(world, pos), Rock.Type.CLAY).getDefaultState(), 2);
+                        writer.setBlockState(pos, BlockRockVariant.get(ChunkDataTFC.getRockHeight(world, pos), Rock.Type.CLAY).getDefaultState());
                         flag = true;
                     }
                     else if (BlocksTFC.isGrass(current))
                     {
-                        world.setBlockState(pos, BlockRockVariant.get(ChunkDataTFC.getRockHeight(world, pos), Rock.Type.CLAY_GRASS).getDefaultState(), 2);
+                        writer.setBlockState(pos, BlockRockVariant.get(ChunkDataTFC.getRockHeight(world, pos), Rock.Type.CLAY_GRASS).getDefaultState());
                         flag = true;
                     }
                 }
@@ -105,7 +107,7 @@ public class WorldGenSoilPits implements IWorldGenerator
         }
     }
 
-    private boolean generatePeat(World world, Random rng, BlockPos start)
+    private boolean generatePeat(World world, ChunkBlockWriter writer, Random rng, BlockPos start)
     {
         // If this has to have a radius that is >= 8, then it needs to be moved to a cascading-lag safe model
         // Otherwise, do not change this unless you are prepared to do some fairly large re-writes, similar to how ore gen is handled
@@ -126,15 +128,15 @@ public class WorldGenSoilPits implements IWorldGenerator
                 for (int y = -depth; y <= depth; ++y)
                 {
                     final BlockPos pos = start.add(x, y, z);
-                    final IBlockState current = world.getBlockState(pos);
+                    final IBlockState current = writer.getBlockState(pos);
 
                     if (BlocksTFC.isGrass(current))
                     {
-                        world.setBlockState(pos, BlocksTFC.PEAT_GRASS.getDefaultState(), 2);
+                        writer.setBlockState(pos, BlocksTFC.PEAT_GRASS.getDefaultState());
                     }
                     else if (BlocksTFC.isDirt(current) || BlocksTFC.isClay(current))
                     {
-                        world.setBlockState(pos, BlocksTFC.PEAT.getDefaultState(), 2);
+                        writer.setBlockState(pos, BlocksTFC.PEAT.getDefaultState());
                     }
                 }
             }
@@ -55,7 +55,7 @@ public class TreeGenAcacia implements ITreeGenerator
         {
             y3 = rand.nextInt(3) + 2;
             side = sides.get(rand.nextInt(sides.size()));
-            placeBranch(manager, world, pos.offset(side).add(0, y3, 0), tree.getRegistryName() + "/branch3");
+            placeBranch(manager, world, pos.offset(side).add(0, y3, 0), tree.getRegistryName() + "/branch3", isWorldGen);
         }
         for (int i = 0; i < branches; i++)
         {
@@ -67,7 +67,7 @@ public class TreeGenAcacia implements ITreeGenerator
             for (int j = 1; j < x1; j++)
                 placeLog(world, pos.add(0, y1 - j, 0).offset(face, x1 - j), true);
             int branch = 1 + rand.nextInt(2);
-            placeBranch(manager, world, pos.add(0, y1, 0).offset(face, x1), tree.getRegistryName() + "/branch" + branch);
+            placeBranch(manager, world, pos.add(0, y1, 0).offset(face, x1), tree.getRegistryName() + "/branch" + branch, isWorldGen);
         }
         for (int i = 0; i < height; i++)
         {
@@ -80,10 +80,10 @@ public class TreeGenAcacia implements ITreeGenerator
             }
             placeLog(world, pos.add(0, i, 0), false);
         }
-        placeBranch(manager, world, pos.add(0, height, 0), tree.getRegistryName() + "/branch3");
+        placeBranch(manager, world, pos.add(0, height, 0), tree.getRegistryName() + "/branch3", isWorldGen);
     }
 
-    private void placeBranch(TemplateManager manager, World world, BlockPos pos, String name)
+    private void placeBranch(TemplateManager manager, World world, BlockPos pos, String name, boolean isWorldGen)
     {
         ResourceLocation base = new ResourceLocation(name);
         Template structureBase = manager.get(world.getMinecraftServer(), base);
@@ -96,7 +96,7 @@ public class TreeGenAcacia implements ITreeGenerator
         BlockPos size = structureBase.getSize();
         pos = pos.add(-size.getX() / 2, 0, -size.getZ() / 2);
 
-        StructureHelper.addStructureToWorld(world, pos, structureBase, settings);
+        StructureHelper.addStructureToWorld(world, pos, structureBase, settings, isWorldGen);
     }
 
     private void placeLog(World world, BlockPos pos, boolean useBark)
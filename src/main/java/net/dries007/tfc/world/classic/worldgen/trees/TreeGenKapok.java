@@ -64,13 +64,13 @@ public class TreeGenKapok implements ITreeGenerator
             if (z1 == 0 || z1 == -1)
                 z1 = z1 * 3 + 1;
             type = 1 + rand.nextInt(3);
-            placeBranch(manager, world, pos.add(x1, y1, z1), tree.getRegistryName() + "/branch" + type);
+            placeBranch(manager, world, pos.add(x1, y1, z1), tree.getRegistryName() + "/branch" + type, isWorldGen);
             checkAndPlace(world, pos.add(x1 - Math.abs(x1) / x1, y1 - 1, z1 - Math.abs(z1) / z1), true);
         }
 
         for (int i = -1; i < height; i++)
             placeTrunk(world, pos.add(0, i, 0));
-        placeBranch(manager, world, pos.add(0, height, 0), tree.getRegistryName() + "/top");
+        placeBranch(manager, world, pos.add(0, height, 0), tree.getRegistryName() + "/top", isWorldGen);
 
     }
 
@@ -94,7 +94,7 @@ public class TreeGenKapok implements ITreeGenerator
         return ITreeGenerator.super.canGenerateTree(world, pos, treeType);
     }
 
-    private void placeBranch(TemplateManager manager, World world, BlockPos pos, String name)
+    private void placeBranch(TemplateManager manager, World world, BlockPos pos, String name, boolean isWorldGen)
     {
         ResourceLocation base = new ResourceLocation(name);
         Template structureBase = manager.get(world.getMinecraftServer(), base);
@@ -107,7 +107,7 @@ public class TreeGenKapok implements ITreeGenerator
         BlockPos size = structureBase.getSize();
         pos = pos.add(-size.getX() / 2, 0, -size.getZ() / 2);
 
-        StructureHelper.addStructureToWorld(world, pos, structureBase, settings);
+        StructureHelper.addStructureToWorld(world, pos, structureBase, settings, isWorldGen);
     }
 
     private void placeTrunk(World world, BlockPos pos)
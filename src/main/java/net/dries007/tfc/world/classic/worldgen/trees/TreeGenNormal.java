@@ -63,10 +63,10 @@ public class TreeGenNormal implements ITreeGenerator
         BlockPos size = structureBase.getSize();
         pos = pos.add(-size.getX() / 2, height, -size.getZ() / 2);
 
-        StructureHelper.addStructureToWorld(world, pos, structureBase, settingsFull);
+        StructureHelper.addStructureToWorld(world, pos, structureBase, settingsFull, isWorldGen);
         if (structureOverlay != null)
         {
-            StructureHelper.addStructureToWorld(world, pos, structureOverlay, settingsWeak);
+            StructureHelper.addStructureToWorld(world, pos, structureOverlay, settingsWeak, isWorldGen);
         }
 
         final IBlockState log = BlockLogTFC.get(tree).getDefaultState().withProperty(PLACED, false);
@@ -54,14 +54,14 @@ public class TreeGenSequoia implements ITreeGenerator
         {
             if (j == layers - 1 || (j == layers - 2 && rand.nextBoolean()))
             {
-                k += placeLayer(manager, world, pos.up(k), tree.getRegistryName() + "/mid" + baseVariant);
+                k += placeLayer(manager, world, pos.up(k), tree.getRegistryName() + "/mid" + baseVariant, isWorldGen);
             }
             else
             {
-                k += placeLayer(manager, world, pos.up(k), tree.getRegistryName() + "/base" + baseVariant);
+                k += placeLayer(manager, world, pos.up(k), tree.getRegistryName() + "/base" + baseVariant, isWorldGen);
             }
         }
-        placeLayer(manager, world, pos.up(k), tree.getRegistryName() + "/top" + topVariant);
+        placeLayer(manager, world, pos.up(k), tree.getRegistryName() + "/top" + topVariant, isWorldGen);
 
     }
 
@@ -86,7 +86,7 @@ public class TreeGenSequoia implements ITreeGenerator
         return ITreeGenerator.super.canGenerateTree(world, pos, treeType);
     }
 
-    private int placeLayer(TemplateManager manager, World world, BlockPos pos, String name)
+    private int placeLayer(TemplateManager manager, World world, BlockPos pos, String name, boolean isWorldGen)
     {
         ResourceLocation base = new ResourceLocation(name);
         Template structureBase = manager.get(world.getMinecraftServer(), base);
@@ -99,7 +99,7 @@ public class TreeGenSequoia implements ITreeGenerator
         BlockPos size = structureBase.getSize();
         pos = pos.add(-size.getX() / 2, 0, -size.getZ() / 2);
 
-        StructureHelper.addStructureToWorld(world, pos, structureBase, settings);
+        StructureHelper.addStructureToWorld(world, pos, structureBase, settings, isWorldGen);
         return size.getY();
     }
 
@@ -68,6 +68,6 @@ public class TreeGenVariants implements ITreeGenerator
         BlockPos size = structureBase.getSize().rotate(settings2.getRotation());
         // Begin rotation things
         pos = pos.add(-size.getX() / 2, 0, -size.getZ() / 2);
-        StructureHelper.addStructureToWorld(world, pos, structureBase, settings2);
+        StructureHelper.addStructureToWorld(world, pos, structureBase, settings2, isWorldGen);
     }
 }
@@ -59,7 +59,7 @@ public class TreeGenWillow implements ITreeGenerator
         for (int n = 0; n <= height; n++)
         {
             if (n > 3)
-                createLeafGroup(world, pos.up(n));
+                createLeafGroup(world, pos.up(n), isWorldGen);
             tryPlaceLog(world, pos.up(n), tree, BlockLog.EnumAxis.Y);
         }
 
@@ -68,12 +68,12 @@ public class TreeGenWillow implements ITreeGenerator
             x1 = (rand.nextBoolean() ? 1 : -1) * (1 + rand.nextInt(3));
             z1 = (rand.nextBoolean() ? 1 : -1) * (1 + rand.nextInt(3));
             y1 = 3 + rand.nextInt(2);
-            createLeafGroup(world, pos.add(x1, y1, z1));
-            createBranch(world, pos, x1, y1, z1, rand, tree);
+            createLeafGroup(world, pos.add(x1, y1, z1), isWorldGen);
+            createBranch(world, pos, x1, y1, z1, rand, tree, isWorldGen);
         }
     }
 
-    private void createBranch(World world, BlockPos pos1, int x, int y, int z, Random rand, Tree tree)
+    private void createBranch(World world, BlockPos pos1, int x, int y, int z, Random rand, Tree tree, boolean isWorldGen)
     {
         int x1 = x < 0 ? 1 : -1,
             z1 = z < 0 ? 1 : -1;
@@ -85,18 +85,18 @@ public class TreeGenWillow implements ITreeGenerator
                 z += z1;
             tryPlaceLog(world, pos1.add(x, y, z), tree, BlockLog.EnumAxis.NONE);
             if (rand.nextBoolean())
-                createLeafGroup(world, pos1.add(x, y, z));
+                createLeafGroup(world, pos1.add(x, y, z), isWorldGen);
         }
         while (Math.abs(x) + Math.abs(z) > 0);
     }
 
-    private void createLeafGroup(World world, BlockPos pos)
+    private void createLeafGroup(World world, BlockPos pos, boolean isWorldGen)
     {
         BlockPos size = structureBase.getSize();
         pos = pos.add(-size.getX() / 2, -size.getY() / 2, -size.getZ() / 2);
 
-        StructureHelper.addStructureToWorld(world, pos, structureBase, settingsFull);
-        StructureHelper.addStructureToWorld(world, pos, structureOverlay, settingsWeak);
+        StructureHelper.addStructureToWorld(world, pos, structureBase, settingsFull, isWorldGen);
+        StructureHelper.addStructureToWorld(world, pos, structureOverlay, settingsWeak, isWorldGen);
     }
 
     private void tryPlaceLog(World world, BlockPos pos, Tree tree, BlockLog.EnumAxis axis)
@@ -0,0 +1,207 @@
+/*
+ * Work under Copyright. Licensed under the EUPL.
+ * See the project README.md and LICENSE.txt for more information.
+ */
+
+package net.dries007.tfc.world.classic.worldgen.vein;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import javax.annotation.Nonnull;
+
+import net.minecraft.util.math.ChunkPos;
+
+/**
+ * Deterministic catalog of which veins start in which chunk
+ * Veins are computed a whole region (32 x 32 chunks) at a time, and the most recently used regions are kept, so world generation (which looks at the surrounding chunks of every chunk) and commands do not re-roll the same veins over and over.
+ * This is safe to use from multiple threads. The returned veins are shared and must not be modified.
+ */
+public enum VeinCatalog
+{
+    INSTANCE;
+
+    public static final int REGION_SHIFT = 5;
+    private static final int REGION_SIZE = 1 << REGION_SHIFT;
+    private static final int REGION_MASK = REGION_SIZE - 1;
+    private static final int MAX_REGIONS = 64;
+    private static final Vein[] NO_VEINS = new Vein[0];
+
+    // Access ordered, so this evicts the least recently used region. Guarded by synchronizing on the map.
+    private final Map<Long, Region> regions = new LinkedHashMap<Long, Region>(MAX_REGIONS, 0.75f, true)
+    {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Region> eldest)
+        {
+            return size() > MAX_REGIONS;
+        }
+    };
+
+    /**
+     * Gets the veins that start in a single chunk. Deterministic for a specific chunk x/z and world seed
+     *
+     * @return the veins, in vein registry order. This array is shared, do not modify it
+     */
+    @Nonnull
+    public Vein[] getVeinsAt(int chunkX, int chunkZ, long worldSeed)
+    {
+        return getRegion(chunkX >> REGION_SHIFT, chunkZ >> REGION_SHIFT, worldSeed).veins[(chunkX & REGION_MASK) << REGION_SHIFT | (chunkZ & REGION_MASK)];
+    }
+
+    /**
+     * Visits every vein that starts within a radius of a chunk, ordered by chunk x, then chunk z, then vein registry order
+     */
+    public void forEachVeinNear(int chunkX, int chunkZ, long worldSeed, int radius, Consumer<Vein> action)
+    {
+        for (int x = chunkX - radius; x <= chunkX + radius; x++)
+        {
+            for (int z = chunkZ - radius; z <= chunkZ + radius; z++)
+            {
+                for (Vein vein : getVeinsAt(x, z, worldSeed))
+                {
+                    action.accept(vein);
+                }
+            }
+        }
+    }
+
+    /**
+     * Visits every vein that could place ore when populating a chunk, in the same order as {@link VeinCatalog#forEachVeinNear(int, int, long, int, Consumer)}
+     * Population of a chunk covers the 16 x 16 area offset by 8 blocks, so this is every vein whose horizontal area overlaps that.
+     *
+     * @param radius the radius in chunks to look for vein origins. This should cover the widest vein type
+     */
+    public void forEachVeinIntersecting(int chunkX, int chunkZ, long worldSeed, int radius, Consumer<Vein> action)
+    {
+        final int minX = (chunkX << 4) + 8, minZ = (chunkZ << 4) + 8;
+        for (int x = chunkX - radius; x <= chunkX + radius; x++)
+        {
+            for (int z = chunkZ - radius; z <= chunkZ + radius; z++)
+            {
+                for (Vein vein : getVeinsAt(x, z, worldSeed))
+                {
+                    if (intersects(vein, minX, minZ, minX + 15, minZ + 15))
+                    {
+                        action.accept(vein);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * @return true if any vein that could place ore when populating a chunk (see {@link VeinCatalog#forEachVeinIntersecting(int, int, long, int, Consumer)}) matches the predicate
+     */
+    public boolean anyVeinIntersecting(int chunkX, int chunkZ, long worldSeed, int radius, Predicate<Vein> predicate)
+    {
+        final int minX = (chunkX << 4) + 8, minZ = (chunkZ << 4) + 8;
+        for (int x = chunkX - radius; x <= chunkX + radius; x++)
+        {
+            for (int z = chunkZ - radius; z <= chunkZ + radius; z++)
+            {
+                for (Vein vein : getVeinsAt(x, z, worldSeed))
+                {
+                    if (intersects(vein, minX, minZ, minX + 15, minZ + 15) && predicate.test(vein))
+                    {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return a new list of the veins that start within a radius of a chunk, in the same order as {@link VeinCatalog#forEachVeinNear(int, int, long, int, Consumer)}
+     */
+    @Nonnull
+    public List<Vein> getVeinsNear(int chunkX, int chunkZ, long worldSeed, int radius)
+    {
+        List<Vein> veins = new ArrayList<>();
+        forEachVeinNear(chunkX, chunkZ, worldSeed, radius, veins::add);
+        return veins;
+    }
+
+    /**
+     * Clears all computed regions. Needed if the vein registry changes
+     */
+    public void clear()
+    {
+        synchronized (regions)
+        {
+            regions.clear();
+        }
+    }
+
+    /**
+     * Checks if the horizontal area of a vein (see {@link Vein#inRange(int, int, int)}) overlaps a box, inclusive of both corners
+     */
+    private static boolean intersects(Vein vein, int minX, int minZ, int maxX, int maxZ)
+    {
+        VeinType type = vein.getType();
+        if (type == null)
+        {
+            return false;
+        }
+        int veinX = vein.getPos().getX(), veinZ = vein.getPos().getZ();
+        long dx = Math.max(minX, Math.min(maxX, veinX)) - veinX;
+        long dz = Math.max(minZ, Math.min(maxZ, veinZ)) - veinZ;
+        return dx * dx + dz * dz < (long) type.getWidth() * type.getWidth();
+    }
+
+    @Nonnull
+    private Region getRegion(int regionX, int regionZ, long worldSeed)
+    {
+        final long key = ChunkPos.asLong(regionX, regionZ);
+        Region region;
+        synchronized (regions)
+        {
+            region = regions.get(key);
+        }
+        if (region == null || region.worldSeed != worldSeed)
+        {
+            // Computed outside the lock, as this is comparatively slow. Two threads may both compute the same region, which is harmless as the result is identical.
+            region = new Region(regionX, regionZ, worldSeed);
+            synchronized (regions)
+            {
+                regions.put(key, region);
+            }
+        }
+        return region;
+    }
+
+    private static final class Region
+    {
+        private final long worldSeed;
+        private final Vein[][] veins = new Vein[REGION_SIZE * REGION_SIZE][];
+
+        private Region(int regionX, int regionZ, long worldSeed)
+        {
+            this.worldSeed = worldSeed;
+
+            final Random random = new Random();
+            final List<Vein> chunkVeins = new ArrayList<>();
+            for (int localX = 0; localX < REGION_SIZE; localX++)
+            {
+                for (int localZ = 0; localZ < REGION_SIZE; localZ++)
+                {
+                    final int chunkX = (regionX << REGION_SHIFT) | localX, chunkZ = (regionZ << REGION_SHIFT) | localZ;
+                    random.setSeed(worldSeed + chunkX * 341873128712L + chunkZ * 132897987541L);
+                    for (VeinType type : VeinRegistry.INSTANCE.getVeins().values())
+                    {
+                        if (random.nextInt(type.getRarity()) == 0)
+                        {
+                            chunkVeins.add(type.createVein(random, chunkX, chunkZ));
+                        }
+                    }
+                    veins[localX << REGION_SHIFT | localZ] = chunkVeins.isEmpty() ? NO_VEINS : chunkVeins.toArray(new Vein[0]);
+                    chunkVeins.clear();
+                }
+            }
+        }
+    }
+}
@@ -60,6 +60,7 @@ public enum VeinRegistry
             }
         }
         WorldGenOreVeins.CHUNK_RADIUS = 1 + (maxRadius >> 4);
+        VeinCatalog.INSTANCE.clear();
         TerraFirmaCraft.getLog().info("Vein Registry Initialized, with {} veins, {} max radius, {} total weight", veinTypeRegistry.size(), maxRadius, weightedVeinTypes.getTotalWeight());
     }
 